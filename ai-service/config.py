@@ -10,6 +10,7 @@ class Settings(BaseSettings):
     # Backend API
     backend_url: str = "http://localhost:8080"
     backend_api_key: Optional[str] = None
+    heartbeat_interval_seconds: int = 20
     
     # OpenAI
     openai_api_key: Optional[str] = None
@@ -39,6 +39,7 @@ async def health_check():
 async def websocket_interview(websocket: WebSocket, session_id: str):
     await websocket.accept()
     logger.info(f"WebSocket connection established for session: {session_id}")
+    heartbeat_task = asyncio.create_task(session_manager.send_heartbeats(session_id))
     
     try:
         # Initialize session
@@ -77,6 +78,7 @@ async def websocket_interview(websocket: WebSocket, session_id: str):
     except Exception as e:
         logger.error(f"Error in WebSocket handler: {e}", exc_info=True)
     finally:
+        heartbeat_task.cancel()
         await session_manager.cleanup_session(session_id)
 
 
@@ -1,3 +1,4 @@
+import asyncio
 import logging
 import json
 import redis
@@ -138,6 +139,19 @@ class SessionManager:
         except Exception as e:
             logger.error(f"Error completing session: {e}", exc_info=True)
     
+    async def send_heartbeats(self, session_id: str):
+        """Report the session as alive to the backend until cancelled"""
+        async with httpx.AsyncClient() as client:
+            while True:
+                try:
+                    await client.post(
+                        f"{self.backend_url}/api/interviews/sessions/{session_id}/heartbeat",
+                        headers={"Authorization": f"Bearer {settings.backend_api_key}"} if settings.backend_api_key else {}
+                    )
+                except Exception as e:
+                    logger.warning(f"Error sending heartbeat for session {session_id}: {e}")
+                await asyncio.sleep(settings.heartbeat_interval_seconds)
+    
     async def cleanup_session(self, session_id: str):
         """Clean up session from Redis"""
         try:
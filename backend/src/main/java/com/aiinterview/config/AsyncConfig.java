@@ -6,6 +6,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableAsync
@@ -32,7 +33,53 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+    
+    @Bean(name = "analyticsExecutor")
+    public Executor analyticsExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(20);
+        executor.setThreadNamePrefix("analytics-async-");
+        executor.initialize();
+        return executor;
+    }
+    
+    // Runs expired session timers off the scheduler thread so a slow email can't delay the next tick
+    @Bean(name = "timerExecutor")
+    public Executor timerExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("session-timer-");
+        executor.initialize();
+        return executor;
+    }
+    
+    // Runs the independent sub-queries of a dashboard response concurrently; when saturated the
+    // request thread runs the segment itself, which degrades to sequential execution
+    @Bean(name = "dashboardExecutor")
+    public Executor dashboardExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("dashboard-query-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+    
+    // Writes streamed responses such as transcript PDFs; its size caps how many exports run at once
+    @Bean(name = "exportExecutor")
+    public ThreadPoolTaskExecutor exportExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("export-stream-");
+        executor.initialize();
+        return executor;
+    }
 }
-
-
-
@@ -0,0 +1,32 @@
+package com.aiinterview.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Scheduler for the {@code @Scheduled} jobs in BackgroundJobService. Spring's default scheduler has a
+ * single thread, so one slow job delayed every other; with a pool they run side by side. A job never
+ * overlaps itself, which ScheduledJobRunner enforces on top of the scheduler.
+ */
+@Configuration
+@Slf4j
+public class SchedulingConfig {
+    
+    @Value("${jobs.scheduler.pool-size:4}")
+    private int poolSize;
+    
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduled-job-");
+        scheduler.setErrorHandler(e -> log.error("Scheduled job failed", e));
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        scheduler.initialize();
+        return scheduler;
+    }
+}
@@ -0,0 +1,64 @@
+package com.aiinterview.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Checks at startup that the indexes the repository queries rely on exist, e.g. after a migration was
+ * skipped or an index was dropped by hand. Missing indexes are logged, or abort startup when
+ * {@code schema.index-check.fail-on-missing} is set.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SchemaIndexVerifier implements ApplicationRunner {
+    
+    // Keep in sync with db/migration
+    static final List<String> EXPECTED_INDEXES = List.of(
+        "idx_interview_sessions_template_status",
+        "idx_interview_sessions_candidate_status",
+        "idx_interview_sessions_started_at",
+        "idx_interview_sessions_status_started",
+        "idx_interview_sessions_candidate_started",
+        "idx_interview_sessions_completed",
+        "idx_interview_templates_job",
+        "uk_interview_turns_session_turn",
+        "idx_notifications_user_created",
+        "idx_notifications_user_unread",
+        "idx_users_reset_token",
+        "idx_jobs_created_by"
+    );
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Value("${schema.index-check.fail-on-missing:false}")
+    private boolean failOnMissing;
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        Set<String> present = new HashSet<>(jdbcTemplate.queryForList(
+            "SELECT indexname FROM pg_indexes WHERE schemaname = current_schema()", String.class));
+        List<String> missing = EXPECTED_INDEXES.stream()
+            .filter(name -> !present.contains(name))
+            .collect(Collectors.toList());
+        
+        if (missing.isEmpty()) {
+            log.info("Schema index check passed ({} indexes)", EXPECTED_INDEXES.size());
+            return;
+        }
+        if (failOnMissing) {
+            throw new RuntimeException("Missing database indexes: " + String.join(", ", missing));
+        }
+        log.warn("Missing database indexes, queries on these columns will scan: {}", String.join(", ", missing));
+    }
+}
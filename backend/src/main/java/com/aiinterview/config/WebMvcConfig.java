@@ -0,0 +1,31 @@
+package com.aiinterview.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Streamed responses (StreamingResponseBody) are written on the export executor instead of Spring MVC's
+ * unbounded default, with a timeout long enough for large transcript exports.
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+    
+    private final AsyncTaskExecutor exportExecutor;
+    
+    @Value("${exports.stream-timeout-ms:300000}")
+    private long streamTimeoutMs;
+    
+    public WebMvcConfig(@Qualifier("exportExecutor") AsyncTaskExecutor exportExecutor) {
+        this.exportExecutor = exportExecutor;
+    }
+    
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(exportExecutor);
+        configurer.setDefaultTimeout(streamTimeoutMs);
+    }
+}
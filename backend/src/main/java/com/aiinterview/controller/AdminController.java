@@ -2,11 +2,13 @@ package com.aiinterview.controller;
 
 import com.aiinterview.dto.DashboardStatisticsResponse;
 import com.aiinterview.service.AnalyticsService;
+import com.aiinterview.service.ScheduledJobRunner;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -15,6 +17,7 @@ import java.util.Map;
 public class AdminController {
     
     private final AnalyticsService analyticsService;
+    private final ScheduledJobRunner jobRunner;
     
     @GetMapping("/statistics")
     public ResponseEntity<DashboardStatisticsResponse> getSystemStatistics() {
@@ -40,6 +43,11 @@ public class AdminController {
         return ResponseEntity.ok(logs);
     }
     
+    @GetMapping("/jobs")
+    public ResponseEntity<List<ScheduledJobRunner.JobRun>> getBackgroundJobs() {
+        return ResponseEntity.ok(jobRunner.getLastRuns());
+    }
+    
     @GetMapping("/settings")
     public ResponseEntity<Map<String, Object>> getSystemSettings() {
         // TODO: Implement actual settings retrieval from database/config
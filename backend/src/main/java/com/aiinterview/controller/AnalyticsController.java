@@ -1,16 +1,26 @@
 package com.aiinterview.controller;
 
 import com.aiinterview.dto.*;
+import com.aiinterview.model.ScoreHistogramBucket;
 import com.aiinterview.service.AnalyticsService;
+import com.aiinterview.service.CandidateRankingService;
+import com.aiinterview.service.CandidateReachService;
+import com.aiinterview.service.LiveMetricsService;
+import com.aiinterview.service.QueryFanOutService;
+import com.aiinterview.service.ScoreHistogramService;
+import com.aiinterview.service.SessionSnapshotService;
 import com.aiinterview.service.ReportService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/recruiter/analytics")
@@ -19,13 +29,27 @@ public class AnalyticsController {
     
     private final AnalyticsService analyticsService;
     private final ReportService reportService;
+    private final CandidateRankingService rankingService;
+    private final CandidateReachService reachService;
+    private final ScoreHistogramService histogramService;
+    private final SessionSnapshotService snapshotService;
+    private final LiveMetricsService liveMetricsService;
     
     @GetMapping("/overview")
-    public ResponseEntity<DashboardStatisticsResponse> getDashboardOverview() {
-        DashboardStatisticsResponse stats = analyticsService.getDashboardStatistics();
+    public ResponseEntity<DashboardStatisticsResponse> getDashboardOverview(
+            @RequestParam(required = false) String mode) {
+        DashboardStatisticsResponse stats = mode != null
+            ? analyticsService.getDashboardStatistics(QueryFanOutService.Mode.fromName(mode))
+            : analyticsService.getDashboardStatistics();
         return ResponseEntity.ok(stats);
     }
     
+    // Initial state for clients subscribing to the live-metrics topic
+    @GetMapping("/live")
+    public ResponseEntity<LiveMetricsMessage> getLiveMetrics() {
+        return ResponseEntity.ok(liveMetricsService.getSnapshot());
+    }
+    
     @GetMapping("/interviews")
     public ResponseEntity<InterviewAnalyticsResponse> getInterviewAnalytics() {
         InterviewAnalyticsResponse analytics = analyticsService.getInterviewAnalytics();
@@ -38,6 +62,39 @@ public class AnalyticsController {
         return ResponseEntity.ok(analytics);
     }
     
+    @GetMapping("/candidates/reach")
+    public ResponseEntity<CandidateReachResponse> getCandidateReach(
+            @RequestParam(required = false) Long jobId,
+            @RequestParam(required = false) Long templateId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "approximate") String mode) {
+        CandidateReachService.Mode reachMode = CandidateReachService.Mode.fromName(mode);
+        long uniqueCandidates = reachService.countUniqueCandidates(
+            new CandidateReachService.Slice(jobId, templateId, from, to), reachMode);
+        return ResponseEntity.ok(CandidateReachResponse.builder()
+            .jobId(jobId)
+            .templateId(templateId)
+            .from(from)
+            .to(to)
+            .mode(reachMode.name().toLowerCase())
+            .uniqueCandidates(uniqueCandidates)
+            .build());
+    }
+    
+    @GetMapping("/distributions")
+    public ResponseEntity<ScoreDistributionResponse> getScoreDistribution(
+            @RequestParam(defaultValue = "technical") String metric,
+            @RequestParam(required = false) Long templateId,
+            @RequestParam(required = false) Long jobId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "50,90,99") List<Double> percentiles) {
+        ScoreDistributionResponse distribution = histogramService.getDistribution(
+            ScoreHistogramBucket.Metric.valueOf(metric.toUpperCase()), templateId, jobId, from, to, percentiles);
+        return ResponseEntity.ok(distribution);
+    }
+    
     @GetMapping("/jobs")
     public ResponseEntity<JobStatisticsResponse> getJobAnalytics() {
         JobStatisticsResponse analytics = analyticsService.getJobAnalytics();
@@ -48,11 +105,41 @@ public class AnalyticsController {
     public ResponseEntity<TrendAnalysisResponse> getTrendAnalysis(
             @RequestParam(defaultValue = "interviews") String metric,
             @RequestParam(defaultValue = "daily") String period,
-            @RequestParam(defaultValue = "30") int days) {
-        TrendAnalysisResponse trends = analyticsService.getTrendAnalysis(metric, period, days);
+            @RequestParam(defaultValue = "30") int days,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        TrendAnalysisResponse trends;
+        if (from != null) {
+            trends = analyticsService.getTrendAnalysis(metric, period, from, to != null ? to : LocalDate.now());
+        } else {
+            trends = analyticsService.getTrendAnalysis(metric, period, days);
+        }
         return ResponseEntity.ok(trends);
     }
     
+    @GetMapping("/rankings/{ranking}")
+    public ResponseEntity<CandidateRankingResponse> getCandidateRanking(
+            @PathVariable String ranking,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) Long jobId,
+            @RequestParam(required = false) Long templateId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor) {
+        CandidateRankingResponse response = rankingService.rank(
+            CandidateRankingService.Ranking.fromName(ranking),
+            new CandidateRankingService.RankingFilter(jobId, templateId, from, to),
+            size,
+            cursor
+        );
+        return ResponseEntity.ok(response);
+    }
+    
+    @PostMapping("/slices")
+    public ResponseEntity<SliceQueryResponse> querySlices(@RequestBody SliceQueryRequest request) {
+        return ResponseEntity.ok(snapshotService.query(request));
+    }
+    
     @GetMapping("/reports/dashboard/pdf")
     public ResponseEntity<byte[]> generateDashboardReportPdf() throws IOException {
         byte[] pdfBytes = reportService.generateDashboardReport();
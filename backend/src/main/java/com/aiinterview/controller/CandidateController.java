@@ -5,6 +5,7 @@ import com.aiinterview.model.Candidate;
 import com.aiinterview.service.CandidateService;
 import com.aiinterview.service.FileStorageService;
 import com.aiinterview.service.InterviewSessionService;
+import com.aiinterview.service.KeysetPaging;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.Resource;
@@ -32,7 +33,16 @@ public class CandidateController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "id") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDir) {
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String count) {
+        // Passing cursor (empty for the first page) switches to keyset paging
+        if (cursor != null) {
+            CandidateListResponse response = candidateService.getCandidatesByCursor(
+                search, cursor, size, sortBy, sortDir, KeysetPaging.CountMode.fromName(count, KeysetPaging.CountMode.NONE)
+            );
+            return ResponseEntity.ok(response);
+        }
         CandidateListResponse response = candidateService.getAllCandidatesWithPagination(
             search, page, size, sortBy, sortDir
         );
@@ -45,8 +55,10 @@ public class CandidateController {
     }
     
     @GetMapping("/recruiter/candidates/{id}/interviews")
-    public ResponseEntity<List<InterviewSessionResponse>> getCandidateInterviews(@PathVariable Long id) {
-        List<InterviewSessionResponse> interviews = candidateService.getCandidateInterviews(id);
+    public ResponseEntity<List<InterviewSessionResponse>> getCandidateInterviews(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "summary") String view) {
+        List<InterviewSessionResponse> interviews = candidateService.getCandidateInterviews(id, "detail".equalsIgnoreCase(view));
         return ResponseEntity.ok(interviews);
     }
     
@@ -5,6 +5,8 @@ import com.aiinterview.model.InterviewSession;
 import com.aiinterview.service.ExportService;
 import com.aiinterview.service.InterviewSessionService;
 import com.aiinterview.service.InterviewTurnService;
+import com.aiinterview.service.KeysetPaging;
+import com.aiinterview.service.SessionHeartbeatService;
 import com.aiinterview.service.TranscriptService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -14,8 +16,8 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -28,6 +30,7 @@ public class InterviewSessionController {
     private final InterviewTurnService turnService;
     private final TranscriptService transcriptService;
     private final ExportService exportService;
+    private final SessionHeartbeatService heartbeatService;
     private final com.aiinterview.service.AntiCheatService antiCheatService;
     
     @PostMapping("/sessions")
@@ -47,9 +50,22 @@ public class InterviewSessionController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "startedAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir) {
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String count,
+            @RequestParam(defaultValue = "summary") String view) {
+        // Summary rows leave out aiSummary, strengths and weaknesses
+        boolean detail = "detail".equalsIgnoreCase(view);
+        // Passing cursor (empty for the first page) switches to keyset paging
+        if (cursor != null) {
+            SessionListResponse response = sessionService.getSessionsByCursor(
+                status, candidateId, templateId, startDate, endDate, cursor, size, sortBy, sortDir,
+                KeysetPaging.CountMode.fromName(count, KeysetPaging.CountMode.NONE), detail
+            );
+            return ResponseEntity.ok(response);
+        }
         SessionListResponse response = sessionService.getAllSessions(
-            status, candidateId, templateId, startDate, endDate, page, size, sortBy, sortDir
+            status, candidateId, templateId, startDate, endDate, page, size, sortBy, sortDir, detail
         );
         return ResponseEntity.ok(response);
     }
@@ -80,6 +96,11 @@ public class InterviewSessionController {
         return ResponseEntity.ok(response);
     }
     
+    @PostMapping("/sessions/{sessionId}/heartbeat")
+    public ResponseEntity<HeartbeatResponse> heartbeat(@PathVariable String sessionId) {
+        return ResponseEntity.ok(heartbeatService.beat(sessionId));
+    }
+    
     @GetMapping("/sessions/{sessionId}/turns")
     public ResponseEntity<List<InterviewTurnResponse>> getTurns(@PathVariable String sessionId) {
         List<InterviewTurnResponse> turns = turnService.getTurnsBySessionIdString(sessionId);
@@ -94,6 +115,13 @@ public class InterviewSessionController {
         return ResponseEntity.ok(response);
     }
     
+    // Ordered creates and updates across sessions, applied in one transaction
+    @PostMapping("/turns/batch")
+    public ResponseEntity<TurnBatchResponse> applyTurnBatch(@Valid @RequestBody TurnBatchRequest request) {
+        TurnBatchResponse response = turnService.applyTurnBatch(request);
+        return ResponseEntity.ok(response);
+    }
+    
     @PutMapping("/sessions/{sessionId}/turns/{turnId}")
     public ResponseEntity<InterviewTurnResponse> updateTurn(
             @PathVariable String sessionId,
@@ -118,8 +146,8 @@ public class InterviewSessionController {
     }
     
     @GetMapping("/sessions/{sessionId}/export/pdf")
-    public ResponseEntity<byte[]> exportTranscriptPdf(@PathVariable String sessionId) throws IOException {
-        byte[] pdfBytes = exportService.exportTranscriptAsPdf(sessionId);
+    public ResponseEntity<StreamingResponseBody> exportTranscriptPdf(@PathVariable String sessionId) {
+        StreamingResponseBody pdf = exportService.streamTranscriptAsPdf(sessionId);
         
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_PDF);
@@ -127,7 +155,7 @@ public class InterviewSessionController {
         
         return ResponseEntity.ok()
             .headers(headers)
-            .body(pdfBytes);
+            .body(pdf);
     }
     
     @GetMapping("/sessions/{sessionId}/export/csv")
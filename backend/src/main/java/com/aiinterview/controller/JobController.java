@@ -36,8 +36,10 @@ public class JobController {
     }
     
     @GetMapping("/{id}/candidates")
-    public ResponseEntity<List<com.aiinterview.dto.InterviewSessionResponse>> getJobCandidates(@PathVariable Long id) {
-        List<com.aiinterview.dto.InterviewSessionResponse> candidates = jobService.getJobCandidates(id);
+    public ResponseEntity<List<com.aiinterview.dto.InterviewSessionResponse>> getJobCandidates(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "summary") String view) {
+        List<com.aiinterview.dto.InterviewSessionResponse> candidates = jobService.getJobCandidates(id, "detail".equalsIgnoreCase(view));
         return ResponseEntity.ok(candidates);
     }
     
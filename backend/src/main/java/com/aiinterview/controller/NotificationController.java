@@ -1,13 +1,13 @@
 package com.aiinterview.controller;
 
+import com.aiinterview.dto.NotificationListResponse;
 import com.aiinterview.dto.NotificationResponse;
 import com.aiinterview.model.Notification;
+import com.aiinterview.service.KeysetPaging;
 import com.aiinterview.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -24,12 +24,7 @@ public class NotificationController {
     public ResponseEntity<List<NotificationResponse>> getNotifications(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        
-        // Get user ID from email (would need user service)
-        // For now, using a placeholder
-        Long userId = 1L; // TODO: Get from authentication
+        Long userId = notificationService.getCurrentUserId();
         
         Page<Notification> notifications = notificationService.getUserNotificationsPaginated(userId, page, size);
         List<NotificationResponse> responses = notifications.getContent().stream()
@@ -39,12 +34,32 @@ public class NotificationController {
         return ResponseEntity.ok(responses);
     }
     
+    // Selected instead of the paged list when a cursor (empty for the first page) is passed
+    @GetMapping(params = "cursor")
+    public ResponseEntity<NotificationListResponse> getNotificationsByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String count) {
+        Long userId = notificationService.getCurrentUserId();
+        
+        NotificationService.NotificationPage page = notificationService.getUserNotificationsByCursor(
+            userId, cursor, size, KeysetPaging.CountMode.fromName(count, KeysetPaging.CountMode.NONE));
+        List<NotificationResponse> responses = page.notifications().stream()
+            .map(this::mapToResponse)
+            .collect(Collectors.toList());
+        
+        return ResponseEntity.ok(NotificationListResponse.builder()
+            .notifications(responses)
+            .totalElements(page.totalElements())
+            .pageSize(size)
+            .nextCursor(page.nextCursor())
+            .hasNext(page.hasNext())
+            .build());
+    }
+    
     @GetMapping("/unread")
     public ResponseEntity<List<NotificationResponse>> getUnreadNotifications() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        
-        Long userId = 1L; // TODO: Get from authentication
+        Long userId = notificationService.getCurrentUserId();
         
         List<Notification> notifications = notificationService.getUnreadNotifications(userId);
         List<NotificationResponse> responses = notifications.stream()
@@ -56,10 +71,7 @@ public class NotificationController {
     
     @GetMapping("/unread/count")
     public ResponseEntity<Long> getUnreadCount() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        
-        Long userId = 1L; // TODO: Get from authentication
+        Long userId = notificationService.getCurrentUserId();
         
         long count = notificationService.getUnreadNotificationCount(userId);
         return ResponseEntity.ok(count);
@@ -73,10 +85,7 @@ public class NotificationController {
     
     @PutMapping("/read-all")
     public ResponseEntity<Void> markAllAsRead() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
-        
-        Long userId = 1L; // TODO: Get from authentication
+        Long userId = notificationService.getCurrentUserId();
         
         notificationService.markAllAsRead(userId);
         return ResponseEntity.ok().build();
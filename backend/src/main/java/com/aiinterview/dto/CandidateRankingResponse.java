@@ -0,0 +1,19 @@
+package com.aiinterview.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateRankingResponse {
+    private String ranking; // top-performers, needs-attention
+    private int size;
+    private List<CandidateAnalyticsResponse.CandidatePerformanceData> entries;
+    private String nextCursor; // null when the ranking is exhausted
+}
@@ -0,0 +1,21 @@
+package com.aiinterview.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateReachResponse {
+    private Long jobId;
+    private Long templateId;
+    private LocalDate from;
+    private LocalDate to;
+    private String mode; // approximate, exact
+    private long uniqueCandidates;
+}
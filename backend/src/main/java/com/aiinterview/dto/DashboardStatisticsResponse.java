@@ -12,16 +12,18 @@ import java.util.Map;
 @NoArgsConstructor
 @AllArgsConstructor
 public class DashboardStatisticsResponse {
-    private long totalCandidates;
-    private long totalJobs;
-    private long totalInterviews;
-    private long activeInterviews;
-    private long completedInterviews;
-    private long pendingInterviews;
-    private double completionRate;
-    private double averageInterviewDuration;
+    // Boxed so that a sub-query that failed or timed out is reported as null rather than 0
+    private Long totalCandidates;
+    private Long totalJobs;
+    private Long totalInterviews;
+    private Long activeInterviews;
+    private Long completedInterviews;
+    private Long pendingInterviews;
+    private Double completionRate;
+    private Double averageInterviewDuration;
     private Map<String, Long> interviewsByStatus;
     private Map<String, Long> interviewsByDay;
     private Map<String, Long> candidatesByMonth;
+    private QueryTimingMetadata metadata;
 }
 
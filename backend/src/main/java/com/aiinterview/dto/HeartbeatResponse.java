@@ -0,0 +1,18 @@
+package com.aiinterview.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HeartbeatResponse {
+    private String sessionId;
+    // False when the session isn't running, e.g. completed or paused by the candidate
+    private boolean tracked;
+    // The session had been paused for missing heartbeats and this one resumed it
+    private boolean resumed;
+}
@@ -28,5 +28,9 @@ public class InterviewSessionResponse {
     private String weaknesses;
     private InterviewSession.Recommendation recommendation;
     private Integer totalTurns;
+    private Double averageCommunicationScore;
+    private Double averageTechnicalScore;
+    private Double averageClarityScore;
+    private Integer antiCheatSignalCount;
 }
 
@@ -0,0 +1,21 @@
+package com.aiinterview.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LiveMetricsMessage {
+    private String type; // snapshot, delta
+    private long sequence;
+    private LocalDateTime timestamp;
+    // Absolute values for a snapshot, signed changes for a delta
+    private Map<String, Long> counters;
+}
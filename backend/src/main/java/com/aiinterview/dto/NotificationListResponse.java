@@ -0,0 +1,20 @@
+package com.aiinterview.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationListResponse {
+    private List<NotificationResponse> notifications;
+    private Long totalElements; // null when the count is skipped
+    private int pageSize;
+    private String nextCursor; // null on the last page
+    private boolean hasNext;
+}
@@ -0,0 +1,34 @@
+package com.aiinterview.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QueryTimingMetadata {
+    private String mode; // sequential, parallel
+    private long totalMs;
+    private boolean partial; // true when any segment failed or timed out
+    private List<SegmentTiming> segments;
+    
+    public enum Status {
+        OK, FAILED, TIMED_OUT
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SegmentTiming {
+        private String name;
+        private Status status;
+        private long elapsedMs;
+        private String error;
+    }
+}
@@ -0,0 +1,35 @@
+package com.aiinterview.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoreDistributionResponse {
+    private String metric; // communication, technical, clarity, answer_duration_ms
+    private Long templateId;
+    private Long jobId;
+    private LocalDate from;
+    private LocalDate to;
+    private long totalCount;
+    private List<HistogramBucket> buckets;
+    private Map<String, Double> percentiles; // "p50" -> value, interpolated within its bucket
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class HistogramBucket {
+        private double lowerBound;
+        private Double upperBound; // null for the open-ended last bucket
+        private long count;
+    }
+}
@@ -13,9 +13,11 @@ import java.util.List;
 @AllArgsConstructor
 public class SessionListResponse {
     private List<InterviewSessionResponse> sessions;
-    private long totalElements;
-    private int totalPages;
-    private int currentPage;
+    private Long totalElements; // null when a cursor page skips the count
+    private Integer totalPages;
+    private Integer currentPage; // offset paging only
     private int pageSize;
+    private String nextCursor; // cursor paging only; null on the last page
+    private Boolean hasNext;
 }
 
@@ -0,0 +1,23 @@
+package com.aiinterview.dto;
+
+import com.aiinterview.model.InterviewSession;
+import com.aiinterview.model.Job;
+import com.aiinterview.service.SessionSnapshot;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+@Data
+public class SliceQueryRequest {
+    private Set<InterviewSession.SessionStatus> statuses;
+    private Set<Long> templateIds;
+    private Set<Long> jobIds;
+    private Set<Job.SeniorityLevel> seniorityLevels;
+    private Set<InterviewSession.Recommendation> recommendations;
+    private LocalDate from; // session start date, inclusive
+    private LocalDate to;
+    private List<SessionSnapshot.Dimension> groupBy = new ArrayList<>();
+}
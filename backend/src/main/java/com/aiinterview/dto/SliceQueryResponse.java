@@ -0,0 +1,34 @@
+package com.aiinterview.dto;
+
+import com.aiinterview.service.SessionSnapshot;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SliceQueryResponse {
+    private List<SessionSnapshot.Dimension> groupBy;
+    private List<SliceRow> rows;
+    private long matchedSessions;
+    private int scannedRows;
+    private LocalDateTime snapshotBuiltAt;
+    private long evaluationMicros;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SliceRow {
+        private Map<SessionSnapshot.Dimension, String> group;
+        private long count;
+        private Map<SessionSnapshot.Measure, Double> measures;
+    }
+}
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Data
@@ -13,7 +14,9 @@ import java.util.List;
 @AllArgsConstructor
 public class TrendAnalysisResponse {
     private String metric;
-    private String period; // daily, weekly, monthly
+    private String period; // hour, day, week, month
+    private LocalDate from;
+    private LocalDate to;
     private List<TrendDataPoint> dataPoints;
     
     @Data
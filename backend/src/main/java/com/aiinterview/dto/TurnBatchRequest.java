@@ -0,0 +1,28 @@
+package com.aiinterview.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.util.List;
+
+@Data
+public class TurnBatchRequest {
+    // Applied in order, in one transaction
+    @NotEmpty
+    @Valid
+    private List<TurnOperation> operations;
+    
+    /**
+     * Creates a turn in the session when {@code turnId} is null, otherwise updates that turn.
+     */
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class TurnOperation extends UpdateTurnRequest {
+        @NotBlank
+        private String sessionId;
+        private Long turnId;
+    }
+}
@@ -0,0 +1,30 @@
+package com.aiinterview.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TurnBatchResponse {
+    // One result per operation, in request order
+    private List<TurnResult> results;
+    private int created;
+    private int updated;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TurnResult {
+        private String sessionId;
+        private Long turnId;
+        private Integer turnNumber;
+        private boolean created;
+    }
+}
@@ -0,0 +1,86 @@
+package com.aiinterview.event;
+
+import com.aiinterview.model.InterviewSession;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by the write services whenever data that feeds analytics changes. Listeners receive it
+ * after the publishing transaction commits.
+ */
+public record AnalyticsChangeEvent(Type type,
+                                   Long sessionId,
+                                   InterviewSession.SessionStatus previousStatus,
+                                   InterviewSession.SessionStatus status,
+                                   Long candidateId,
+                                   Long templateId,
+                                   Long jobId,
+                                   LocalDateTime occurredAt) {
+    
+    public enum Type {
+        SESSION_CREATED,
+        SESSION_STATUS_CHANGED,
+        SESSION_UPDATED,
+        SESSION_DELETED,
+        TURN_CHANGED,
+        CANDIDATE_CHANGED,
+        JOB_CHANGED
+    }
+    
+    public static AnalyticsChangeEvent sessionCreated(InterviewSession session) {
+        return new AnalyticsChangeEvent(Type.SESSION_CREATED, session.getId(), null, session.getStatus(),
+            candidateId(session), templateId(session), jobId(session), LocalDateTime.now());
+    }
+    
+    public static AnalyticsChangeEvent sessionStatusChanged(InterviewSession session,
+                                                            InterviewSession.SessionStatus previousStatus) {
+        return new AnalyticsChangeEvent(Type.SESSION_STATUS_CHANGED, session.getId(), previousStatus, session.getStatus(),
+            candidateId(session), templateId(session), jobId(session), LocalDateTime.now());
+    }
+    
+    /**
+     * Status change made by a bulk update, for which no entity is loaded.
+     */
+    public static AnalyticsChangeEvent sessionStatusChanged(Long sessionId, Long candidateId, Long templateId, Long jobId,
+                                                            InterviewSession.SessionStatus previousStatus,
+                                                            InterviewSession.SessionStatus status) {
+        return new AnalyticsChangeEvent(Type.SESSION_STATUS_CHANGED, sessionId, previousStatus, status,
+            candidateId, templateId, jobId, LocalDateTime.now());
+    }
+    
+    public static AnalyticsChangeEvent sessionUpdated(InterviewSession session) {
+        return new AnalyticsChangeEvent(Type.SESSION_UPDATED, session.getId(), session.getStatus(), session.getStatus(),
+            candidateId(session), templateId(session), jobId(session), LocalDateTime.now());
+    }
+    
+    public static AnalyticsChangeEvent sessionDeleted(InterviewSession session) {
+        return new AnalyticsChangeEvent(Type.SESSION_DELETED, session.getId(), session.getStatus(), null,
+            candidateId(session), templateId(session), jobId(session), LocalDateTime.now());
+    }
+    
+    public static AnalyticsChangeEvent turnChanged(InterviewSession session) {
+        return new AnalyticsChangeEvent(Type.TURN_CHANGED, session.getId(), session.getStatus(), session.getStatus(),
+            candidateId(session), templateId(session), jobId(session), LocalDateTime.now());
+    }
+    
+    public static AnalyticsChangeEvent candidateChanged() {
+        return new AnalyticsChangeEvent(Type.CANDIDATE_CHANGED, null, null, null, null, null, null, LocalDateTime.now());
+    }
+    
+    public static AnalyticsChangeEvent jobChanged() {
+        return new AnalyticsChangeEvent(Type.JOB_CHANGED, null, null, null, null, null, null, LocalDateTime.now());
+    }
+    
+    private static Long candidateId(InterviewSession session) {
+        return session.getCandidate() != null ? session.getCandidate().getId() : null;
+    }
+    
+    private static Long templateId(InterviewSession session) {
+        return session.getTemplate() != null ? session.getTemplate().getId() : null;
+    }
+    
+    private static Long jobId(InterviewSession session) {
+        return session.getTemplate() != null && session.getTemplate().getJob() != null
+            ? session.getTemplate().getJob().getId() : null;
+    }
+}
@@ -0,0 +1,31 @@
+package com.aiinterview.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Number of candidates created per day, maintained incrementally by AnalyticsRollupService.
+ */
+@Entity
+@Table(name = "analytics_daily_candidate_rollups")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyCandidateRollup {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "rollup_date", nullable = false, unique = true)
+    private LocalDate rollupDate;
+    
+    @Column(nullable = false)
+    private Long candidateCount;
+}
@@ -0,0 +1,50 @@
+package com.aiinterview.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Pre-aggregated session counts per day x status x template x job.
+ * Maintained incrementally by AnalyticsRollupService so dashboards never scan interview_sessions.
+ */
+@Entity
+@Table(name = "analytics_daily_session_rollups",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"rollup_date", "status", "template_id", "job_id"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailySessionRollup {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "rollup_date", nullable = false)
+    private LocalDate rollupDate;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private InterviewSession.SessionStatus status;
+    
+    @Column(name = "template_id", nullable = false)
+    private Long templateId;
+    
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+    
+    @Column(nullable = false)
+    private Long sessionCount;
+    
+    // Sum of (completedAt - startedAt) in whole minutes, only populated for COMPLETED rows
+    @Column(nullable = false)
+    private Long durationMinutesSum;
+    
+    @Column(nullable = false)
+    private Long durationCount;
+}
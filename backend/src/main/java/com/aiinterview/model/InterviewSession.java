@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -12,12 +13,19 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "interview_sessions")
+@Table(name = "interview_sessions", indexes = {
+    @Index(name = "idx_interview_sessions_template_status", columnList = "template_id, status"),
+    @Index(name = "idx_interview_sessions_candidate_status", columnList = "candidate_id, status"),
+    @Index(name = "idx_interview_sessions_started_at", columnList = "started_at, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
+// Write only the changed columns, so a status or evaluation update doesn't write back turn counters and
+// scorecard sums read before a concurrent append
+@DynamicUpdate
 public class InterviewSession {
     
     @Id
@@ -42,7 +50,8 @@ public class InterviewSession {
     @Column(length = 50)
     private String language;
     
-    @Column(nullable = false)
+    // Partition key of interview_sessions and (as session_started_at) of interview_turns
+    @Column(nullable = false, updatable = false)
     private LocalDateTime startedAt;
     
     private LocalDateTime scheduledAt;
@@ -64,6 +73,10 @@ public class InterviewSession {
     @Column(nullable = false)
     private Integer totalTurns = 0;
     
+    @Embedded
+    @Builder.Default
+    private SessionScorecard scorecard = new SessionScorecard();
+    
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -71,6 +84,17 @@ public class InterviewSession {
     @LastModifiedDate
     private LocalDateTime updatedAt;
     
+    /**
+     * Hibernate leaves the embedded scorecard null when all of its columns are null (rows created
+     * before the scorecard existed and not yet backfilled), so always go through this accessor.
+     */
+    public SessionScorecard getScorecard() {
+        if (scorecard == null) {
+            scorecard = new SessionScorecard();
+        }
+        return scorecard;
+    }
+    
     public enum SessionStatus {
         PENDING, IN_PROGRESS, PAUSED, COMPLETED, ABANDONED
     }
@@ -13,7 +13,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "interview_templates")
+@Table(name = "interview_templates", indexes = @Index(name = "idx_interview_templates_job", columnList = "job_id"))
 @Data
 @Builder
 @NoArgsConstructor
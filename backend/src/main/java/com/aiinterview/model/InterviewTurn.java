@@ -11,7 +11,9 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "interview_turns")
+@Table(name = "interview_turns",
+       uniqueConstraints = @UniqueConstraint(name = "uk_interview_turns_session_turn",
+                                             columnNames = {"session_id", "session_started_at", "turn_number"}))
 @Data
 @Builder
 @NoArgsConstructor
@@ -27,6 +29,10 @@ public class InterviewTurn {
     @JoinColumn(name = "session_id", nullable = false)
     private InterviewSession session;
     
+    // Copy of the session's startedAt: the partition key of interview_turns (see V3 migration)
+    @Column(name = "session_started_at", nullable = false, updatable = false)
+    private LocalDateTime sessionStartedAt;
+    
     @Column(nullable = false)
     private Integer turnNumber;
     
@@ -65,5 +71,12 @@ public class InterviewTurn {
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
+    
+    @PrePersist
+    void copySessionStartedAt() {
+        if (sessionStartedAt == null && session != null) {
+            sessionStartedAt = session.getStartedAt();
+        }
+    }
 }
 
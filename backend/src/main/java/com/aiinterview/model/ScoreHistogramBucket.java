@@ -0,0 +1,99 @@
+package com.aiinterview.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * One bucket of a fixed-bucket histogram of turn scores or answer durations, per session start day x
+ * template x job. Summing bucket counts over any set of rows merges their histograms, so per-template,
+ * per-job and any date window are all answered from this table.
+ */
+@Entity
+@Table(name = "analytics_score_histograms",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"histogram_date", "template_id", "job_id", "metric", "bucket_index"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoreHistogramBucket {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "histogram_date", nullable = false)
+    private LocalDate histogramDate;
+    
+    @Column(name = "template_id", nullable = false)
+    private Long templateId;
+    
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private Metric metric;
+    
+    @Column(name = "bucket_index", nullable = false)
+    private Integer bucketIndex;
+    
+    @Column(nullable = false)
+    private Long bucketCount;
+    
+    /**
+     * Histogrammed values and their bucket upper bounds. Bucket i covers [bound(i - 1), bound(i)); the
+     * first starts at 0 and the last is open-ended.
+     */
+    public enum Metric {
+        COMMUNICATION(scoreBounds()),
+        TECHNICAL(scoreBounds()),
+        CLARITY(scoreBounds()),
+        ANSWER_DURATION_MS(new double[] {
+            5_000, 10_000, 15_000, 20_000, 30_000, 45_000, 60_000, 90_000,
+            120_000, 180_000, 240_000, 300_000, 600_000, 900_000
+        });
+        
+        private final double[] upperBounds;
+        
+        Metric(double[] upperBounds) {
+            this.upperBounds = upperBounds;
+        }
+        
+        public int bucketCount() {
+            return upperBounds.length + 1;
+        }
+        
+        public int bucketOf(double value) {
+            int index = 0;
+            while (index < upperBounds.length && value >= upperBounds[index]) {
+                index++;
+            }
+            return index;
+        }
+        
+        public double lowerBound(int bucket) {
+            return bucket == 0 ? 0.0 : upperBounds[bucket - 1];
+        }
+        
+        /**
+         * Upper bound of the bucket, or null for the open-ended last bucket.
+         */
+        public Double upperBound(int bucket) {
+            return bucket < upperBounds.length ? upperBounds[bucket] : null;
+        }
+        
+        // Scores are 0-10; half-point buckets
+        private static double[] scoreBounds() {
+            double[] bounds = new double[20];
+            for (int i = 0; i < bounds.length; i++) {
+                bounds[i] = (i + 1) * 0.5;
+            }
+            return bounds;
+        }
+    }
+}
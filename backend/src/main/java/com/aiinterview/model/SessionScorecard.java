@@ -0,0 +1,98 @@
+package com.aiinterview.model;
+
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Running score aggregates for a session, kept in sync with its turns by InterviewTurnService
+ * so rankings and trends can read one row per session instead of scanning interview_turns.
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionScorecard {
+    
+    private Double communicationScoreSum = 0.0;
+    private Integer communicationScoreCount = 0;
+    private Double communicationScoreAverage;
+    
+    private Double technicalScoreSum = 0.0;
+    private Integer technicalScoreCount = 0;
+    private Double technicalScoreAverage;
+    
+    private Double clarityScoreSum = 0.0;
+    private Integer clarityScoreCount = 0;
+    private Double clarityScoreAverage;
+    
+    private Integer antiCheatSignalCount = 0;
+    
+    /**
+     * Score-relevant fields of a single turn.
+     */
+    public record TurnScores(Double communication, Double technical, Double clarity, boolean antiCheatSignal) {
+        
+        public static final TurnScores NONE = new TurnScores(null, null, null, false);
+        
+        public static TurnScores of(InterviewTurn turn) {
+            return new TurnScores(
+                turn.getCommunicationScore(),
+                turn.getTechnicalScore(),
+                turn.getClarityScore(),
+                Boolean.TRUE.equals(turn.getHasAntiCheatSignal())
+            );
+        }
+    }
+    
+    /**
+     * Replace a turn's previous contribution with its current one.
+     */
+    public void apply(TurnScores before, TurnScores after) {
+        if (before.communication() != null) {
+            communicationScoreSum = value(communicationScoreSum) - before.communication();
+            communicationScoreCount = count(communicationScoreCount) - 1;
+        }
+        if (after.communication() != null) {
+            communicationScoreSum = value(communicationScoreSum) + after.communication();
+            communicationScoreCount = count(communicationScoreCount) + 1;
+        }
+        communicationScoreAverage = average(communicationScoreSum, communicationScoreCount);
+        
+        if (before.technical() != null) {
+            technicalScoreSum = value(technicalScoreSum) - before.technical();
+            technicalScoreCount = count(technicalScoreCount) - 1;
+        }
+        if (after.technical() != null) {
+            technicalScoreSum = value(technicalScoreSum) + after.technical();
+            technicalScoreCount = count(technicalScoreCount) + 1;
+        }
+        technicalScoreAverage = average(technicalScoreSum, technicalScoreCount);
+        
+        if (before.clarity() != null) {
+            clarityScoreSum = value(clarityScoreSum) - before.clarity();
+            clarityScoreCount = count(clarityScoreCount) - 1;
+        }
+        if (after.clarity() != null) {
+            clarityScoreSum = value(clarityScoreSum) + after.clarity();
+            clarityScoreCount = count(clarityScoreCount) + 1;
+        }
+        clarityScoreAverage = average(clarityScoreSum, clarityScoreCount);
+        
+        antiCheatSignalCount = count(antiCheatSignalCount)
+            + (after.antiCheatSignal() ? 1 : 0) - (before.antiCheatSignal() ? 1 : 0);
+    }
+    
+    private static double value(Double sum) {
+        return sum != null ? sum : 0.0;
+    }
+    
+    private static int count(Integer count) {
+        return count != null ? count : 0;
+    }
+    
+    private static Double average(Double sum, Integer count) {
+        return count != null && count > 0 ? sum / count : null;
+    }
+}
@@ -4,14 +4,17 @@ import com.aiinterview.model.Candidate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface CandidateRepository extends JpaRepository<Candidate, Long> {
+public interface CandidateRepository extends JpaRepository<Candidate, Long>, JpaSpecificationExecutor<Candidate> {
     Optional<Candidate> findByEmail(String email);
     
     @Query("SELECT c FROM Candidate c WHERE " +
@@ -20,5 +23,26 @@ public interface CandidateRepository extends JpaRepository<Candidate, Long> {
            "LOWER(c.lastName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
            "LOWER(c.email) LIKE LOWER(CONCAT('%', :search, '%')))")
     Page<Candidate> findWithSearch(@Param("search") String search, Pageable pageable);
+    
+    @Query("SELECT COUNT(c) FROM Candidate c WHERE c.resumeUrl IS NOT NULL AND c.resumeUrl <> ''")
+    long countWithResume();
+    
+    // Planner row estimate from pg_class; negative when the table has never been analyzed
+    @Query(value = "SELECT CAST(reltuples AS bigint) FROM pg_class WHERE oid = CAST('candidates' AS regclass)",
+           nativeQuery = true)
+    Long estimateRowCount();
+    
+    @Query(value = "SELECT to_char(date_trunc(CAST(:unit AS text), created_at), 'YYYY-MM-DD HH24:MI:SS') AS bucket, " +
+                   "COUNT(*) AS total FROM candidates " +
+                   "WHERE created_at >= :from AND created_at < :to GROUP BY 1",
+           nativeQuery = true)
+    List<BucketCount> countCreatedGroupedByBucket(@Param("unit") String unit,
+                                                  @Param("from") LocalDateTime from,
+                                                  @Param("to") LocalDateTime to);
+    
+    interface BucketCount {
+        String getBucket();
+        Long getTotal();
+    }
 }
 
@@ -0,0 +1,48 @@
+package com.aiinterview.repository;
+
+import com.aiinterview.model.DailyCandidateRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyCandidateRollupRepository extends JpaRepository<DailyCandidateRollup, Long> {
+    
+    @Modifying
+    @Query(value = "INSERT INTO analytics_daily_candidate_rollups (rollup_date, candidate_count) " +
+                   "VALUES (:day, :delta) " +
+                   "ON CONFLICT (rollup_date) DO UPDATE SET " +
+                   "candidate_count = analytics_daily_candidate_rollups.candidate_count + EXCLUDED.candidate_count",
+           nativeQuery = true)
+    void increment(@Param("day") LocalDate day, @Param("delta") long delta);
+    
+    @Modifying
+    @Query(value = "INSERT INTO analytics_daily_candidate_rollups (rollup_date, candidate_count) " +
+                   "SELECT CAST(c.created_at AS date), COUNT(*) FROM candidates c " +
+                   "GROUP BY CAST(c.created_at AS date)",
+           nativeQuery = true)
+    int rebuildFromCandidates();
+    
+    @Query("SELECT COALESCE(SUM(r.candidateCount), 0) FROM DailyCandidateRollup r")
+    long sumCandidates();
+    
+    List<DailyCandidateRollup> findByRollupDateBetweenOrderByRollupDateAsc(LocalDate from, LocalDate to);
+    
+    @Query(value = "SELECT to_char(date_trunc(CAST(:unit AS text), CAST(rollup_date AS timestamp)), 'YYYY-MM-DD HH24:MI:SS') AS bucket, " +
+                   "SUM(candidate_count) AS total FROM analytics_daily_candidate_rollups " +
+                   "WHERE rollup_date BETWEEN :from AND :to GROUP BY 1",
+           nativeQuery = true)
+    List<BucketTotal> sumGroupedByBucket(@Param("unit") String unit,
+                                         @Param("from") LocalDate from,
+                                         @Param("to") LocalDate to);
+    
+    interface BucketTotal {
+        String getBucket();
+        Long getTotal();
+    }
+}
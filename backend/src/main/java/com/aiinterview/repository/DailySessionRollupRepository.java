@@ -0,0 +1,102 @@
+package com.aiinterview.repository;
+
+import com.aiinterview.model.DailySessionRollup;
+import com.aiinterview.model.InterviewSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailySessionRollupRepository extends JpaRepository<DailySessionRollup, Long> {
+    
+    @Modifying
+    @Query(value = "INSERT INTO analytics_daily_session_rollups " +
+                   "(rollup_date, status, template_id, job_id, session_count, duration_minutes_sum, duration_count) " +
+                   "VALUES (:day, :status, :templateId, :jobId, :sessions, :durationMinutes, :durationCount) " +
+                   "ON CONFLICT (rollup_date, status, template_id, job_id) DO UPDATE SET " +
+                   "session_count = analytics_daily_session_rollups.session_count + EXCLUDED.session_count, " +
+                   "duration_minutes_sum = analytics_daily_session_rollups.duration_minutes_sum + EXCLUDED.duration_minutes_sum, " +
+                   "duration_count = analytics_daily_session_rollups.duration_count + EXCLUDED.duration_count",
+           nativeQuery = true)
+    void increment(@Param("day") LocalDate day,
+                   @Param("status") String status,
+                   @Param("templateId") Long templateId,
+                   @Param("jobId") Long jobId,
+                   @Param("sessions") long sessions,
+                   @Param("durationMinutes") long durationMinutes,
+                   @Param("durationCount") long durationCount);
+    
+    @Modifying
+    @Query(value = "INSERT INTO analytics_daily_session_rollups " +
+                   "(rollup_date, status, template_id, job_id, session_count, duration_minutes_sum, duration_count) " +
+                   "SELECT CAST(s.started_at AS date), s.status, s.template_id, t.job_id, COUNT(*), " +
+                   "COALESCE(SUM(CASE WHEN s.status = 'COMPLETED' AND s.completed_at IS NOT NULL " +
+                   "THEN TRUNC(EXTRACT(EPOCH FROM (s.completed_at - s.started_at)) / 60) END), 0), " +
+                   "COUNT(CASE WHEN s.status = 'COMPLETED' AND s.completed_at IS NOT NULL THEN 1 END) " +
+                   "FROM interview_sessions s JOIN interview_templates t ON t.id = s.template_id " +
+                   "GROUP BY CAST(s.started_at AS date), s.status, s.template_id, t.job_id",
+           nativeQuery = true)
+    int rebuildFromSessions();
+    
+    /**
+     * Block increments to both rollups until the current transaction ends; readers are not blocked. A
+     * rebuild takes it before recomputing, so an increment can neither be wiped by the delete nor collide
+     * with the reinsert: it either committed before the rebuild read the source tables or applies on top
+     * of the recomputed rows.
+     */
+    @Modifying
+    @Query(value = "LOCK TABLE analytics_daily_session_rollups, analytics_daily_candidate_rollups IN EXCLUSIVE MODE",
+           nativeQuery = true)
+    void lockForRebuild();
+    
+    @Query("SELECT COALESCE(SUM(r.sessionCount), 0) FROM DailySessionRollup r")
+    long sumSessions();
+    
+    @Query("SELECT r.status AS status, SUM(r.sessionCount) AS total FROM DailySessionRollup r GROUP BY r.status")
+    List<StatusTotal> sumByStatus();
+    
+    @Query("SELECT r.rollupDate AS day, SUM(r.sessionCount) AS total FROM DailySessionRollup r " +
+           "WHERE r.rollupDate BETWEEN :from AND :to GROUP BY r.rollupDate")
+    List<DayTotal> sumByDay(@Param("from") LocalDate from, @Param("to") LocalDate to);
+    
+    /**
+     * Sessions per bucket of {@code unit} (a Postgres date_trunc field: day, week or month) for days in
+     * [from, to]. Buckets are formatted as 'YYYY-MM-DD HH24:MI:SS' bucket starts.
+     */
+    @Query(value = "SELECT to_char(date_trunc(CAST(:unit AS text), CAST(rollup_date AS timestamp)), 'YYYY-MM-DD HH24:MI:SS') AS bucket, " +
+                   "SUM(session_count) AS total FROM analytics_daily_session_rollups " +
+                   "WHERE rollup_date BETWEEN :from AND :to GROUP BY 1",
+           nativeQuery = true)
+    List<BucketTotal> sumGroupedByBucket(@Param("unit") String unit,
+                                         @Param("from") LocalDate from,
+                                         @Param("to") LocalDate to);
+    
+    @Query("SELECT COALESCE(SUM(r.durationMinutesSum), 0) AS durationMinutes, COALESCE(SUM(r.durationCount), 0) AS sessions " +
+           "FROM DailySessionRollup r WHERE r.status = :status")
+    DurationTotal sumDurationByStatus(@Param("status") InterviewSession.SessionStatus status);
+    
+    interface StatusTotal {
+        InterviewSession.SessionStatus getStatus();
+        Long getTotal();
+    }
+    
+    interface DayTotal {
+        LocalDate getDay();
+        Long getTotal();
+    }
+    
+    interface BucketTotal {
+        String getBucket();
+        Long getTotal();
+    }
+    
+    interface DurationTotal {
+        Long getDurationMinutes();
+        Long getSessions();
+    }
+}
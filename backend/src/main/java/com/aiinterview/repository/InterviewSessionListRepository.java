@@ -0,0 +1,43 @@
+package com.aiinterview.repository;
+
+import com.aiinterview.model.InterviewSession;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Narrow reads for session lists, mixed into {@link InterviewSessionRepository}. Rows are selected column by
+ * column with the candidate and template joined in SQL, so listing sessions never loads those entities.
+ */
+public interface InterviewSessionListRepository {
+    
+    /**
+     * Rows matching {@code spec} in {@code sort} order, skipping {@code offset} and returning at most
+     * {@code limit}. The long text columns are only selected when {@code detail} is set.
+     */
+    List<SessionListRow> findListRows(Specification<InterviewSession> spec, Sort sort, long offset, int limit, boolean detail);
+    
+    record SessionListRow(Long id,
+                          String sessionId,
+                          Long candidateId,
+                          String candidateFirstName,
+                          String candidateLastName,
+                          Long templateId,
+                          String templateName,
+                          InterviewSession.SessionStatus status,
+                          String language,
+                          LocalDateTime startedAt,
+                          LocalDateTime completedAt,
+                          InterviewSession.Recommendation recommendation,
+                          Integer totalTurns,
+                          Double averageCommunicationScore,
+                          Double averageTechnicalScore,
+                          Double averageClarityScore,
+                          Integer antiCheatSignalCount,
+                          String aiSummary,
+                          String strengths,
+                          String weaknesses) {
+    }
+}
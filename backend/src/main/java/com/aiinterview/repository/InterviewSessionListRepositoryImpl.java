@@ -0,0 +1,103 @@
+package com.aiinterview.repository;
+
+import com.aiinterview.model.Candidate;
+import com.aiinterview.model.InterviewSession;
+import com.aiinterview.model.InterviewTemplate;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class InterviewSessionListRepositoryImpl implements InterviewSessionListRepository {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public List<SessionListRow> findListRows(Specification<InterviewSession> spec, Sort sort, long offset, int limit,
+                                             boolean detail) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<InterviewSession> session = query.from(InterviewSession.class);
+        Join<InterviewSession, Candidate> candidate = session.join("candidate");
+        Join<InterviewSession, InterviewTemplate> template = session.join("template");
+        Path<Object> scorecard = session.get("scorecard");
+        
+        List<Selection<?>> columns = new ArrayList<>(List.<Selection<?>>of(
+            session.get("id"),
+            session.get("sessionId"),
+            candidate.get("id"),
+            candidate.get("firstName"),
+            candidate.get("lastName"),
+            template.get("id"),
+            template.get("name"),
+            session.get("status"),
+            session.get("language"),
+            session.get("startedAt"),
+            session.get("completedAt"),
+            session.get("recommendation"),
+            session.get("totalTurns"),
+            scorecard.get("communicationScoreAverage"),
+            scorecard.get("technicalScoreAverage"),
+            scorecard.get("clarityScoreAverage"),
+            scorecard.get("antiCheatSignalCount")
+        ));
+        if (detail) {
+            columns.add(session.get("aiSummary"));
+            columns.add(session.get("strengths"));
+            columns.add(session.get("weaknesses"));
+        }
+        query.multiselect(columns);
+        
+        Predicate where = spec != null ? spec.toPredicate(session, query, cb) : null;
+        if (where != null) {
+            query.where(where);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, session, cb));
+        
+        List<Tuple> tuples = entityManager.createQuery(query)
+            .setFirstResult((int) offset)
+            .setMaxResults(limit)
+            .getResultList();
+        
+        List<SessionListRow> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            rows.add(new SessionListRow(
+                tuple.get(0, Long.class),
+                tuple.get(1, String.class),
+                tuple.get(2, Long.class),
+                tuple.get(3, String.class),
+                tuple.get(4, String.class),
+                tuple.get(5, Long.class),
+                tuple.get(6, String.class),
+                tuple.get(7, InterviewSession.SessionStatus.class),
+                tuple.get(8, String.class),
+                tuple.get(9, LocalDateTime.class),
+                tuple.get(10, LocalDateTime.class),
+                tuple.get(11, InterviewSession.Recommendation.class),
+                tuple.get(12, Integer.class),
+                tuple.get(13, Double.class),
+                tuple.get(14, Double.class),
+                tuple.get(15, Double.class),
+                tuple.get(16, Integer.class),
+                detail ? tuple.get(17, String.class) : null,
+                detail ? tuple.get(18, String.class) : null,
+                detail ? tuple.get(19, String.class) : null
+            ));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,32 @@
+package com.aiinterview.repository;
+
+import com.aiinterview.model.InterviewSession;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Set-based status changes for the background jobs, mixed into {@link InterviewSessionRepository}.
+ */
+public interface InterviewSessionMaintenanceRepository {
+    
+    /**
+     * Move the given sessions that are still in {@code from} status to {@code to} status in one statement
+     * and return those that changed. Sessions whose status moved on in the meantime are left alone.
+     */
+    List<StatusChange> bulkChangeStatus(InterviewSession.SessionStatus from,
+                                        InterviewSession.SessionStatus to,
+                                        Collection<String> sessionIds);
+    
+    /**
+     * A session changed by {@link #bulkChangeStatus}.
+     */
+    record StatusChange(Long id,
+                        String sessionId,
+                        Long candidateId,
+                        Long templateId,
+                        Long jobId,
+                        LocalDateTime startedAt) {
+    }
+}
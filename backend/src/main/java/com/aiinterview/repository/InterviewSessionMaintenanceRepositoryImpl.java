@@ -0,0 +1,48 @@
+package com.aiinterview.repository;
+
+import com.aiinterview.model.InterviewSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class InterviewSessionMaintenanceRepositoryImpl implements InterviewSessionMaintenanceRepository {
+    
+    // session_id is unique per partition, so each partition answers from its uk_interview_sessions_session_id
+    // index; the status condition makes the change a no-op for sessions that moved on
+    private static final String BULK_STATUS_SQL =
+        "UPDATE interview_sessions s SET status = ?, updated_at = ? " +
+        "FROM interview_templates t " +
+        "WHERE s.session_id = ANY (?) AND s.status = ? AND t.id = s.template_id " +
+        "RETURNING s.id, s.session_id, s.candidate_id, s.template_id, t.job_id, s.started_at";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public List<StatusChange> bulkChangeStatus(InterviewSession.SessionStatus from,
+                                               InterviewSession.SessionStatus to,
+                                               Collection<String> sessionIds) {
+        if (sessionIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(BULK_STATUS_SQL,
+            ps -> {
+                ps.setString(1, to.name());
+                ps.setTimestamp(2, Timestamp.valueOf(LocalDateTime.now()));
+                ps.setArray(3, ps.getConnection().createArrayOf("varchar", sessionIds.toArray()));
+                ps.setString(4, from.name());
+            },
+            (rs, rowNum) -> new StatusChange(
+                rs.getLong("id"),
+                rs.getString("session_id"),
+                rs.getLong("candidate_id"),
+                rs.getLong("template_id"),
+                rs.getLong("job_id"),
+                rs.getTimestamp("started_at").toLocalDateTime()
+            ));
+    }
+}
@@ -1,22 +1,366 @@
 package com.aiinterview.repository;
 
 import com.aiinterview.model.InterviewSession;
+import com.aiinterview.model.InterviewTurn;
+import com.aiinterview.model.Job;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface InterviewSessionRepository extends JpaRepository<InterviewSession, Long>, JpaSpecificationExecutor<InterviewSession> {
+public interface InterviewSessionRepository extends JpaRepository<InterviewSession, Long>, JpaSpecificationExecutor<InterviewSession>,
+        InterviewSessionListRepository, InterviewSessionMaintenanceRepository {
+    
+    // Columns loaded into the in-memory session snapshot (SessionSnapshotService)
+    String SNAPSHOT_SELECT = "SELECT s.id AS id, s.candidate.id AS candidateId, s.status AS status, " +
+        "t.id AS templateId, t.name AS templateName, j.id AS jobId, j.title AS jobTitle, j.seniorityLevel AS seniorityLevel, " +
+        "s.recommendation AS recommendation, s.startedAt AS startedAt, s.completedAt AS completedAt, " +
+        "s.totalTurns AS totalTurns, s.scorecard.technicalScoreAverage AS technicalScore " +
+        "FROM InterviewSession s JOIN s.template t JOIN t.job j";
+    
     Optional<InterviewSession> findBySessionId(String sessionId);
+    
+    // Row-locked reads for turn appends, so concurrent appends to one session take turns numbers in order
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM InterviewSession s WHERE s.id = :id")
+    Optional<InterviewSession> findByIdForUpdate(@Param("id") Long id);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM InterviewSession s WHERE s.sessionId = :sessionId")
+    Optional<InterviewSession> findBySessionIdForUpdate(@Param("sessionId") String sessionId);
+    
     List<InterviewSession> findByCandidate_Id(Long candidateId);
     List<InterviewSession> findByStatus(InterviewSession.SessionStatus status);
     
     Page<InterviewSession> findByStatus(InterviewSession.SessionStatus status, Pageable pageable);
     Page<InterviewSession> findByCandidate_Id(Long candidateId, Pageable pageable);
+    
+    long countByStatusAndCompletedAtGreaterThanEqual(InterviewSession.SessionStatus status, LocalDateTime since);
+    
+    long countByStatusAndStartedAtBefore(InterviewSession.SessionStatus status, LocalDateTime before);
+    
+    /**
+     * A session with everything its transcript shows and each of its turns in turn order (one row with a
+     * null turn when it has none), in one statement. Turns are joined on the partition key, so only the
+     * session's month of interview_turns is read.
+     */
+    @Query("SELECT s AS session, tr AS turn FROM InterviewSession s " +
+           "JOIN FETCH s.candidate JOIN FETCH s.template " +
+           "LEFT JOIN InterviewTurn tr ON tr.session = s AND tr.sessionStartedAt = s.startedAt " +
+           "WHERE s.sessionId = :sessionId " +
+           "ORDER BY tr.turnNumber")
+    List<TranscriptRow> findTranscriptRows(@Param("sessionId") String sessionId);
+    
+    @Query("SELECT s FROM InterviewSession s JOIN FETCH s.candidate JOIN FETCH s.template WHERE s.sessionId = :sessionId")
+    Optional<InterviewSession> findWithCandidateAndTemplateBySessionId(@Param("sessionId") String sessionId);
+    
+    @Query("SELECT s.sessionId FROM InterviewSession s WHERE s.status = :status")
+    List<String> findSessionIdsByStatus(@Param("status") InterviewSession.SessionStatus status);
+    
+    /**
+     * Sessions in a status starting in (from, to], ordered by (startedAt, id) and continuing after the
+     * given keyset, with everything a reminder needs fetched.
+     */
+    @Query("SELECT s FROM InterviewSession s JOIN FETCH s.candidate c LEFT JOIN FETCH c.user " +
+           "JOIN FETCH s.template t JOIN FETCH t.job " +
+           "WHERE s.status = :status AND s.startedAt > :from AND s.startedAt <= :to " +
+           "AND (s.startedAt > :afterStartedAt OR (s.startedAt = :afterStartedAt AND s.id > :afterId)) " +
+           "ORDER BY s.startedAt, s.id")
+    List<InterviewSession> findStartingBetween(@Param("status") InterviewSession.SessionStatus status,
+                                               @Param("from") LocalDateTime from,
+                                               @Param("to") LocalDateTime to,
+                                               @Param("afterStartedAt") LocalDateTime afterStartedAt,
+                                               @Param("afterId") Long afterId,
+                                               Limit limit);
+    
+    @Query("SELECT COUNT(DISTINCT s.candidate.id) FROM InterviewSession s")
+    long countDistinctCandidates();
+    
+    // Planner row estimate from pg_class; negative when the table has never been analyzed
+    @Query(value = "SELECT CAST(reltuples AS bigint) FROM pg_class WHERE oid = CAST('interview_sessions' AS regclass)",
+           nativeQuery = true)
+    Long estimateRowCount();
+    
+    /**
+     * Exact distinct candidates for a slice; null filters are ignored and [from, to) bounds the start time.
+     */
+    @Query("SELECT COUNT(DISTINCT s.candidate.id) FROM InterviewSession s JOIN s.template t " +
+           "WHERE (:jobId IS NULL OR t.job.id = :jobId) AND (:templateId IS NULL OR t.id = :templateId) " +
+           "AND (CAST(:from AS LocalDateTime) IS NULL OR s.startedAt >= :from) " +
+           "AND (CAST(:to AS LocalDateTime) IS NULL OR s.startedAt < :to)")
+    long countDistinctCandidates(@Param("jobId") Long jobId,
+                                 @Param("templateId") Long templateId,
+                                 @Param("from") LocalDateTime from,
+                                 @Param("to") LocalDateTime to);
+    
+    @Query(SNAPSHOT_SELECT)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<SnapshotRow> streamSnapshotRows();
+    
+    @Query(SNAPSHOT_SELECT + " WHERE s.id = :id")
+    Optional<SnapshotRow> findSnapshotRow(@Param("id") Long id);
+    
+    /**
+     * The reach of the sessions after {@code afterId} in id order, one chunk per call.
+     */
+    @Query(value = "SELECT s.id AS id, s.candidate_id AS candidateId, to_char(s.started_at, 'YYYY-MM-DD') AS day, " +
+                   "s.template_id AS templateId, t.job_id AS jobId " +
+                   "FROM interview_sessions s JOIN interview_templates t ON t.id = s.template_id " +
+                   "WHERE s.id > :afterId ORDER BY s.id LIMIT :limit",
+           nativeQuery = true)
+    List<CandidateReach> findCandidateReachAfter(@Param("afterId") long afterId, @Param("limit") int limit);
+    
+    // Aggregate queries returning projections only, so analytics never load the session entity graph
+    
+    @Query("SELECT s.status AS status, COUNT(s) AS total FROM InterviewSession s GROUP BY s.status")
+    List<StatusCount> countGroupedByStatus();
+    
+    @Query("SELECT s.status AS status, COUNT(s) AS total, SUM(COALESCE(s.totalTurns, 0)) AS turns " +
+           "FROM InterviewSession s WHERE s.template.id = :templateId GROUP BY s.status")
+    List<StatusTurnCount> countGroupedByStatusForTemplate(@Param("templateId") Long templateId);
+    
+    @Query("SELECT s.status AS status, COUNT(s) AS total, SUM(COALESCE(s.totalTurns, 0)) AS turns " +
+           "FROM InterviewSession s JOIN s.template t WHERE t.job.id = :jobId GROUP BY s.status")
+    List<StatusTurnCount> countGroupedByStatusForJob(@Param("jobId") Long jobId);
+    
+    @Query("SELECT s.status AS status, COUNT(s) AS total, SUM(COALESCE(s.totalTurns, 0)) AS turns " +
+           "FROM InterviewSession s WHERE s.candidate.id = :candidateId GROUP BY s.status")
+    List<StatusTurnCount> countGroupedByStatusForCandidate(@Param("candidateId") Long candidateId);
+    
+    @Query("SELECT t.name AS name, COUNT(s) AS total FROM InterviewSession s JOIN s.template t GROUP BY t.name")
+    List<NameCount> countGroupedByTemplateName();
+    
+    @Query("SELECT s.recommendation AS recommendation, COUNT(s) AS total FROM InterviewSession s " +
+           "WHERE s.status = :status AND s.recommendation IS NOT NULL GROUP BY s.recommendation")
+    List<RecommendationCount> countGroupedByRecommendation(@Param("status") InterviewSession.SessionStatus status);
+    
+    @Query(value = "SELECT to_char(started_at, 'YYYY-MM-DD') AS day, COUNT(*) AS total FROM interview_sessions " +
+                   "WHERE started_at >= :from AND started_at < :to " +
+                   "GROUP BY to_char(started_at, 'YYYY-MM-DD')",
+           nativeQuery = true)
+    List<DayCount> countStartedGroupedByDay(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+    
+    /**
+     * Sessions started per bucket of {@code unit} (a Postgres date_trunc field) in [from, to).
+     */
+    @Query(value = "SELECT to_char(date_trunc(CAST(:unit AS text), started_at), 'YYYY-MM-DD HH24:MI:SS') AS bucket, " +
+                   "COUNT(*) AS total FROM interview_sessions " +
+                   "WHERE started_at >= :from AND started_at < :to GROUP BY 1",
+           nativeQuery = true)
+    List<BucketCount> countStartedGroupedByBucket(@Param("unit") String unit,
+                                                  @Param("from") LocalDateTime from,
+                                                  @Param("to") LocalDateTime to);
+    
+    /**
+     * Sessions completed per bucket of {@code unit} (a Postgres date_trunc field) in [from, to).
+     */
+    @Query(value = "SELECT to_char(date_trunc(CAST(:unit AS text), completed_at), 'YYYY-MM-DD HH24:MI:SS') AS bucket, " +
+                   "COUNT(*) AS total FROM interview_sessions " +
+                   "WHERE status = 'COMPLETED' AND completed_at >= :from AND completed_at < :to GROUP BY 1",
+           nativeQuery = true)
+    List<BucketCount> countCompletedGroupedByBucket(@Param("unit") String unit,
+                                                    @Param("from") LocalDateTime from,
+                                                    @Param("to") LocalDateTime to);
+    
+    @Query(value = "SELECT AVG(TRUNC(EXTRACT(EPOCH FROM (completed_at - started_at)) / 60)) FROM interview_sessions " +
+                   "WHERE started_at IS NOT NULL AND completed_at IS NOT NULL",
+           nativeQuery = true)
+    Double averageDurationMinutes();
+    
+    @Query("SELECT AVG(s.totalTurns) FROM InterviewSession s")
+    Double averageTotalTurns();
+    
+    /**
+     * Average technical score per start day, where each session contributes its scorecard average
+     * (0 when it has no scored turns).
+     */
+    @Query(value = "SELECT to_char(started_at, 'YYYY-MM-DD') AS day, " +
+                   "AVG(COALESCE(technical_score_average, 0)) AS averageScore FROM interview_sessions " +
+                   "WHERE status = :status AND started_at >= :from AND started_at < :to " +
+                   "GROUP BY to_char(started_at, 'YYYY-MM-DD')",
+           nativeQuery = true)
+    List<DayScore> averageTechnicalScoreGroupedByDay(@Param("status") String status,
+                                                     @Param("from") LocalDateTime from,
+                                                     @Param("to") LocalDateTime to);
+    
+    /**
+     * Highest-scoring sessions first, at most {@code pageable.getPageSize()} rows. Pass the score and id of
+     * the last row seen as {@code afterScore}/{@code afterId} to continue the ranking (null for the first page).
+     */
+    @Query("SELECT s.id AS sessionId, c.id AS candidateId, c.firstName AS firstName, c.lastName AS lastName, " +
+           "s.recommendation AS recommendation, COALESCE(s.scorecard.technicalScoreAverage, 0.0) AS averageScore " +
+           "FROM InterviewSession s JOIN s.candidate c JOIN s.template t " +
+           "WHERE s.status = :status AND s.recommendation IN :recommendations " +
+           "AND (:jobId IS NULL OR t.job.id = :jobId) AND (:templateId IS NULL OR t.id = :templateId) " +
+           "AND (CAST(:from AS LocalDateTime) IS NULL OR s.startedAt >= :from) " +
+           "AND (CAST(:to AS LocalDateTime) IS NULL OR s.startedAt < :to) " +
+           "AND (:afterScore IS NULL OR COALESCE(s.scorecard.technicalScoreAverage, 0.0) < :afterScore " +
+           "OR (COALESCE(s.scorecard.technicalScoreAverage, 0.0) = :afterScore AND s.id > :afterId)) " +
+           "ORDER BY COALESCE(s.scorecard.technicalScoreAverage, 0.0) DESC, s.id ASC")
+    List<SessionScore> findHighestSessionScores(@Param("status") InterviewSession.SessionStatus status,
+                                              @Param("recommendations") Collection<InterviewSession.Recommendation> recommendations,
+                                              @Param("jobId") Long jobId,
+                                              @Param("templateId") Long templateId,
+                                              @Param("from") LocalDateTime from,
+                                              @Param("to") LocalDateTime to,
+                                              @Param("afterScore") Double afterScore,
+                                              @Param("afterId") Long afterId,
+                                              Pageable pageable);
+    
+    /**
+     * Lowest-scoring sessions first; the keyset counterpart of {@link #findHighestSessionScores}.
+     */
+    @Query("SELECT s.id AS sessionId, c.id AS candidateId, c.firstName AS firstName, c.lastName AS lastName, " +
+           "s.recommendation AS recommendation, COALESCE(s.scorecard.technicalScoreAverage, 0.0) AS averageScore " +
+           "FROM InterviewSession s JOIN s.candidate c JOIN s.template t " +
+           "WHERE s.status = :status AND s.recommendation IN :recommendations " +
+           "AND (:jobId IS NULL OR t.job.id = :jobId) AND (:templateId IS NULL OR t.id = :templateId) " +
+           "AND (CAST(:from AS LocalDateTime) IS NULL OR s.startedAt >= :from) " +
+           "AND (CAST(:to AS LocalDateTime) IS NULL OR s.startedAt < :to) " +
+           "AND (:afterScore IS NULL OR COALESCE(s.scorecard.technicalScoreAverage, 0.0) > :afterScore " +
+           "OR (COALESCE(s.scorecard.technicalScoreAverage, 0.0) = :afterScore AND s.id > :afterId)) " +
+           "ORDER BY COALESCE(s.scorecard.technicalScoreAverage, 0.0) ASC, s.id ASC")
+    List<SessionScore> findLowestSessionScores(@Param("status") InterviewSession.SessionStatus status,
+                                             @Param("recommendations") Collection<InterviewSession.Recommendation> recommendations,
+                                             @Param("jobId") Long jobId,
+                                             @Param("templateId") Long templateId,
+                                             @Param("from") LocalDateTime from,
+                                             @Param("to") LocalDateTime to,
+                                             @Param("afterScore") Double afterScore,
+                                             @Param("afterId") Long afterId,
+                                             Pageable pageable);
+    
+    /**
+     * Turn-weighted score averages read from the session scorecards.
+     */
+    @Query("SELECT SUM(s.scorecard.communicationScoreSum) / NULLIF(SUM(s.scorecard.communicationScoreCount), 0) AS communication, " +
+           "SUM(s.scorecard.technicalScoreSum) / NULLIF(SUM(s.scorecard.technicalScoreCount), 0) AS technical, " +
+           "SUM(s.scorecard.clarityScoreSum) / NULLIF(SUM(s.scorecard.clarityScoreCount), 0) AS clarity " +
+           "FROM InterviewSession s WHERE (:status IS NULL OR s.status = :status)")
+    ScoreAverages averageScores(@Param("status") InterviewSession.SessionStatus status);
+    
+    /**
+     * Recompute scorecards from interview_turns for sessions that have never been scored
+     * (rows created before the scorecard columns existed).
+     */
+    @Modifying
+    @Query(value = "UPDATE interview_sessions s SET " +
+                   "communication_score_sum = x.communication_sum, communication_score_count = x.communication_count, " +
+                   "communication_score_average = x.communication_average, " +
+                   "technical_score_sum = x.technical_sum, technical_score_count = x.technical_count, " +
+                   "technical_score_average = x.technical_average, " +
+                   "clarity_score_sum = x.clarity_sum, clarity_score_count = x.clarity_count, " +
+                   "clarity_score_average = x.clarity_average, " +
+                   "anti_cheat_signal_count = x.anti_cheat_count " +
+                   "FROM (SELECT s2.id AS session_id, s2.started_at AS started_at, " +
+                   "COALESCE(SUM(t.communication_score), 0) AS communication_sum, COUNT(t.communication_score) AS communication_count, " +
+                   "AVG(t.communication_score) AS communication_average, " +
+                   "COALESCE(SUM(t.technical_score), 0) AS technical_sum, COUNT(t.technical_score) AS technical_count, " +
+                   "AVG(t.technical_score) AS technical_average, " +
+                   "COALESCE(SUM(t.clarity_score), 0) AS clarity_sum, COUNT(t.clarity_score) AS clarity_count, " +
+                   "AVG(t.clarity_score) AS clarity_average, " +
+                   "COUNT(CASE WHEN t.has_anti_cheat_signal THEN 1 END) AS anti_cheat_count " +
+                   "FROM interview_sessions s2 LEFT JOIN interview_turns t " +
+                   "ON t.session_id = s2.id AND t.session_started_at = s2.started_at " +
+                   "WHERE s2.anti_cheat_signal_count IS NULL GROUP BY s2.id, s2.started_at) x " +
+                   "WHERE s.id = x.session_id AND s.started_at = x.started_at",
+           nativeQuery = true)
+    int backfillScorecards();
+    
+    interface StatusCount {
+        InterviewSession.SessionStatus getStatus();
+        Long getTotal();
+    }
+    
+    interface StatusTurnCount {
+        InterviewSession.SessionStatus getStatus();
+        Long getTotal();
+        Long getTurns();
+    }
+    
+    interface NameCount {
+        String getName();
+        Long getTotal();
+    }
+    
+    interface RecommendationCount {
+        InterviewSession.Recommendation getRecommendation();
+        Long getTotal();
+    }
+    
+    interface DayCount {
+        String getDay();
+        Long getTotal();
+    }
+    
+    interface ScoreAverages {
+        Double getCommunication();
+        Double getTechnical();
+        Double getClarity();
+    }
+    
+    interface SnapshotRow {
+        Long getId();
+        Long getCandidateId();
+        InterviewSession.SessionStatus getStatus();
+        Long getTemplateId();
+        String getTemplateName();
+        Long getJobId();
+        String getJobTitle();
+        Job.SeniorityLevel getSeniorityLevel();
+        InterviewSession.Recommendation getRecommendation();
+        LocalDateTime getStartedAt();
+        LocalDateTime getCompletedAt();
+        Integer getTotalTurns();
+        Double getTechnicalScore();
+    }
+    
+    interface TranscriptRow {
+        InterviewSession getSession();
+        InterviewTurn getTurn();
+    }
+    
+    interface CandidateReach {
+        Long getId();
+        Long getCandidateId();
+        String getDay();
+        Long getTemplateId();
+        Long getJobId();
+    }
+    
+    interface BucketCount {
+        String getBucket();
+        Long getTotal();
+    }
+    
+    interface DayScore {
+        String getDay();
+        Double getAverageScore();
+    }
+    
+    interface SessionScore {
+        Long getSessionId();
+        Long getCandidateId();
+        String getFirstName();
+        String getLastName();
+        InterviewSession.Recommendation getRecommendation();
+        Double getAverageScore();
+    }
 }
-
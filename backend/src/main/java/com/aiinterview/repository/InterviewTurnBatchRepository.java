@@ -0,0 +1,17 @@
+package com.aiinterview.repository;
+
+import com.aiinterview.model.InterviewTurn;
+
+import java.util.List;
+
+/**
+ * JDBC batch writes for interview turns, mixed into {@link InterviewTurnRepository}.
+ */
+public interface InterviewTurnBatchRepository {
+    
+    /**
+     * Insert the turns as one JDBC batch and set their generated ids. The turns are not attached to the
+     * persistence context.
+     */
+    void batchInsert(List<InterviewTurn> turns);
+}
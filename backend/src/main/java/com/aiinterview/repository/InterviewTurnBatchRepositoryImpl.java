@@ -0,0 +1,79 @@
+package com.aiinterview.repository;
+
+import com.aiinterview.model.InterviewTurn;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class InterviewTurnBatchRepositoryImpl implements InterviewTurnBatchRepository {
+    
+    private static final String INSERT_SQL = "INSERT INTO interview_turns (session_id, session_started_at, turn_number, question, answer, " +
+        "question_timestamp, answer_timestamp, answer_duration_ms, audio_url, ai_comment, communication_score, " +
+        "technical_score, clarity_score, has_anti_cheat_signal, anti_cheat_details, created_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public void batchInsert(List<InterviewTurn> turns) {
+        if (turns.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_SQL, new String[] {"id"}),
+            new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    InterviewTurn turn = turns.get(i);
+                    if (turn.getCreatedAt() == null) {
+                        turn.setCreatedAt(now);
+                    }
+                    if (turn.getSessionStartedAt() == null) {
+                        turn.setSessionStartedAt(turn.getSession().getStartedAt());
+                    }
+                    ps.setLong(1, turn.getSession().getId());
+                    ps.setTimestamp(2, timestamp(turn.getSessionStartedAt()));
+                    ps.setInt(3, turn.getTurnNumber());
+                    ps.setString(4, turn.getQuestion());
+                    ps.setString(5, turn.getAnswer());
+                    ps.setTimestamp(6, timestamp(turn.getQuestionTimestamp()));
+                    ps.setTimestamp(7, timestamp(turn.getAnswerTimestamp()));
+                    ps.setObject(8, turn.getAnswerDurationMs(), Types.BIGINT);
+                    ps.setString(9, turn.getAudioUrl());
+                    ps.setString(10, turn.getAiComment());
+                    ps.setObject(11, turn.getCommunicationScore(), Types.DOUBLE);
+                    ps.setObject(12, turn.getTechnicalScore(), Types.DOUBLE);
+                    ps.setObject(13, turn.getClarityScore(), Types.DOUBLE);
+                    ps.setBoolean(14, Boolean.TRUE.equals(turn.getHasAntiCheatSignal()));
+                    ps.setString(15, turn.getAntiCheatDetails());
+                    ps.setTimestamp(16, timestamp(turn.getCreatedAt()));
+                }
+                
+                @Override
+                public int getBatchSize() {
+                    return turns.size();
+                }
+            }, keys);
+        
+        List<Map<String, Object>> generated = keys.getKeyList();
+        for (int i = 0; i < turns.size(); i++) {
+            turns.get(i).setId(((Number) generated.get(i).get("id")).longValue());
+        }
+    }
+    
+    private static Timestamp timestamp(LocalDateTime value) {
+        return value != null ? Timestamp.valueOf(value) : null;
+    }
+}
@@ -1,13 +1,45 @@
 package com.aiinterview.repository;
 
 import com.aiinterview.model.InterviewTurn;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface InterviewTurnRepository extends JpaRepository<InterviewTurn, Long> {
+public interface InterviewTurnRepository extends JpaRepository<InterviewTurn, Long>, InterviewTurnBatchRepository {
     List<InterviewTurn> findBySession_IdOrderByTurnNumberAsc(Long sessionId);
+    
+    /**
+     * Turns of a session, read from the single partition holding them.
+     */
+    List<InterviewTurn> findBySession_IdAndSessionStartedAtOrderByTurnNumberAsc(Long sessionId, LocalDateTime sessionStartedAt);
+    
+    /**
+     * The next turns of a session after the given turn number, as projections rather than managed
+     * entities, so a reader walking a long transcript only holds one page at a time.
+     */
+    @Query("SELECT t.turnNumber AS turnNumber, t.question AS question, t.answer AS answer, " +
+           "t.questionTimestamp AS questionTimestamp, t.aiComment AS aiComment FROM InterviewTurn t " +
+           "WHERE t.session.id = :sessionId AND t.sessionStartedAt = :startedAt AND t.turnNumber > :afterTurnNumber " +
+           "ORDER BY t.turnNumber")
+    List<TranscriptTurnRow> findTranscriptPage(@Param("sessionId") Long sessionId,
+                                               @Param("startedAt") LocalDateTime startedAt,
+                                               @Param("afterTurnNumber") int afterTurnNumber,
+                                               Limit limit);
+    
+    @Query("SELECT MAX(t.turnNumber) FROM InterviewTurn t WHERE t.session.id = :sessionId AND t.sessionStartedAt = :startedAt")
+    Integer findMaxTurnNumber(@Param("sessionId") Long sessionId, @Param("startedAt") LocalDateTime startedAt);
+    
+    interface TranscriptTurnRow {
+        Integer getTurnNumber();
+        String getQuestion();
+        String getAnswer();
+        LocalDateTime getQuestionTimestamp();
+        String getAiComment();
+    }
 }
-
@@ -17,11 +17,20 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     
     Page<Job> findByActiveTrue(Pageable pageable);
     
+    long countByActiveTrue();
+    
+    @Query("SELECT j.seniorityLevel AS seniorityLevel, COUNT(j) AS total FROM Job j WHERE j.active = true GROUP BY j.seniorityLevel")
+    List<SeniorityCount> countActiveGroupedBySeniority();
+    
     @Query("SELECT j FROM Job j WHERE " +
            "j.active = true AND " +
            "(:search IS NULL OR " +
            "LOWER(j.title) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
            "LOWER(j.description) LIKE LOWER(CONCAT('%', :search, '%')))")
     Page<Job> findActiveWithSearch(@Param("search") String search, Pageable pageable);
+    
+    interface SeniorityCount {
+        Job.SeniorityLevel getSeniorityLevel();
+        Long getTotal();
+    }
 }
-
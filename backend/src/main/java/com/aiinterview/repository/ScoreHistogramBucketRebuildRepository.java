@@ -0,0 +1,15 @@
+package com.aiinterview.repository;
+
+/**
+ * Histogram rebuild from interview_turns, mixed into {@link ScoreHistogramBucketRepository}.
+ */
+public interface ScoreHistogramBucketRebuildRepository {
+    
+    /**
+     * Insert the buckets of every turn with one grouped {@code INSERT ... SELECT}; the table is expected
+     * to be empty.
+     *
+     * @return the number of buckets inserted
+     */
+    int rebuildFromTurns();
+}
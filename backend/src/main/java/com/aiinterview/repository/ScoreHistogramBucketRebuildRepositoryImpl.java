@@ -0,0 +1,56 @@
+package com.aiinterview.repository;
+
+import com.aiinterview.model.ScoreHistogramBucket;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class ScoreHistogramBucketRebuildRepositoryImpl implements ScoreHistogramBucketRebuildRepository {
+    
+    private static final String REBUILD_SQL = "INSERT INTO analytics_score_histograms " +
+        "(histogram_date, template_id, job_id, metric, bucket_index, bucket_count) " +
+        "SELECT CAST(s.started_at AS date), s.template_id, tpl.job_id, v.metric, width_bucket(v.value, v.bounds), COUNT(*) " +
+        "FROM interview_turns t " +
+        "JOIN interview_sessions s ON s.id = t.session_id AND s.started_at = t.session_started_at " +
+        "JOIN interview_templates tpl ON tpl.id = s.template_id " +
+        "CROSS JOIN LATERAL (VALUES %s) AS v (metric, value, bounds) " +
+        "WHERE v.value IS NOT NULL " +
+        "GROUP BY 1, 2, 3, 4, 5";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public int rebuildFromTurns() {
+        // width_bucket counts the bounds <= value, which is Metric.bucketOf given the same bounds
+        String metrics = List.of(ScoreHistogramBucket.Metric.values()).stream()
+            .map(metric -> String.format("('%s', CAST(t.%s AS double precision), CAST(ARRAY[%s] AS double precision[]))",
+                metric.name(), column(metric), bounds(metric)))
+            .collect(Collectors.joining(", "));
+        return jdbcTemplate.update(String.format(REBUILD_SQL, metrics));
+    }
+    
+    private static String column(ScoreHistogramBucket.Metric metric) {
+        switch (metric) {
+            case COMMUNICATION:
+                return "communication_score";
+            case TECHNICAL:
+                return "technical_score";
+            case CLARITY:
+                return "clarity_score";
+            default:
+                return "answer_duration_ms";
+        }
+    }
+    
+    private static String bounds(ScoreHistogramBucket.Metric metric) {
+        List<String> bounds = new ArrayList<>();
+        for (int bucket = 0; bucket < metric.bucketCount() - 1; bucket++) {
+            bounds.add(Double.toString(metric.upperBound(bucket)));
+        }
+        return String.join(", ", bounds);
+    }
+}
@@ -0,0 +1,59 @@
+package com.aiinterview.repository;
+
+import com.aiinterview.model.ScoreHistogramBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ScoreHistogramBucketRepository extends JpaRepository<ScoreHistogramBucket, Long>,
+        ScoreHistogramBucketRebuildRepository {
+    
+    @Modifying
+    @Query(value = "INSERT INTO analytics_score_histograms " +
+                   "(histogram_date, template_id, job_id, metric, bucket_index, bucket_count) " +
+                   "VALUES (:day, :templateId, :jobId, :metric, :bucketIndex, :delta) " +
+                   "ON CONFLICT (histogram_date, template_id, job_id, metric, bucket_index) DO UPDATE SET " +
+                   "bucket_count = analytics_score_histograms.bucket_count + EXCLUDED.bucket_count",
+           nativeQuery = true)
+    void increment(@Param("day") LocalDate day,
+                   @Param("templateId") Long templateId,
+                   @Param("jobId") Long jobId,
+                   @Param("metric") String metric,
+                   @Param("bucketIndex") int bucketIndex,
+                   @Param("delta") long delta);
+    
+    /**
+     * Merged histogram for a metric; null filters are ignored and the date range is inclusive.
+     */
+    @Query("SELECT h.bucketIndex AS bucketIndex, SUM(h.bucketCount) AS total FROM ScoreHistogramBucket h " +
+           "WHERE h.metric = :metric " +
+           "AND (:templateId IS NULL OR h.templateId = :templateId) AND (:jobId IS NULL OR h.jobId = :jobId) " +
+           "AND (CAST(:from AS LocalDate) IS NULL OR h.histogramDate >= :from) " +
+           "AND (CAST(:to AS LocalDate) IS NULL OR h.histogramDate <= :to) " +
+           "GROUP BY h.bucketIndex")
+    List<BucketTotal> sumByBucket(@Param("metric") ScoreHistogramBucket.Metric metric,
+                                  @Param("templateId") Long templateId,
+                                  @Param("jobId") Long jobId,
+                                  @Param("from") LocalDate from,
+                                  @Param("to") LocalDate to);
+    
+    /**
+     * Block increments until the current transaction ends; readers are not blocked. A rebuild takes it
+     * before recounting, so an increment can neither be wiped by the delete nor collide with the reinsert:
+     * it either committed before the recount read interview_turns or applies on top of the new rows.
+     */
+    @Modifying
+    @Query(value = "LOCK TABLE analytics_score_histograms IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockForRebuild();
+    
+    interface BucketTotal {
+        Integer getBucketIndex();
+        Long getTotal();
+    }
+}
@@ -0,0 +1,295 @@
+package com.aiinterview.service;
+
+import com.aiinterview.event.AnalyticsChangeEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Two-tier cache for analytics responses: an in-process map in front of Redis.
+ * <p>
+ * Each entry declares the {@link Scope}s of data it is computed from. Entries are fresh for
+ * {@code analytics.cache.ttl-seconds}, or until an {@link AnalyticsChangeEvent} touches one of their
+ * scopes. A stale entry is still served (for up to {@code analytics.cache.max-stale-seconds}) while a
+ * background refresh recomputes it. Concurrent loads of the same key share one computation. The in-process
+ * tier holds at most {@code analytics.cache.max-entries} keys and drops the least recently read beyond that,
+ * since keys carry caller-supplied ranges.
+ * <p>
+ * Shared copies are stored under a key carrying the Redis version of each of their scopes. An event only
+ * bumps a local counter on the committing thread; the Redis versions are bumped by a flush that runs
+ * {@code analytics.cache.invalidation-delay-ms} later and covers every event of that window, so a burst
+ * of turn writes costs one INCR per scope instead of Redis work per turn.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AnalyticsCacheService {
+    
+    private static final String KEY_PREFIX = "analytics:cache:";
+    private static final String VERSION_PREFIX = "analytics:cache-version:";
+    
+    /**
+     * The kinds of data a cached response is computed from.
+     */
+    public enum Scope {
+        SESSIONS, TURNS, CANDIDATES, JOBS
+    }
+    
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Executor analyticsExecutor;
+    private final TaskScheduler taskScheduler;
+    
+    @Value("${analytics.cache.ttl-seconds:60}")
+    private long ttlSeconds;
+    
+    @Value("${analytics.cache.max-stale-seconds:600}")
+    private long maxStaleSeconds;
+    
+    @Value("${analytics.cache.invalidation-delay-ms:1000}")
+    private long invalidationDelayMs;
+    
+    @Value("${analytics.cache.max-entries:1000}")
+    private int maxEntries;
+    
+    // Access-ordered, so the eldest entry is the least recently read one
+    private final Map<String, CacheEntry> entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+            return size() > maxEntries;
+        }
+    });
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<Scope, AtomicLong> generations = generations();
+    private final Set<Scope> pendingScopes = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    
+    private record CacheEntry(Object value, long computedAtMillis, long generation) {
+    }
+    
+    /**
+     * Return the cached value for {@code key}, computing it with {@code loader} when absent or too stale.
+     */
+    public <T> T get(String key, Set<Scope> scopes, Class<T> type, Supplier<T> loader) {
+        return get(key, scopes, type, loader, value -> true);
+    }
+    
+    /**
+     * Like {@link #get(String, Set, Class, Supplier)}, but values rejected by {@code cacheable} (e.g.
+     * partial results) are returned to the caller without being stored.
+     */
+    public <T> T get(String key, Set<Scope> scopes, Class<T> type, Supplier<T> loader, Predicate<T> cacheable) {
+        long now = System.currentTimeMillis();
+        CacheEntry entry = entries.get(key);
+        if (entry != null) {
+            boolean fresh = entry.generation() == generation(scopes)
+                && now - entry.computedAtMillis() < ttlSeconds * 1000;
+            if (fresh) {
+                return type.cast(entry.value());
+            }
+            if (now - entry.computedAtMillis() < maxStaleSeconds * 1000) {
+                refreshAsync(key, scopes, type, loader, cacheable);
+                return type.cast(entry.value());
+            }
+        } else {
+            long startGeneration = generation(scopes);
+            T shared = readShared(key, scopes, type);
+            if (shared != null) {
+                entries.put(key, new CacheEntry(shared, now, startGeneration));
+                return shared;
+            }
+        }
+        return type.cast(load(key, scopes, type, loader, cacheable));
+    }
+    
+    /**
+     * Mark the entries computed from any of {@code scopes} stale, here at once and on other instances
+     * with the next flush.
+     */
+    public void invalidate(Set<Scope> scopes) {
+        if (scopes.isEmpty()) {
+            return;
+        }
+        scopes.forEach(scope -> generations.get(scope).incrementAndGet());
+        pendingScopes.addAll(scopes);
+        if (flushScheduled.compareAndSet(false, true)) {
+            try {
+                taskScheduler.schedule(this::flushInvalidations, Instant.now().plusMillis(invalidationDelayMs));
+            } catch (RuntimeException e) {
+                flushScheduled.set(false);
+                log.debug("Failed to schedule analytics cache invalidation: {}", e.getMessage());
+            }
+        }
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAnalyticsChange(AnalyticsChangeEvent event) {
+        invalidate(scopesOf(event.type()));
+    }
+    
+    static Set<Scope> scopesOf(AnalyticsChangeEvent.Type type) {
+        return switch (type) {
+            case SESSION_CREATED, SESSION_STATUS_CHANGED, SESSION_UPDATED, SESSION_DELETED -> EnumSet.of(Scope.SESSIONS);
+            case TURN_CHANGED -> EnumSet.of(Scope.TURNS);
+            case CANDIDATE_CHANGED -> EnumSet.of(Scope.CANDIDATES);
+            case JOB_CHANGED -> EnumSet.of(Scope.JOBS);
+        };
+    }
+    
+    private void flushInvalidations() {
+        // Clear the flag first: an event arriving during the flush schedules the next one
+        flushScheduled.set(false);
+        Set<Scope> scopes = EnumSet.noneOf(Scope.class);
+        for (Scope scope : Scope.values()) {
+            if (pendingScopes.remove(scope)) {
+                scopes.add(scope);
+            }
+        }
+        try {
+            for (Scope scope : scopes) {
+                stringRedisTemplate.opsForValue().increment(VERSION_PREFIX + scope.name().toLowerCase());
+            }
+        } catch (Exception e) {
+            // Other instances' shared copies then expire with their TTL
+            log.debug("Failed to invalidate shared analytics cache: {}", e.getMessage());
+        }
+    }
+    
+    private <T> Object load(String key, Set<Scope> scopes, Class<T> type, Supplier<T> loader, Predicate<T> cacheable) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+        try {
+            long startGeneration = generation(scopes);
+            // Versions as of the start: a copy computed across an invalidation lands under an outdated key
+            String sharedKey = sharedKey(key, scopes);
+            long start = System.currentTimeMillis();
+            T value = loader.get();
+            if (cacheable.test(value)) {
+                entries.put(key, new CacheEntry(value, start, startGeneration));
+                // A write that landed mid-computation already bumped the generation; don't publish a stale value
+                if (sharedKey != null && startGeneration == generation(scopes)) {
+                    writeShared(sharedKey, value);
+                }
+            }
+            future.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+    
+    private <T> void refreshAsync(String key, Set<Scope> scopes, Class<T> type, Supplier<T> loader,
+                                  Predicate<T> cacheable) {
+        if (inFlight.containsKey(key)) {
+            return;
+        }
+        try {
+            analyticsExecutor.execute(() -> {
+                try {
+                    load(key, scopes, type, loader, cacheable);
+                } catch (Exception e) {
+                    log.warn("Background refresh of analytics cache key {} failed: {}", key, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Analytics refresh queue full, serving stale value for {}", key);
+        }
+    }
+    
+    private long generation(Set<Scope> scopes) {
+        // Counters only grow, so the sum changes whenever one of them does
+        long generation = 0;
+        for (Scope scope : scopes) {
+            generation += generations.get(scope).get();
+        }
+        return generation;
+    }
+    
+    /**
+     * The Redis key of the shared copy for the current versions of {@code scopes}, or null if Redis is
+     * unavailable.
+     */
+    private String sharedKey(String key, Set<Scope> scopes) {
+        List<Scope> ordered = scopes.stream().sorted().toList();
+        try {
+            List<String> versions = stringRedisTemplate.opsForValue().multiGet(ordered.stream()
+                .map(scope -> VERSION_PREFIX + scope.name().toLowerCase())
+                .toList());
+            if (versions == null) {
+                return null;
+            }
+            return KEY_PREFIX + key + ":" + versions.stream()
+                .map(version -> version != null ? version : "0")
+                .collect(Collectors.joining("."));
+        } catch (Exception e) {
+            log.debug("Failed to read analytics cache versions from Redis: {}", e.getMessage());
+            return null;
+        }
+    }
+    
+    private <T> T readShared(String key, Set<Scope> scopes, Class<T> type) {
+        String sharedKey = sharedKey(key, scopes);
+        if (sharedKey == null) {
+            return null;
+        }
+        try {
+            String json = stringRedisTemplate.opsForValue().get(sharedKey);
+            return json != null ? objectMapper.readValue(json, type) : null;
+        } catch (Exception e) {
+            log.debug("Failed to read analytics cache key {} from Redis: {}", key, e.getMessage());
+            return null;
+        }
+    }
+    
+    private void writeShared(String sharedKey, Object value) {
+        try {
+            stringRedisTemplate.opsForValue().set(sharedKey, objectMapper.writeValueAsString(value),
+                Duration.ofSeconds(ttlSeconds));
+        } catch (Exception e) {
+            log.debug("Failed to write analytics cache key {} to Redis: {}", sharedKey, e.getMessage());
+        }
+    }
+    
+    private static Map<Scope, AtomicLong> generations() {
+        Map<Scope, AtomicLong> generations = new EnumMap<>(Scope.class);
+        for (Scope scope : Scope.values()) {
+            generations.put(scope, new AtomicLong());
+        }
+        return generations;
+    }
+}
@@ -0,0 +1,203 @@
+package com.aiinterview.service;
+
+import com.aiinterview.model.Candidate;
+import com.aiinterview.model.DailyCandidateRollup;
+import com.aiinterview.model.InterviewSession;
+import com.aiinterview.repository.DailyCandidateRollupRepository;
+import com.aiinterview.repository.DailySessionRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the daily analytics rollups (sessions by day x status x template x job, candidates by day).
+ * Writers call the record* methods inside their own transaction so the rollup stays consistent with the
+ * source rows; readers get dashboard numbers whose cost depends on the number of days, not sessions.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AnalyticsRollupService {
+    
+    private final DailySessionRollupRepository sessionRollupRepository;
+    private final DailyCandidateRollupRepository candidateRollupRepository;
+    
+    /**
+     * The slice of the rollup a session currently counts towards.
+     */
+    public record Contribution(LocalDate day, InterviewSession.SessionStatus status, Long templateId, Long jobId,
+                               Long durationMinutes) {
+    }
+    
+    /**
+     * Capture the session's current rollup slice. Take it before mutating the session and pass it to
+     * {@link #recordChange(Contribution, InterviewSession)} afterwards.
+     */
+    public Contribution snapshot(InterviewSession session) {
+        if (session.getStartedAt() == null || session.getStatus() == null || session.getTemplate() == null) {
+            return null;
+        }
+        Long durationMinutes = null;
+        if (session.getStatus() == InterviewSession.SessionStatus.COMPLETED && session.getCompletedAt() != null) {
+            durationMinutes = Duration.between(session.getStartedAt(), session.getCompletedAt()).toMinutes();
+        }
+        return new Contribution(
+            session.getStartedAt().toLocalDate(),
+            session.getStatus(),
+            session.getTemplate().getId(),
+            session.getTemplate().getJob().getId(),
+            durationMinutes
+        );
+    }
+    
+    @Transactional
+    public void recordSessionCreated(InterviewSession session) {
+        apply(snapshot(session), 1);
+    }
+    
+    @Transactional
+    public void recordSessionDeleted(InterviewSession session) {
+        apply(snapshot(session), -1);
+    }
+    
+    @Transactional
+    public void recordChange(Contribution before, InterviewSession session) {
+        Contribution after = snapshot(session);
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        apply(before, -1);
+        apply(after, 1);
+    }
+    
+    /**
+     * Record a bulk status change of sessions whose slices were {@code before}. Neither side may be
+     * COMPLETED, since bulk changes carry no durations.
+     */
+    @Transactional
+    public void recordStatusChanges(Collection<Contribution> before, InterviewSession.SessionStatus status) {
+        Map<Contribution, Long> counts = before.stream()
+            .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        counts.forEach((contribution, count) -> {
+            apply(contribution, -count);
+            apply(new Contribution(contribution.day(), status, contribution.templateId(), contribution.jobId(), null), count);
+        });
+    }
+    
+    @Transactional
+    public void recordCandidateCreated(Candidate candidate) {
+        if (candidate.getCreatedAt() != null) {
+            candidateRollupRepository.increment(candidate.getCreatedAt().toLocalDate(), 1);
+        }
+    }
+    
+    @Transactional
+    public void recordCandidateDeleted(Candidate candidate) {
+        if (candidate.getCreatedAt() != null) {
+            candidateRollupRepository.increment(candidate.getCreatedAt().toLocalDate(), -1);
+        }
+    }
+    
+    private void apply(Contribution contribution, long sessions) {
+        if (contribution == null) {
+            return;
+        }
+        boolean hasDuration = contribution.durationMinutes() != null;
+        sessionRollupRepository.increment(
+            contribution.day(),
+            contribution.status().name(),
+            contribution.templateId(),
+            contribution.jobId(),
+            sessions,
+            hasDuration ? sessions * contribution.durationMinutes() : 0L,
+            hasDuration ? sessions : 0L
+        );
+    }
+    
+    public long getTotalSessions() {
+        return sessionRollupRepository.sumSessions();
+    }
+    
+    public long getTotalCandidates() {
+        return candidateRollupRepository.sumCandidates();
+    }
+    
+    public Map<InterviewSession.SessionStatus, Long> getSessionsByStatus() {
+        Map<InterviewSession.SessionStatus, Long> totals = new EnumMap<>(InterviewSession.SessionStatus.class);
+        for (DailySessionRollupRepository.StatusTotal row : sessionRollupRepository.sumByStatus()) {
+            totals.put(row.getStatus(), row.getTotal());
+        }
+        return totals;
+    }
+    
+    public double getAverageCompletedDurationMinutes() {
+        DailySessionRollupRepository.DurationTotal total =
+            sessionRollupRepository.sumDurationByStatus(InterviewSession.SessionStatus.COMPLETED);
+        return total.getSessions() > 0 ? (double) total.getDurationMinutes() / total.getSessions() : 0.0;
+    }
+    
+    /**
+     * Sessions started per day in [from, to], with every day present (zero-filled) and in order.
+     */
+    public Map<LocalDate, Long> getSessionsByDay(LocalDate from, LocalDate to) {
+        Map<LocalDate, Long> byDay = zeroFilledDays(from, to);
+        for (DailySessionRollupRepository.DayTotal row : sessionRollupRepository.sumByDay(from, to)) {
+            byDay.put(row.getDay(), row.getTotal());
+        }
+        return byDay;
+    }
+    
+    /**
+     * Candidates created per day in [from, to], with every day present (zero-filled) and in order.
+     */
+    public Map<LocalDate, Long> getCandidatesByDay(LocalDate from, LocalDate to) {
+        Map<LocalDate, Long> byDay = zeroFilledDays(from, to);
+        for (DailyCandidateRollup row : candidateRollupRepository.findByRollupDateBetweenOrderByRollupDateAsc(from, to)) {
+            byDay.put(row.getRollupDate(), row.getCandidateCount());
+        }
+        return byDay;
+    }
+    
+    private Map<LocalDate, Long> zeroFilledDays(LocalDate from, LocalDate to) {
+        Map<LocalDate, Long> byDay = new LinkedHashMap<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            byDay.put(date, 0L);
+        }
+        return byDay;
+    }
+    
+    /**
+     * Recompute both rollups from the source tables. Used to seed an empty store and as a nightly
+     * reconciliation in case an out-of-band write bypassed the services.
+     *
+     * @return the number of rollup rows written
+     */
+    @Transactional
+    public int rebuild() {
+        LocalDateTime start = LocalDateTime.now();
+        // Writers wait for the rebuild instead of racing it
+        sessionRollupRepository.lockForRebuild();
+        sessionRollupRepository.deleteAllInBatch();
+        int rows = sessionRollupRepository.rebuildFromSessions();
+        candidateRollupRepository.deleteAllInBatch();
+        rows += candidateRollupRepository.rebuildFromCandidates();
+        log.info("Rebuilt analytics rollups in {} ms", Duration.between(start, LocalDateTime.now()).toMillis());
+        return rows;
+    }
+    
+    public boolean isEmpty() {
+        return sessionRollupRepository.count() == 0 && candidateRollupRepository.count() == 0;
+    }
+}
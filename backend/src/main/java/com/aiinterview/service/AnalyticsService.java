@@ -2,12 +2,8 @@ package com.aiinterview.service;
 
 import com.aiinterview.dto.*;
 import com.aiinterview.model.InterviewSession;
-import com.aiinterview.model.InterviewTurn;
-import com.aiinterview.model.InterviewSession;
-import com.aiinterview.model.InterviewTurn;
 import com.aiinterview.repository.CandidateRepository;
 import com.aiinterview.repository.InterviewSessionRepository;
-import com.aiinterview.repository.InterviewTurnRepository;
 import com.aiinterview.repository.JobRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -16,182 +12,193 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class AnalyticsService {
     
+    // The data each cached response is computed from; turn writes only invalidate the score-based ones
+    private static final Set<AnalyticsCacheService.Scope> DASHBOARD_SCOPES = EnumSet.of(
+        AnalyticsCacheService.Scope.SESSIONS, AnalyticsCacheService.Scope.CANDIDATES, AnalyticsCacheService.Scope.JOBS);
+    private static final Set<AnalyticsCacheService.Scope> INTERVIEW_SCOPES = EnumSet.of(
+        AnalyticsCacheService.Scope.SESSIONS, AnalyticsCacheService.Scope.TURNS);
+    private static final Set<AnalyticsCacheService.Scope> CANDIDATE_SCOPES = EnumSet.of(
+        AnalyticsCacheService.Scope.SESSIONS, AnalyticsCacheService.Scope.TURNS, AnalyticsCacheService.Scope.CANDIDATES);
+    private static final Set<AnalyticsCacheService.Scope> TREND_SCOPES = EnumSet.of(
+        AnalyticsCacheService.Scope.SESSIONS, AnalyticsCacheService.Scope.CANDIDATES);
+    private static final Set<AnalyticsCacheService.Scope> JOB_SCOPES = EnumSet.of(
+        AnalyticsCacheService.Scope.SESSIONS, AnalyticsCacheService.Scope.CANDIDATES, AnalyticsCacheService.Scope.JOBS);
+    
     private final InterviewSessionRepository sessionRepository;
-    private final InterviewTurnRepository turnRepository;
     private final CandidateRepository candidateRepository;
     private final JobRepository jobRepository;
+    private final AnalyticsRollupService rollupService;
+    private final AnalyticsTrendService trendService;
+    private final AnalyticsCacheService cacheService;
+    private final CandidateRankingService rankingService;
+    private final CandidateReachService reachService;
+    private final QueryFanOutService fanOutService;
+    private final EntityStatisticsService statisticsService;
     
     public DashboardStatisticsResponse getDashboardStatistics() {
-        long totalCandidates = candidateRepository.count();
-        long totalJobs = jobRepository.count();
-        long totalInterviews = sessionRepository.count();
-        
-        long activeInterviews = sessionRepository.findByStatus(InterviewSession.SessionStatus.IN_PROGRESS).size();
-        long completedInterviews = sessionRepository.findByStatus(InterviewSession.SessionStatus.COMPLETED).size();
-        long pendingInterviews = sessionRepository.findByStatus(InterviewSession.SessionStatus.PENDING).size();
-        
-        double completionRate = totalInterviews > 0 
-            ? (double) completedInterviews / totalInterviews * 100 
-            : 0.0;
-        
-        // Calculate average interview duration
-        List<InterviewSession> completedSessions = sessionRepository.findByStatus(InterviewSession.SessionStatus.COMPLETED);
-        double averageDuration = completedSessions.stream()
-            .filter(s -> s.getStartedAt() != null && s.getCompletedAt() != null)
-            .mapToLong(s -> java.time.Duration.between(s.getStartedAt(), s.getCompletedAt()).toMinutes())
-            .average()
-            .orElse(0.0);
+        return cacheService.get("dashboard", DASHBOARD_SCOPES, DashboardStatisticsResponse.class,
+            () -> computeDashboardStatistics(null), stats -> !stats.getMetadata().isPartial());
+    }
+    
+    public DashboardStatisticsResponse getDashboardStatistics(QueryFanOutService.Mode mode) {
+        return cacheService.get("dashboard:" + mode, DASHBOARD_SCOPES, DashboardStatisticsResponse.class,
+            () -> computeDashboardStatistics(mode), stats -> !stats.getMetadata().isPartial());
+    }
+    
+    /**
+     * The dashboard is a set of independent lookups; they run as fan-out segments so a slow or failing one
+     * only blanks its own fields.
+     */
+    private DashboardStatisticsResponse computeDashboardStatistics(QueryFanOutService.Mode mode) {
+        LocalDate today = LocalDate.now();
+        QueryFanOutService.Segment<Long> totalCandidates =
+            fanOutService.segment("totalCandidates", rollupService::getTotalCandidates);
+        QueryFanOutService.Segment<Long> totalJobs =
+            fanOutService.segment("totalJobs", jobRepository::count);
+        QueryFanOutService.Segment<Long> totalInterviews =
+            fanOutService.segment("totalInterviews", rollupService::getTotalSessions);
+        QueryFanOutService.Segment<Map<InterviewSession.SessionStatus, Long>> sessionsByStatus =
+            fanOutService.segment("sessionsByStatus", rollupService::getSessionsByStatus);
+        // Average interview duration of completed sessions
+        QueryFanOutService.Segment<Double> averageDuration =
+            fanOutService.segment("averageInterviewDuration", rollupService::getAverageCompletedDurationMinutes);
+        // Interviews by day (last 7 days)
+        QueryFanOutService.Segment<Map<LocalDate, Long>> sessionsByDay =
+            fanOutService.segment("interviewsByDay", () -> rollupService.getSessionsByDay(today.minusDays(6), today));
+        // Candidates by month (last 6 months)
+        QueryFanOutService.Segment<Map<String, Long>> candidatesByMonth =
+            fanOutService.segment("candidatesByMonth", () -> getCandidatesByMonth(6));
+        
+        List<QueryFanOutService.Segment<?>> segments = List.of(totalCandidates, totalJobs, totalInterviews,
+            sessionsByStatus, averageDuration, sessionsByDay, candidatesByMonth);
+        QueryTimingMetadata metadata = mode != null ? fanOutService.run(mode, segments) : fanOutService.run(segments);
+        
+        Map<InterviewSession.SessionStatus, Long> byStatus = sessionsByStatus.valueOr(Map.of());
+        long completedInterviews = byStatus.getOrDefault(InterviewSession.SessionStatus.COMPLETED, 0L);
+        long interviews = totalInterviews.valueOr(0L);
+        Double completionRate = null;
+        if (totalInterviews.succeeded() && sessionsByStatus.succeeded()) {
+            completionRate = interviews > 0 ? (double) completedInterviews / interviews * 100 : 0.0;
+        }
         
         // Interviews by status
-        Map<String, Long> interviewsByStatus = sessionRepository.findAll().stream()
-            .collect(Collectors.groupingBy(
-                s -> s.getStatus().name(),
-                Collectors.counting()
-            ));
-        
-        // Interviews by day (last 7 days)
-        Map<String, Long> interviewsByDay = new LinkedHashMap<>();
-        for (int i = 6; i >= 0; i--) {
-            LocalDate date = LocalDate.now().minusDays(i);
-            long count = sessionRepository.findAll().stream()
-                .filter(s -> s.getStartedAt() != null && 
-                    s.getStartedAt().toLocalDate().equals(date))
-                .count();
-            interviewsByDay.put(date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")), count);
+        Map<String, Long> interviewsByStatus = null;
+        if (sessionsByStatus.succeeded()) {
+            interviewsByStatus = new LinkedHashMap<>();
+            for (Map.Entry<InterviewSession.SessionStatus, Long> entry : byStatus.entrySet()) {
+                if (entry.getValue() > 0) {
+                    interviewsByStatus.put(entry.getKey().name(), entry.getValue());
+                }
+            }
         }
         
-        // Candidates by month (last 6 months)
-        Map<String, Long> candidatesByMonth = new LinkedHashMap<>();
-        for (int i = 5; i >= 0; i--) {
-            LocalDate monthStart = LocalDate.now().minusMonths(i).withDayOfMonth(1);
-            String monthKey = monthStart.format(DateTimeFormatter.ofPattern("yyyy-MM"));
-            long count = candidateRepository.findAll().stream()
-                .filter(c -> c.getCreatedAt() != null && 
-                    c.getCreatedAt().toLocalDate().isAfter(monthStart.minusDays(1)) &&
-                    c.getCreatedAt().toLocalDate().isBefore(monthStart.plusMonths(1)))
-                .count();
-            candidatesByMonth.put(monthKey, count);
+        Map<String, Long> interviewsByDay = null;
+        if (sessionsByDay.succeeded()) {
+            interviewsByDay = new LinkedHashMap<>();
+            for (Map.Entry<LocalDate, Long> entry : sessionsByDay.value().entrySet()) {
+                interviewsByDay.put(entry.getKey().format(DateTimeFormatter.ofPattern("yyyy-MM-dd")), entry.getValue());
+            }
         }
         
         return DashboardStatisticsResponse.builder()
-            .totalCandidates(totalCandidates)
-            .totalJobs(totalJobs)
-            .totalInterviews(totalInterviews)
-            .activeInterviews(activeInterviews)
-            .completedInterviews(completedInterviews)
-            .pendingInterviews(pendingInterviews)
+            .totalCandidates(totalCandidates.value())
+            .totalJobs(totalJobs.value())
+            .totalInterviews(totalInterviews.value())
+            .activeInterviews(sessionsByStatus.succeeded() ? byStatus.getOrDefault(InterviewSession.SessionStatus.IN_PROGRESS, 0L) : null)
+            .completedInterviews(sessionsByStatus.succeeded() ? completedInterviews : null)
+            .pendingInterviews(sessionsByStatus.succeeded() ? byStatus.getOrDefault(InterviewSession.SessionStatus.PENDING, 0L) : null)
             .completionRate(completionRate)
-            .averageInterviewDuration(averageDuration)
+            .averageInterviewDuration(averageDuration.value())
             .interviewsByStatus(interviewsByStatus)
             .interviewsByDay(interviewsByDay)
-            .candidatesByMonth(candidatesByMonth)
+            .candidatesByMonth(candidatesByMonth.value())
+            .metadata(metadata)
             .build();
     }
     
+    private Map<String, Long> getCandidatesByMonth(int months) {
+        DateTimeFormatter monthFormatter = DateTimeFormatter.ofPattern("yyyy-MM");
+        LocalDate firstMonth = LocalDate.now().minusMonths(months - 1L).withDayOfMonth(1);
+        
+        Map<String, Long> candidatesByMonth = new LinkedHashMap<>();
+        for (int i = 0; i < months; i++) {
+            candidatesByMonth.put(firstMonth.plusMonths(i).format(monthFormatter), 0L);
+        }
+        rollupService.getCandidatesByDay(firstMonth, LocalDate.now()).forEach((date, count) ->
+            candidatesByMonth.merge(date.format(monthFormatter), count, Long::sum));
+        return candidatesByMonth;
+    }
+    
     public InterviewAnalyticsResponse getInterviewAnalytics() {
-        List<InterviewSession> allSessions = sessionRepository.findAll();
-        long totalInterviews = allSessions.size();
-        long completedInterviews = allSessions.stream()
-            .filter(s -> s.getStatus() == InterviewSession.SessionStatus.COMPLETED)
-            .count();
-        long inProgressInterviews = allSessions.stream()
-            .filter(s -> s.getStatus() == InterviewSession.SessionStatus.IN_PROGRESS)
-            .count();
-        long abandonedInterviews = allSessions.stream()
-            .filter(s -> s.getStatus() == InterviewSession.SessionStatus.ABANDONED)
-            .count();
+        return cacheService.get("interviews", INTERVIEW_SCOPES, InterviewAnalyticsResponse.class, this::computeInterviewAnalytics);
+    }
+    
+    private InterviewAnalyticsResponse computeInterviewAnalytics() {
+        // Interviews by status
+        Map<String, Long> interviewsByStatus = new LinkedHashMap<>();
+        for (InterviewSessionRepository.StatusCount row : sessionRepository.countGroupedByStatus()) {
+            interviewsByStatus.put(row.getStatus().name(), row.getTotal());
+        }
+        
+        long totalInterviews = interviewsByStatus.values().stream().mapToLong(Long::longValue).sum();
+        long completedInterviews = interviewsByStatus.getOrDefault(InterviewSession.SessionStatus.COMPLETED.name(), 0L);
+        long inProgressInterviews = interviewsByStatus.getOrDefault(InterviewSession.SessionStatus.IN_PROGRESS.name(), 0L);
+        long abandonedInterviews = interviewsByStatus.getOrDefault(InterviewSession.SessionStatus.ABANDONED.name(), 0L);
         
         double averageCompletionRate = totalInterviews > 0 
             ? (double) completedInterviews / totalInterviews * 100 
             : 0.0;
         
         // Average interview duration
-        double averageDuration = allSessions.stream()
-            .filter(s -> s.getStartedAt() != null && s.getCompletedAt() != null)
-            .mapToLong(s -> java.time.Duration.between(s.getStartedAt(), s.getCompletedAt()).toMinutes())
-            .average()
-            .orElse(0.0);
+        double averageDuration = Optional.ofNullable(sessionRepository.averageDurationMinutes()).orElse(0.0);
         
         // Average turns per interview
-        double averageTurns = allSessions.stream()
-            .mapToInt(InterviewSession::getTotalTurns)
-            .average()
-            .orElse(0.0);
-        
-        // Interviews by status
-        Map<String, Long> interviewsByStatus = allSessions.stream()
-            .collect(Collectors.groupingBy(
-                s -> s.getStatus().name(),
-                Collectors.counting()
-            ));
+        double averageTurns = Optional.ofNullable(sessionRepository.averageTotalTurns()).orElse(0.0);
         
         // Interviews by template
-        Map<String, Long> interviewsByTemplate = allSessions.stream()
-            .collect(Collectors.groupingBy(
-                s -> s.getTemplate().getName(),
-                Collectors.counting()
-            ));
+        Map<String, Long> interviewsByTemplate = new HashMap<>();
+        for (InterviewSessionRepository.NameCount row : sessionRepository.countGroupedByTemplateName()) {
+            interviewsByTemplate.put(row.getName(), row.getTotal());
+        }
         
         // Average scores by category
+        InterviewSessionRepository.ScoreAverages scoreAverages = sessionRepository.averageScores(null);
         Map<String, Double> averageScores = new HashMap<>();
-        List<InterviewTurn> allTurns = turnRepository.findAll();
+        averageScores.put("communication", Optional.ofNullable(scoreAverages.getCommunication()).orElse(0.0));
+        averageScores.put("technical", Optional.ofNullable(scoreAverages.getTechnical()).orElse(0.0));
+        averageScores.put("clarity", Optional.ofNullable(scoreAverages.getClarity()).orElse(0.0));
         
-        double avgCommunication = allTurns.stream()
-            .filter(t -> t.getCommunicationScore() != null)
-            .mapToDouble(InterviewTurn::getCommunicationScore)
-            .average()
-            .orElse(0.0);
-        averageScores.put("communication", avgCommunication);
+        // Trends (last 30 days)
+        LocalDate endDate = LocalDate.now();
+        LocalDate startDate = endDate.minusDays(29);
+        LocalDateTime from = startDate.atStartOfDay();
+        LocalDateTime to = endDate.plusDays(1).atStartOfDay();
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
         
-        double avgTechnical = allTurns.stream()
-            .filter(t -> t.getTechnicalScore() != null)
-            .mapToDouble(InterviewTurn::getTechnicalScore)
-            .average()
-            .orElse(0.0);
-        averageScores.put("technical", avgTechnical);
+        Map<String, Long> countsByDay = new HashMap<>();
+        for (InterviewSessionRepository.DayCount row : sessionRepository.countStartedGroupedByDay(from, to)) {
+            countsByDay.put(row.getDay(), row.getTotal());
+        }
         
-        double avgClarity = allTurns.stream()
-            .filter(t -> t.getClarityScore() != null)
-            .mapToDouble(InterviewTurn::getClarityScore)
-            .average()
-            .orElse(0.0);
-        averageScores.put("clarity", avgClarity);
+        Map<String, Double> scoresByDay = new HashMap<>();
+        for (InterviewSessionRepository.DayScore row : sessionRepository.averageTechnicalScoreGroupedByDay(
+                InterviewSession.SessionStatus.COMPLETED.name(), from, to)) {
+            scoresByDay.put(row.getDay(), row.getAverageScore());
+        }
         
-        // Trends (last 30 days)
         List<InterviewAnalyticsResponse.InterviewTrendData> trends = new ArrayList<>();
-        for (int i = 29; i >= 0; i--) {
-            LocalDate date = LocalDate.now().minusDays(i);
-            long count = allSessions.stream()
-                .filter(s -> s.getStartedAt() != null && 
-                    s.getStartedAt().toLocalDate().equals(date))
-                .count();
-            
-            double avgScore = allSessions.stream()
-                .filter(s -> s.getStartedAt() != null && 
-                    s.getStartedAt().toLocalDate().equals(date) &&
-                    s.getStatus() == InterviewSession.SessionStatus.COMPLETED)
-                .mapToDouble(s -> {
-                    // Calculate average score from turns
-                    List<InterviewTurn> sessionTurns = turnRepository.findBySession_IdOrderByTurnNumberAsc(s.getId());
-                    return sessionTurns.stream()
-                        .filter(t -> t.getTechnicalScore() != null)
-                        .mapToDouble(InterviewTurn::getTechnicalScore)
-                        .average()
-                        .orElse(0.0);
-                })
-                .average()
-                .orElse(0.0);
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            String day = date.format(formatter);
             
             trends.add(InterviewAnalyticsResponse.InterviewTrendData.builder()
-                .date(date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")))
-                .count(count)
-                .averageScore(avgScore)
+                .date(day)
+                .count(countsByDay.getOrDefault(day, 0L))
+                .averageScore(scoresByDay.getOrDefault(day, 0.0))
                 .build());
         }
         
@@ -211,14 +218,21 @@ public class AnalyticsService {
     }
     
     public CandidateAnalyticsResponse getCandidateAnalytics() {
+        return getCandidateAnalytics(CandidateReachService.Mode.APPROXIMATE);
+    }
+    
+    /**
+     * Candidate analytics with {@code candidatesWithInterviews} counted in the given mode; reports use EXACT.
+     */
+    public CandidateAnalyticsResponse getCandidateAnalytics(CandidateReachService.Mode reachMode) {
+        return cacheService.get("candidates:" + reachMode, CANDIDATE_SCOPES, CandidateAnalyticsResponse.class,
+            () -> computeCandidateAnalytics(reachMode));
+    }
+    
+    private CandidateAnalyticsResponse computeCandidateAnalytics(CandidateReachService.Mode reachMode) {
         long totalCandidates = candidateRepository.count();
-        long candidatesWithInterviews = sessionRepository.findAll().stream()
-            .map(s -> s.getCandidate().getId())
-            .distinct()
-            .count();
-        long candidatesWithResumes = candidateRepository.findAll().stream()
-            .filter(c -> c.getResumeUrl() != null && !c.getResumeUrl().isEmpty())
-            .count();
+        long candidatesWithInterviews = reachService.countUniqueCandidates(CandidateReachService.Slice.ALL, reachMode);
+        long candidatesWithResumes = candidateRepository.countWithResume();
         
         long totalInterviews = sessionRepository.count();
         double averageInterviewsPerCandidate = totalCandidates > 0 
@@ -226,84 +240,25 @@ public class AnalyticsService {
             : 0.0;
         
         // Calculate average score across all completed interviews
-        List<InterviewSession> completedSessions = sessionRepository.findByStatus(InterviewSession.SessionStatus.COMPLETED);
-        double averageScore = completedSessions.stream()
-            .flatMap(s -> turnRepository.findBySession_IdOrderByTurnNumberAsc(s.getId()).stream())
-            .filter(t -> t.getTechnicalScore() != null)
-            .mapToDouble(InterviewTurn::getTechnicalScore)
-            .average()
-            .orElse(0.0);
+        double averageScore = Optional.ofNullable(
+            sessionRepository.averageScores(InterviewSession.SessionStatus.COMPLETED).getTechnical()
+        ).orElse(0.0);
         
         // Candidates by recommendation
-        Map<String, Long> candidatesByRecommendation = completedSessions.stream()
-            .filter(s -> s.getRecommendation() != null)
-            .collect(Collectors.groupingBy(
-                s -> s.getRecommendation().name(),
-                Collectors.counting()
-            ));
-        
-        // Candidates by month
-        Map<String, Long> candidatesByMonth = new LinkedHashMap<>();
-        for (int i = 5; i >= 0; i--) {
-            LocalDate monthStart = LocalDate.now().minusMonths(i).withDayOfMonth(1);
-            String monthKey = monthStart.format(DateTimeFormatter.ofPattern("yyyy-MM"));
-            long count = candidateRepository.findAll().stream()
-                .filter(c -> c.getCreatedAt() != null && 
-                    c.getCreatedAt().toLocalDate().isAfter(monthStart.minusDays(1)) &&
-                    c.getCreatedAt().toLocalDate().isBefore(monthStart.plusMonths(1)))
-                .count();
-            candidatesByMonth.put(monthKey, count);
+        Map<String, Long> candidatesByRecommendation = new HashMap<>();
+        for (InterviewSessionRepository.RecommendationCount row
+                : sessionRepository.countGroupedByRecommendation(InterviewSession.SessionStatus.COMPLETED)) {
+            candidatesByRecommendation.put(row.getRecommendation().name(), row.getTotal());
         }
         
-        // Top performers
-        List<CandidateAnalyticsResponse.CandidatePerformanceData> topPerformers = completedSessions.stream()
-            .filter(s -> s.getRecommendation() != null && 
-                (s.getRecommendation() == InterviewSession.Recommendation.STRONG || 
-                 s.getRecommendation() == InterviewSession.Recommendation.HIRE))
-            .map(s -> {
-                List<InterviewTurn> turns = turnRepository.findBySession_IdOrderByTurnNumberAsc(s.getId());
-                double avgScore = turns.stream()
-                    .filter(t -> t.getTechnicalScore() != null)
-                    .mapToDouble(InterviewTurn::getTechnicalScore)
-                    .average()
-                    .orElse(0.0);
-                
-                return CandidateAnalyticsResponse.CandidatePerformanceData.builder()
-                    .candidateId(s.getCandidate().getId())
-                    .candidateName(s.getCandidate().getFirstName() + " " + s.getCandidate().getLastName())
-                    .interviewCount(1)
-                    .averageScore(avgScore)
-                    .recommendation(s.getRecommendation().name())
-                    .build();
-            })
-            .sorted((a, b) -> Double.compare(b.getAverageScore(), a.getAverageScore()))
-            .limit(10)
-            .collect(Collectors.toList());
+        // Candidates by month
+        Map<String, Long> candidatesByMonth = getCandidatesByMonth(6);
         
-        // Needs attention
-        List<CandidateAnalyticsResponse.CandidatePerformanceData> needsAttention = completedSessions.stream()
-            .filter(s -> s.getRecommendation() != null && 
-                (s.getRecommendation() == InterviewSession.Recommendation.REJECT || 
-                 s.getRecommendation() == InterviewSession.Recommendation.WEAK))
-            .map(s -> {
-                List<InterviewTurn> turns = turnRepository.findBySession_IdOrderByTurnNumberAsc(s.getId());
-                double avgScore = turns.stream()
-                    .filter(t -> t.getTechnicalScore() != null)
-                    .mapToDouble(InterviewTurn::getTechnicalScore)
-                    .average()
-                    .orElse(0.0);
-                
-                return CandidateAnalyticsResponse.CandidatePerformanceData.builder()
-                    .candidateId(s.getCandidate().getId())
-                    .candidateName(s.getCandidate().getFirstName() + " " + s.getCandidate().getLastName())
-                    .interviewCount(1)
-                    .averageScore(avgScore)
-                    .recommendation(s.getRecommendation().name())
-                    .build();
-            })
-            .sorted((a, b) -> Double.compare(a.getAverageScore(), b.getAverageScore()))
-            .limit(10)
-            .collect(Collectors.toList());
+        // Top performers and needs attention
+        List<CandidateAnalyticsResponse.CandidatePerformanceData> topPerformers =
+            rankingService.top(CandidateRankingService.Ranking.TOP_PERFORMERS);
+        List<CandidateAnalyticsResponse.CandidatePerformanceData> needsAttention =
+            rankingService.top(CandidateRankingService.Ranking.NEEDS_ATTENTION);
         
         return CandidateAnalyticsResponse.builder()
             .totalCandidates(totalCandidates)
@@ -319,91 +274,18 @@ public class AnalyticsService {
     }
     
     public TrendAnalysisResponse getTrendAnalysis(String metric, String period, int days) {
-        List<TrendAnalysisResponse.TrendDataPoint> dataPoints = new ArrayList<>();
         LocalDate endDate = LocalDate.now();
-        LocalDate startDate = endDate.minusDays(days - 1);
-        
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-        
-        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-            final LocalDate currentDate = date; // Make effectively final for lambda
-            long value = 0L;
-            
-            switch (metric.toLowerCase()) {
-                case "interviews":
-                    value = sessionRepository.findAll().stream()
-                        .filter(s -> s.getStartedAt() != null && 
-                            s.getStartedAt().toLocalDate().equals(currentDate))
-                        .count();
-                    break;
-                case "candidates":
-                    value = candidateRepository.findAll().stream()
-                        .filter(c -> c.getCreatedAt() != null && 
-                            c.getCreatedAt().toLocalDate().equals(currentDate))
-                        .count();
-                    break;
-                case "completions":
-                    value = sessionRepository.findAll().stream()
-                        .filter(s -> s.getCompletedAt() != null && 
-                            s.getCompletedAt().toLocalDate().equals(currentDate) &&
-                            s.getStatus() == InterviewSession.SessionStatus.COMPLETED)
-                        .count();
-                    break;
-            }
-            
-            // Calculate percentage change
-            Double percentageChange = null;
-            if (dataPoints.size() > 0) {
-                Long previousValue = dataPoints.get(dataPoints.size() - 1).getValue();
-                if (previousValue != null && previousValue > 0) {
-                    percentageChange = ((double) (value - previousValue) / previousValue) * 100;
-                }
-            }
-            
-            dataPoints.add(TrendAnalysisResponse.TrendDataPoint.builder()
-                .date(date.format(formatter))
-                .value(value)
-                .percentageChange(percentageChange)
-                .build());
-        }
-        
-        return TrendAnalysisResponse.builder()
-            .metric(metric)
-            .period(period)
-            .dataPoints(dataPoints)
-            .build();
+        return getTrendAnalysis(metric, period, endDate.minusDays(days - 1), endDate);
+    }
+    
+    public TrendAnalysisResponse getTrendAnalysis(String metric, String period, LocalDate from, LocalDate to) {
+        AnalyticsTrendService.Granularity granularity = AnalyticsTrendService.Granularity.fromPeriod(period);
+        String key = "trends:" + metric.toLowerCase() + ":" + granularity + ":" + from + ":" + to;
+        return cacheService.get(key, TREND_SCOPES, TrendAnalysisResponse.class, () -> trendService.getTrend(metric, granularity, from, to));
     }
     
     public com.aiinterview.dto.JobStatisticsResponse getJobAnalytics() {
-        // Use existing jobRepository to calculate statistics
-        long totalJobs = jobRepository.count();
-        long activeJobs = jobRepository.findByActiveTrue().size();
-        
-        long totalCandidates = sessionRepository.findAll().stream()
-            .map(s -> s.getCandidate().getId())
-            .distinct()
-            .count();
-        
-        long totalInterviews = sessionRepository.count();
-        
-        Map<String, Long> jobsBySeniority = jobRepository.findByActiveTrue().stream()
-            .collect(Collectors.groupingBy(
-                job -> job.getSeniorityLevel().name(),
-                Collectors.counting()
-            ));
-        
-        double averageInterviewsPerJob = activeJobs > 0 
-            ? (double) totalInterviews / activeJobs 
-            : 0.0;
-        
-        return com.aiinterview.dto.JobStatisticsResponse.builder()
-            .totalJobs(totalJobs)
-            .activeJobs(activeJobs)
-            .totalCandidates(totalCandidates)
-            .totalInterviews(totalInterviews)
-            .jobsBySeniorityLevel(jobsBySeniority)
-            .averageInterviewsPerJob(averageInterviewsPerJob)
-            .build();
+        return cacheService.get("jobs", JOB_SCOPES, com.aiinterview.dto.JobStatisticsResponse.class, statisticsService::getJobStatistics);
     }
 }
 
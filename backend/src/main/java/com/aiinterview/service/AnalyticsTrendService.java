@@ -0,0 +1,172 @@
+package com.aiinterview.service;
+
+import com.aiinterview.dto.TrendAnalysisResponse;
+import com.aiinterview.repository.CandidateRepository;
+import com.aiinterview.repository.DailyCandidateRollupRepository;
+import com.aiinterview.repository.DailySessionRollupRepository;
+import com.aiinterview.repository.InterviewSessionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Builds trend series at hour/day/week/month granularity over arbitrary date ranges. Every bucket in the
+ * range comes from a single grouped query (against the daily rollups where the granularity allows it),
+ * and empty buckets and percentage changes are filled in one pass over the range.
+ */
+@Service
+@RequiredArgsConstructor
+public class AnalyticsTrendService {
+    
+    private static final DateTimeFormatter BUCKET_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int MAX_BUCKETS = 5000;
+    
+    private final InterviewSessionRepository sessionRepository;
+    private final CandidateRepository candidateRepository;
+    private final DailySessionRollupRepository sessionRollupRepository;
+    private final DailyCandidateRollupRepository candidateRollupRepository;
+    
+    public enum Granularity {
+        HOUR("hour", ChronoUnit.HOURS, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:00")),
+        DAY("day", ChronoUnit.DAYS, DateTimeFormatter.ofPattern("yyyy-MM-dd")),
+        WEEK("week", ChronoUnit.WEEKS, DateTimeFormatter.ofPattern("yyyy-MM-dd")),
+        MONTH("month", ChronoUnit.MONTHS, DateTimeFormatter.ofPattern("yyyy-MM"));
+        
+        private final String truncUnit;
+        private final ChronoUnit step;
+        private final DateTimeFormatter labelFormat;
+        
+        Granularity(String truncUnit, ChronoUnit step, DateTimeFormatter labelFormat) {
+            this.truncUnit = truncUnit;
+            this.step = step;
+            this.labelFormat = labelFormat;
+        }
+        
+        /**
+         * Accepts both the unit ("day") and the adjective ("daily") form; null means daily.
+         */
+        public static Granularity fromPeriod(String period) {
+            if (period == null) {
+                return DAY;
+            }
+            switch (period.toLowerCase()) {
+                case "hour":
+                case "hourly":
+                    return HOUR;
+                case "day":
+                case "daily":
+                    return DAY;
+                case "week":
+                case "weekly":
+                    return WEEK;
+                case "month":
+                case "monthly":
+                    return MONTH;
+                default:
+                    throw new RuntimeException("Unsupported trend period: " + period);
+            }
+        }
+        
+        /**
+         * Start of the bucket containing the given time, matching Postgres date_trunc (weeks start on Monday).
+         */
+        LocalDateTime truncate(LocalDateTime time) {
+            switch (this) {
+                case HOUR:
+                    return time.truncatedTo(ChronoUnit.HOURS);
+                case DAY:
+                    return time.truncatedTo(ChronoUnit.DAYS);
+                case WEEK:
+                    return time.truncatedTo(ChronoUnit.DAYS).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                default:
+                    return time.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1);
+            }
+        }
+    }
+    
+    /**
+     * Trend of {@code metric} (interviews, candidates or completions) for the days in [from, to].
+     */
+    public TrendAnalysisResponse getTrend(String metric, Granularity granularity, LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new RuntimeException("Trend range end must not be before its start");
+        }
+        LocalDateTime rangeStart = from.atStartOfDay();
+        LocalDateTime rangeEnd = to.plusDays(1).atStartOfDay();
+        LocalDateTime firstBucket = granularity.truncate(rangeStart);
+        if (granularity.step.between(firstBucket, rangeEnd) > MAX_BUCKETS) {
+            throw new RuntimeException("Trend range too large for " + granularity.name().toLowerCase() + " granularity");
+        }
+        
+        Map<LocalDateTime, Long> valuesByBucket = loadBuckets(metric, granularity, from, to, rangeStart, rangeEnd);
+        
+        List<TrendAnalysisResponse.TrendDataPoint> dataPoints = new ArrayList<>();
+        Long previousValue = null;
+        for (LocalDateTime bucket = firstBucket; bucket.isBefore(rangeEnd); bucket = bucket.plus(1, granularity.step)) {
+            long value = valuesByBucket.getOrDefault(bucket, 0L);
+            Double percentageChange = previousValue != null && previousValue > 0
+                ? ((double) (value - previousValue) / previousValue) * 100
+                : null;
+            dataPoints.add(TrendAnalysisResponse.TrendDataPoint.builder()
+                .date(bucket.format(granularity.labelFormat))
+                .value(value)
+                .percentageChange(percentageChange)
+                .build());
+            previousValue = value;
+        }
+        
+        return TrendAnalysisResponse.builder()
+            .metric(metric)
+            .period(granularity.name().toLowerCase())
+            .from(from)
+            .to(to)
+            .dataPoints(dataPoints)
+            .build();
+    }
+    
+    private Map<LocalDateTime, Long> loadBuckets(String metric, Granularity granularity, LocalDate from, LocalDate to,
+                                                 LocalDateTime rangeStart, LocalDateTime rangeEnd) {
+        String unit = granularity.truncUnit;
+        // The daily rollups can answer anything at day granularity or coarser; hourly buckets need the source rows
+        boolean fromRollup = granularity != Granularity.HOUR;
+        switch (metric.toLowerCase()) {
+            case "interviews":
+                return fromRollup
+                    ? toBuckets(sessionRollupRepository.sumGroupedByBucket(unit, from, to),
+                        DailySessionRollupRepository.BucketTotal::getBucket, DailySessionRollupRepository.BucketTotal::getTotal)
+                    : toBuckets(sessionRepository.countStartedGroupedByBucket(unit, rangeStart, rangeEnd),
+                        InterviewSessionRepository.BucketCount::getBucket, InterviewSessionRepository.BucketCount::getTotal);
+            case "candidates":
+                return fromRollup
+                    ? toBuckets(candidateRollupRepository.sumGroupedByBucket(unit, from, to),
+                        DailyCandidateRollupRepository.BucketTotal::getBucket, DailyCandidateRollupRepository.BucketTotal::getTotal)
+                    : toBuckets(candidateRepository.countCreatedGroupedByBucket(unit, rangeStart, rangeEnd),
+                        CandidateRepository.BucketCount::getBucket, CandidateRepository.BucketCount::getTotal);
+            case "completions":
+                return toBuckets(sessionRepository.countCompletedGroupedByBucket(unit, rangeStart, rangeEnd),
+                    InterviewSessionRepository.BucketCount::getBucket, InterviewSessionRepository.BucketCount::getTotal);
+            default:
+                return Collections.emptyMap();
+        }
+    }
+    
+    private <T> Map<LocalDateTime, Long> toBuckets(List<T> rows, Function<T, String> bucket, Function<T, Long> total) {
+        Map<LocalDateTime, Long> values = new HashMap<>();
+        for (T row : rows) {
+            values.put(LocalDateTime.parse(bucket.apply(row), BUCKET_FORMAT), total.apply(row));
+        }
+        return values;
+    }
+}
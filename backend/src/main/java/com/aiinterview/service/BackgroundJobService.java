@@ -6,14 +6,22 @@ import com.aiinterview.repository.InterviewSessionRepository;
 import com.aiinterview.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * Background jobs. Each one goes through {@link ScheduledJobRunner}: jobs on shared state (the database,
+ * Redis) run on one instance per schedule, jobs on in-memory state run on every instance.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -21,83 +29,83 @@ public class BackgroundJobService {
     
     private final InterviewSessionRepository sessionRepository;
     private final EmailService emailService;
-    private final NotificationService notificationService;
     private final ReportService reportService;
     private final UserRepository userRepository;
+    private final AnalyticsRollupService rollupService;
+    private final InterviewTurnService turnService;
+    private final CandidateReachService reachService;
+    private final ScoreHistogramService histogramService;
+    private final SessionSnapshotService snapshotService;
+    private final LiveMetricsService liveMetricsService;
+    private final PartitionMaintenanceService partitionService;
+    private final TransactionTemplate transactionTemplate;
+    private final SessionTimerService timerService;
+    private final SessionHeartbeatService heartbeatService;
+    private final ScheduledJobRunner jobRunner;
+    
+    @Value("${interview.maintenance.chunk-size:500}")
+    private int maintenanceChunkSize;
     
     /**
      * Clean up old abandoned sessions (runs daily at 2 AM)
      */
     @Scheduled(cron = "0 0 2 * * ?")
-    @Transactional
     public void cleanupOldSessions() {
-        log.info("Starting cleanup of old sessions");
-        
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(30);
-        List<InterviewSession> oldSessions = sessionRepository.findAll().stream()
-            .filter(s -> s.getStatus() == InterviewSession.SessionStatus.ABANDONED &&
-                        s.getStartedAt() != null &&
-                        s.getStartedAt().isBefore(cutoffDate))
-            .toList();
-        
-        // Soft delete or archive old sessions
-        log.info("Found {} old sessions to cleanup", oldSessions.size());
-        // sessionRepository.deleteAll(oldSessions); // Uncomment if hard delete needed
-    }
-    
-    /**
-     * Send interview reminders (runs every hour)
-     */
-    @Scheduled(cron = "0 0 * * * ?")
-    @Transactional
-    public void sendInterviewReminders() {
-        log.info("Checking for interviews to remind");
-        
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime reminderTime = now.plusHours(1); // Remind 1 hour before
-        
-        List<InterviewSession> upcomingSessions = sessionRepository.findAll().stream()
-            .filter(s -> s.getStatus() == InterviewSession.SessionStatus.PENDING &&
-                        s.getStartedAt() != null &&
-                        s.getStartedAt().isAfter(now) &&
-                        s.getStartedAt().isBefore(reminderTime))
-            .toList();
-        
-        for (InterviewSession session : upcomingSessions) {
-            // Send reminder asynchronously
-            sendInterviewReminderAsync(session);
-        }
+        jobRunner.runClustered("cleanupOldSessions", Duration.ofMinutes(30), () -> {
+            log.info("Starting cleanup of old sessions");
+            
+            LocalDateTime cutoffDate = LocalDateTime.now().minusDays(30);
+            long oldSessions = sessionRepository.countByStatusAndStartedAtBefore(
+                InterviewSession.SessionStatus.ABANDONED, cutoffDate);
+            
+            // Old months are archived as whole partitions by PartitionMaintenanceService
+            log.info("Found {} old sessions to cleanup", oldSessions);
+            return (int) oldSessions;
+        });
     }
     
     /**
-     * Async method to send interview reminder
+     * Fire the session timers (reminders, scheduled starts, abandon deadlines) that are due
      */
-    @Async("emailExecutor")
-    public void sendInterviewReminderAsync(InterviewSession session) {
-        try {
-            emailService.sendInterviewReminder(session.getCandidate(), session);
-            notificationService.sendInterviewNotification(
-                session.getCandidate().getUser() != null ? session.getCandidate().getUser().getId() : null,
-                session.getSessionId(),
-                com.aiinterview.model.Notification.NotificationType.INTERVIEW_REMINDER
-            );
-            log.info("Sent reminder for session: {}", session.getSessionId());
-        } catch (Exception e) {
-            log.error("Failed to send reminder for session: {}", session.getSessionId(), e);
-        }
+    @Scheduled(fixedRate = 1000)
+    public void advanceSessionTimers() {
+        // Every instance keeps its own wheel; firing claims each timer in Redis
+        jobRunner.runFrequentLocal("advanceSessionTimers", timerService::advance);
+    }
+    
+    /**
+     * Load the session timers due soon from Redis, including those registered by other instances
+     */
+    @Scheduled(fixedDelayString = "${interview.timers.poll-interval-ms:30000}")
+    public void loadSessionTimers() {
+        jobRunner.runFrequentLocal("loadSessionTimers", timerService::loadDueTimers);
+    }
+    
+    /**
+     * Register timers for existing sessions when Redis doesn't have them yet
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedSessionTimers() {
+        jobRunner.runClustered("seedSessionTimers", Duration.ofMinutes(30), () -> {
+            timerService.seedIfMissing(maintenanceChunkSize);
+            return 0;
+        });
     }
     
     /**
      * Process pending notifications (runs every 5 minutes)
      */
     @Scheduled(cron = "0 */5 * * * ?")
-    @Transactional
     public void processPendingNotifications() {
-        log.info("Processing pending notifications");
-        
-        // This would process notifications that failed to send
-        // and retry them
-        // Implementation depends on your notification queue system
+        jobRunner.runClustered("processPendingNotifications", Duration.ofMinutes(4), () ->
+            transactionTemplate.execute(status -> {
+                log.info("Processing pending notifications");
+                
+                // This would process notifications that failed to send
+                // and retry them
+                // Implementation depends on your notification queue system
+                return 0;
+            }));
     }
     
     /**
@@ -105,17 +113,20 @@ public class BackgroundJobService {
      */
     @Scheduled(cron = "0 0 6 * * ?")
     public void generateDailyReports() {
-        log.info("Generating daily reports");
-        
-        // Get all admin users
-        List<User> adminUsers = userRepository.findAll().stream()
-            .filter(u -> u.getRole() == User.Role.ADMIN)
-            .toList();
-        
-        // Generate and send reports asynchronously
-        for (User admin : adminUsers) {
-            generateAndSendReportAsync(admin);
-        }
+        jobRunner.runClustered("generateDailyReports", Duration.ofHours(1), () -> {
+            log.info("Generating daily reports");
+            
+            // Get all admin users
+            List<User> adminUsers = userRepository.findAll().stream()
+                .filter(u -> u.getRole() == User.Role.ADMIN)
+                .toList();
+            
+            // Generate and send reports asynchronously
+            for (User admin : adminUsers) {
+                generateAndSendReportAsync(admin);
+            }
+            return adminUsers.size();
+        });
     }
     
     /**
@@ -144,26 +155,125 @@ public class BackgroundJobService {
     }
     
     /**
-     * Update session statuses (runs every 10 minutes)
+     * Pause running sessions that stopped sending heartbeats and abandon those that didn't come back
+     */
+    @Scheduled(fixedDelayString = "${interview.heartbeat.sweep-interval-ms:15000}")
+    public void sweepSessionHeartbeats() {
+        jobRunner.runClustered("sweepSessionHeartbeats", Duration.ofMinutes(1), Duration.ofSeconds(5),
+            () -> heartbeatService.sweep(maintenanceChunkSize));
+    }
+    
+    /**
+     * Update session statuses (runs every 10 minutes): running sessions missing from the heartbeat set,
+     * e.g. after Redis lost its data, are tracked again so the heartbeat sweep can expire them
      */
     @Scheduled(cron = "0 */10 * * * ?")
-    @Transactional
     public void updateSessionStatuses() {
-        log.info("Updating session statuses");
-        
-        LocalDateTime timeoutThreshold = LocalDateTime.now().minusHours(2);
-        
-        List<InterviewSession> staleSessions = sessionRepository.findAll().stream()
-            .filter(s -> s.getStatus() == InterviewSession.SessionStatus.IN_PROGRESS &&
-                        s.getStartedAt() != null &&
-                        s.getStartedAt().isBefore(timeoutThreshold))
-            .toList();
-        
-        for (InterviewSession session : staleSessions) {
-            session.setStatus(InterviewSession.SessionStatus.ABANDONED);
-            sessionRepository.save(session);
-            log.info("Marked stale session as abandoned: {}", session.getSessionId());
-        }
+        jobRunner.runClustered("updateSessionStatuses", Duration.ofMinutes(9), () ->
+            heartbeatService.trackUntracked(
+                sessionRepository.findSessionIdsByStatus(InterviewSession.SessionStatus.IN_PROGRESS),
+                maintenanceChunkSize));
+    }
+    
+    /**
+     * Seed the analytics rollups on startup when the store is empty
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedAnalyticsRollups() {
+        jobRunner.runClustered("seedAnalyticsRollups", Duration.ofMinutes(30), () -> {
+            if (!rollupService.isEmpty()) {
+                return 0;
+            }
+            log.info("Analytics rollups are empty, rebuilding from source tables");
+            return rollupService.rebuild();
+        });
+    }
+    
+    /**
+     * Fill in scorecards for sessions that predate them
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillSessionScorecards() {
+        jobRunner.runClustered("backfillSessionScorecards", Duration.ofMinutes(30), () -> {
+            int updated = turnService.backfillScorecards();
+            if (updated > 0) {
+                log.info("Backfilled scorecards for {} sessions", updated);
+            }
+            return updated;
+        });
+    }
+    
+    /**
+     * Seed the score histograms on startup when the table is empty
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedScoreHistograms() {
+        jobRunner.runClustered("seedScoreHistograms", Duration.ofMinutes(30), () ->
+            histogramService.isEmpty() ? histogramService.rebuild() : 0);
+    }
+    
+    /**
+     * Build the candidate reach sketches on startup when Redis doesn't have them yet
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedCandidateReach() {
+        jobRunner.runClustered("seedCandidateReach", Duration.ofMinutes(30), () ->
+            reachService.isBuilt() ? 0 : reachService.rebuild());
+    }
+    
+    /**
+     * Load the in-memory session snapshot on startup
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildSessionSnapshot() {
+        refreshSessionSnapshot();
+    }
+    
+    /**
+     * Rebuild the in-memory session snapshot from the database
+     */
+    @Scheduled(fixedDelayString = "${analytics.snapshot.refresh-interval-ms:600000}",
+               initialDelayString = "${analytics.snapshot.refresh-interval-ms:600000}")
+    public void refreshSessionSnapshot() {
+        jobRunner.runLocal("refreshSessionSnapshot", snapshotService::rebuild);
+    }
+    
+    /**
+     * Broadcast a full live-metrics snapshot so dashboard clients can resync their counters
+     */
+    @Scheduled(fixedDelayString = "${analytics.live.snapshot-interval-ms:30000}")
+    public void publishLiveMetricsSnapshot() {
+        // Each instance broadcasts to the clients connected to its own broker
+        jobRunner.runFrequentLocal("publishLiveMetricsSnapshot", () -> {
+            liveMetricsService.publishSnapshot();
+            return 1;
+        });
+    }
+    
+    /**
+     * Create upcoming session/turn partitions and archive expired ones (runs daily at 1 AM)
+     */
+    @Scheduled(cron = "0 0 1 * * ?")
+    public void maintainPartitions() {
+        jobRunner.runClustered("maintainPartitions", Duration.ofHours(1), () ->
+            partitionService.createUpcomingPartitions() + partitionService.archiveExpiredPartitions().size());
+    }
+    
+    /**
+     * Reconcile analytics rollups with the source tables (runs daily at 3 AM)
+     */
+    @Scheduled(cron = "0 0 3 * * ?")
+    public void reconcileAnalyticsRollups() {
+        jobRunner.runClustered("reconcileAnalyticsRollups", Duration.ofHours(2), () -> {
+            log.info("Reconciling analytics rollups");
+            int rows = rollupService.rebuild();
+            rows += histogramService.rebuild();
+            try {
+                rows += reachService.rebuild();
+            } catch (Exception e) {
+                log.warn("Failed to rebuild candidate reach sketches: {}", e.getMessage());
+            }
+            return rows;
+        });
     }
 }
-
@@ -0,0 +1,139 @@
+package com.aiinterview.service;
+
+import com.aiinterview.dto.CandidateAnalyticsResponse;
+import com.aiinterview.dto.CandidateRankingResponse;
+import com.aiinterview.model.InterviewSession;
+import com.aiinterview.repository.InterviewSessionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Top-K rankings of completed sessions by average technical score. The ordering and limit are pushed
+ * down to the database, and deeper pages continue from an opaque (score, session id) cursor instead of
+ * re-ranking everything before them.
+ */
+@Service
+@RequiredArgsConstructor
+public class CandidateRankingService {
+    
+    private final InterviewSessionRepository sessionRepository;
+    
+    @Value("${analytics.ranking.default-size:10}")
+    private int defaultSize;
+    
+    @Value("${analytics.ranking.max-size:100}")
+    private int maxSize;
+    
+    public enum Ranking {
+        TOP_PERFORMERS("top-performers", true,
+            List.of(InterviewSession.Recommendation.STRONG, InterviewSession.Recommendation.HIRE)),
+        NEEDS_ATTENTION("needs-attention", false,
+            List.of(InterviewSession.Recommendation.REJECT, InterviewSession.Recommendation.WEAK));
+        
+        private final String name;
+        private final boolean highestFirst;
+        private final List<InterviewSession.Recommendation> recommendations;
+        
+        Ranking(String name, boolean highestFirst, List<InterviewSession.Recommendation> recommendations) {
+            this.name = name;
+            this.highestFirst = highestFirst;
+            this.recommendations = recommendations;
+        }
+        
+        public static Ranking fromName(String name) {
+            for (Ranking ranking : values()) {
+                if (ranking.name.equalsIgnoreCase(name) || ranking.name().equalsIgnoreCase(name)) {
+                    return ranking;
+                }
+            }
+            throw new RuntimeException("Unknown ranking: " + name);
+        }
+    }
+    
+    /**
+     * Optional filters; null fields are ignored. The date range applies to the session start date, inclusive.
+     */
+    public record RankingFilter(Long jobId, Long templateId, LocalDate from, LocalDate to) {
+        public static final RankingFilter NONE = new RankingFilter(null, null, null, null);
+    }
+    
+    private record Cursor(double score, long sessionId) {
+    }
+    
+    public CandidateRankingResponse rank(Ranking ranking, RankingFilter filter, Integer size, String cursor) {
+        int limit = size == null ? defaultSize : Math.max(1, Math.min(size, maxSize));
+        Cursor after = decodeCursor(cursor);
+        LocalDateTime from = filter.from() != null ? filter.from().atStartOfDay() : null;
+        LocalDateTime to = filter.to() != null ? filter.to().plusDays(1).atStartOfDay() : null;
+        Double afterScore = after != null ? after.score() : null;
+        Long afterId = after != null ? after.sessionId() : null;
+        
+        // Fetch one extra row to learn whether another page exists
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<InterviewSessionRepository.SessionScore> rows = ranking.highestFirst
+            ? sessionRepository.findHighestSessionScores(InterviewSession.SessionStatus.COMPLETED, ranking.recommendations,
+                filter.jobId(), filter.templateId(), from, to, afterScore, afterId, page)
+            : sessionRepository.findLowestSessionScores(InterviewSession.SessionStatus.COMPLETED, ranking.recommendations,
+                filter.jobId(), filter.templateId(), from, to, afterScore, afterId, page);
+        
+        boolean hasMore = rows.size() > limit;
+        List<InterviewSessionRepository.SessionScore> pageRows = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            InterviewSessionRepository.SessionScore last = pageRows.get(pageRows.size() - 1);
+            nextCursor = encodeCursor(new Cursor(last.getAverageScore(), last.getSessionId()));
+        }
+        
+        return CandidateRankingResponse.builder()
+            .ranking(ranking.name)
+            .size(limit)
+            .entries(pageRows.stream().map(this::toPerformanceData).collect(Collectors.toList()))
+            .nextCursor(nextCursor)
+            .build();
+    }
+    
+    /**
+     * The first {@code analytics.ranking.default-size} entries of a ranking across all jobs, templates and dates.
+     */
+    public List<CandidateAnalyticsResponse.CandidatePerformanceData> top(Ranking ranking) {
+        return rank(ranking, RankingFilter.NONE, null, null).getEntries();
+    }
+    
+    private CandidateAnalyticsResponse.CandidatePerformanceData toPerformanceData(
+            InterviewSessionRepository.SessionScore row) {
+        return CandidateAnalyticsResponse.CandidatePerformanceData.builder()
+            .candidateId(row.getCandidateId())
+            .candidateName(row.getFirstName() + " " + row.getLastName())
+            .interviewCount(1)
+            .averageScore(row.getAverageScore())
+            .recommendation(row.getRecommendation().name())
+            .build();
+    }
+    
+    private String encodeCursor(Cursor cursor) {
+        String raw = cursor.score() + ":" + cursor.sessionId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private Cursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(':');
+            return new Cursor(Double.parseDouble(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Invalid ranking cursor");
+        }
+    }
+}
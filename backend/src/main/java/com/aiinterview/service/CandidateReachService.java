@@ -0,0 +1,198 @@
+package com.aiinterview.service;
+
+import com.aiinterview.model.InterviewSession;
+import com.aiinterview.repository.InterviewSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Unique-candidate counts ("reach") per slice of days, job and template.
+ * <p>
+ * Approximate mode reads Redis HyperLogLogs that are updated as sessions are created: one sketch overall,
+ * per job, per template, per day, and per day x job / day x template. PFCOUNT over several keys returns
+ * the size of their union, so any date range is answered by merging its day sketches (about 0.8% error,
+ * 12 KB per sketch). Exact mode runs COUNT(DISTINCT) against the database and is what reports use.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CandidateReachService {
+    
+    private static final String KEY_PREFIX = "analytics:hll:candidates:";
+    private static final String BUILT_KEY = KEY_PREFIX + "built";
+    private static final int MAX_SKETCH_DAYS = 731;
+    
+    private final StringRedisTemplate stringRedisTemplate;
+    private final InterviewSessionRepository sessionRepository;
+    
+    @Value("${analytics.reach.rebuild-chunk-size:5000}")
+    private int rebuildChunkSize;
+    
+    public enum Mode {
+        EXACT,
+        APPROXIMATE;
+        
+        public static Mode fromName(String name) {
+            return name == null ? APPROXIMATE : valueOf(name.toUpperCase());
+        }
+    }
+    
+    /**
+     * Slice of sessions to count candidates over; null fields are ignored and the date range is inclusive.
+     */
+    public record Slice(Long jobId, Long templateId, LocalDate from, LocalDate to) {
+        public static final Slice ALL = new Slice(null, null, null, null);
+    }
+    
+    public void recordSession(InterviewSession session) {
+        if (session.getCandidate() == null || session.getTemplate() == null || session.getStartedAt() == null) {
+            return;
+        }
+        try {
+            add(session.getCandidate().getId(), session.getStartedAt().toLocalDate(),
+                session.getTemplate().getId(), session.getTemplate().getJob().getId());
+        } catch (Exception e) {
+            log.debug("Failed to record candidate reach for session {}: {}", session.getSessionId(), e.getMessage());
+        }
+    }
+    
+    public long countUniqueCandidates(Slice slice, Mode mode) {
+        if (mode == Mode.APPROXIMATE) {
+            try {
+                Long estimate = estimate(slice);
+                if (estimate != null) {
+                    return estimate;
+                }
+            } catch (Exception e) {
+                log.debug("Falling back to exact candidate count: {}", e.getMessage());
+            }
+        }
+        return sessionRepository.countDistinctCandidates(
+            slice.jobId(),
+            slice.templateId(),
+            slice.from() != null ? slice.from().atStartOfDay() : null,
+            slice.to() != null ? slice.to().plusDays(1).atStartOfDay() : null
+        );
+    }
+    
+    /**
+     * Recreate every sketch from the sessions table. HyperLogLogs cannot forget a member, so this is also
+     * how deleted sessions drop out of the counts. Sessions are read in id-ordered chunks of
+     * {@code analytics.reach.rebuild-chunk-size}, each added to the sketches before the next is read, so
+     * memory stays bounded by the chunk size however many sessions exist.
+     *
+     * @return the number of sessions read
+     */
+    public int rebuild() {
+        LocalDateTime start = LocalDateTime.now();
+        List<String> keys = new ArrayList<>();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build())) {
+            cursor.forEachRemaining(keys::add);
+        }
+        if (!keys.isEmpty()) {
+            stringRedisTemplate.delete(keys);
+        }
+        int sessions = 0;
+        long afterId = 0;
+        List<InterviewSessionRepository.CandidateReach> chunk;
+        do {
+            chunk = sessionRepository.findCandidateReachAfter(afterId, rebuildChunkSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            addChunk(chunk);
+            sessions += chunk.size();
+            afterId = chunk.get(chunk.size() - 1).getId();
+        } while (chunk.size() == rebuildChunkSize);
+        // Marks the sketches as complete; until then countUniqueCandidates falls back to exact counts
+        stringRedisTemplate.opsForValue().set(BUILT_KEY, start.toString());
+        log.info("Rebuilt candidate reach sketches from {} sessions in {} ms", sessions,
+            ChronoUnit.MILLIS.between(start, LocalDateTime.now()));
+        return sessions;
+    }
+    
+    private void addChunk(List<InterviewSessionRepository.CandidateReach> chunk) {
+        Map<String, Set<String>> members = new HashMap<>();
+        for (InterviewSessionRepository.CandidateReach row : chunk) {
+            String candidateId = String.valueOf(row.getCandidateId());
+            for (String key : keysFor(LocalDate.parse(row.getDay()), row.getTemplateId(), row.getJobId())) {
+                members.computeIfAbsent(key, k -> new HashSet<>()).add(candidateId);
+            }
+        }
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            members.forEach((key, ids) -> connection.hyperLogLogCommands().pfAdd(
+                key.getBytes(StandardCharsets.UTF_8),
+                ids.stream().map(id -> id.getBytes(StandardCharsets.UTF_8)).toArray(byte[][]::new)));
+            return null;
+        });
+    }
+    
+    public boolean isBuilt() {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(BUILT_KEY));
+    }
+    
+    private void add(Long candidateId, LocalDate day, Long templateId, Long jobId) {
+        byte[] member = String.valueOf(candidateId).getBytes(StandardCharsets.UTF_8);
+        List<String> keys = keysFor(day, templateId, jobId);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.hyperLogLogCommands().pfAdd(key.getBytes(StandardCharsets.UTF_8), member);
+            }
+            return null;
+        });
+    }
+    
+    private List<String> keysFor(LocalDate day, Long templateId, Long jobId) {
+        return List.of(
+            KEY_PREFIX + "all",
+            KEY_PREFIX + "job:" + jobId,
+            KEY_PREFIX + "template:" + templateId,
+            KEY_PREFIX + "day:" + day,
+            KEY_PREFIX + "day:" + day + ":job:" + jobId,
+            KEY_PREFIX + "day:" + day + ":template:" + templateId
+        );
+    }
+    
+    /**
+     * PFCOUNT over the sketches covering the slice, or null when the sketches can't answer it.
+     */
+    private Long estimate(Slice slice) {
+        if (!isBuilt()) {
+            return null;
+        }
+        // A template belongs to exactly one job, so the template sketch already narrows to its job
+        String qualifier = slice.templateId() != null ? "template:" + slice.templateId()
+            : slice.jobId() != null ? "job:" + slice.jobId()
+            : null;
+        
+        if (slice.from() == null && slice.to() == null) {
+            return stringRedisTemplate.opsForHyperLogLog().size(KEY_PREFIX + (qualifier != null ? qualifier : "all"));
+        }
+        if (slice.from() == null || slice.to() == null
+                || ChronoUnit.DAYS.between(slice.from(), slice.to()) >= MAX_SKETCH_DAYS) {
+            return null;
+        }
+        List<String> keys = new ArrayList<>();
+        for (LocalDate day = slice.from(); !day.isAfter(slice.to()); day = day.plusDays(1)) {
+            keys.add(KEY_PREFIX + "day:" + day + (qualifier != null ? ":" + qualifier : ""));
+        }
+        return stringRedisTemplate.opsForHyperLogLog().size(keys.toArray(new String[0]));
+    }
+}
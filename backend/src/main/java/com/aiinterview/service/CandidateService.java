@@ -1,26 +1,46 @@
 package com.aiinterview.service;
 
 import com.aiinterview.dto.*;
+import com.aiinterview.event.AnalyticsChangeEvent;
 import com.aiinterview.model.Candidate;
 import com.aiinterview.repository.CandidateRepository;
-import com.aiinterview.repository.InterviewSessionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CandidateService {
     
+    // Non-null columns the candidate list can be cursor-paged on
+    private static final Map<String, Function<String, Object>> CANDIDATE_CURSOR_KEYS = Map.of(
+        "id", Long::valueOf,
+        "createdAt", LocalDateTime::parse,
+        "firstName", value -> value,
+        "lastName", value -> value,
+        "email", value -> value
+    );
+    
     private final CandidateRepository candidateRepository;
-    private final InterviewSessionRepository sessionRepository;
+    private final AnalyticsRollupService rollupService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityStatisticsService statisticsService;
+    @org.springframework.context.annotation.Lazy
+    private final InterviewSessionService sessionService;
     
     public List<Candidate> getAllCandidates() {
         return candidateRepository.findAll();
@@ -55,6 +75,57 @@ public class CandidateService {
             .build();
     }
     
+    /**
+     * Cursor-paged candidate list; see {@link KeysetPaging}. ESTIMATE counts use the planner's row estimate
+     * and are only available without a search term.
+     */
+    public CandidateListResponse getCandidatesByCursor(
+            String search,
+            String cursor,
+            int size,
+            String sortBy,
+            String sortDir,
+            KeysetPaging.CountMode countMode) {
+        
+        Sort sort = KeysetPaging.sort(sortBy, sortDir, CANDIDATE_CURSOR_KEYS);
+        ScrollPosition position = KeysetPaging.decode(cursor, sort, CANDIDATE_CURSOR_KEYS);
+        Specification<Candidate> spec = candidateSearch(search);
+        
+        Window<Candidate> window = candidateRepository.findBy(spec, query -> query.sortBy(sort).limit(size).scroll(position));
+        
+        Long totalElements = null;
+        if (countMode == KeysetPaging.CountMode.EXACT) {
+            totalElements = candidateRepository.count(spec);
+        } else if (countMode == KeysetPaging.CountMode.ESTIMATE && (search == null || search.trim().isEmpty())) {
+            Long estimate = candidateRepository.estimateRowCount();
+            totalElements = estimate != null && estimate >= 0 ? estimate : null;
+        }
+        
+        return CandidateListResponse.builder()
+            .candidates(window.getContent())
+            .totalElements(totalElements)
+            .totalPages(totalElements != null ? (int) Math.ceil((double) totalElements / size) : null)
+            .pageSize(size)
+            .nextCursor(KeysetPaging.nextCursor(window, sort))
+            .hasNext(window.hasNext())
+            .build();
+    }
+    
+    // Same match as CandidateRepository.findWithSearch
+    private Specification<Candidate> candidateSearch(String search) {
+        return (root, query, cb) -> {
+            if (search == null || search.trim().isEmpty()) {
+                return cb.conjunction();
+            }
+            String pattern = "%" + search.toLowerCase() + "%";
+            return cb.or(
+                cb.like(cb.lower(root.get("firstName")), pattern),
+                cb.like(cb.lower(root.get("lastName")), pattern),
+                cb.like(cb.lower(root.get("email")), pattern)
+            );
+        };
+    }
+    
     public Candidate getCandidateById(Long id) {
         return candidateRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Candidate not found"));
@@ -62,7 +133,10 @@ public class CandidateService {
     
     @Transactional
     public Candidate createCandidate(Candidate candidate) {
-        return candidateRepository.save(candidate);
+        Candidate saved = candidateRepository.save(candidate);
+        rollupService.recordCandidateCreated(saved);
+        eventPublisher.publishEvent(AnalyticsChangeEvent.candidateChanged());
+        return saved;
     }
     
     @Transactional
@@ -74,11 +148,14 @@ public class CandidateService {
         candidate.setPhoneNumber(candidateDetails.getPhoneNumber());
         candidate.setResumeUrl(candidateDetails.getResumeUrl());
         candidate.setLinkedInUrl(candidateDetails.getLinkedInUrl());
-        return candidateRepository.save(candidate);
+        Candidate saved = candidateRepository.save(candidate);
+        eventPublisher.publishEvent(AnalyticsChangeEvent.candidateChanged());
+        return saved;
     }
     
     @Transactional
     public List<Candidate> bulkCreateCandidates(BulkCandidateRequest request) {
+        eventPublisher.publishEvent(AnalyticsChangeEvent.candidateChanged());
         return request.getCandidates().stream()
             .map(data -> {
                 Candidate candidate = new Candidate();
@@ -87,75 +164,38 @@ public class CandidateService {
                 candidate.setLastName(data.getLastName());
                 candidate.setPhoneNumber(data.getPhoneNumber());
                 candidate.setLinkedInUrl(data.getLinkedInUrl());
-                return candidateRepository.save(candidate);
+                Candidate saved = candidateRepository.save(candidate);
+                rollupService.recordCandidateCreated(saved);
+                return saved;
             })
             .collect(Collectors.toList());
     }
     
     @Transactional
     public void bulkDeleteCandidates(List<Long> candidateIds) {
-        candidateRepository.deleteAllById(candidateIds);
+        List<Candidate> candidates = candidateRepository.findAllById(candidateIds);
+        candidateRepository.deleteAll(candidates);
+        candidates.forEach(rollupService::recordCandidateDeleted);
+        eventPublisher.publishEvent(AnalyticsChangeEvent.candidateChanged());
     }
     
     @Transactional
     public void deleteCandidate(Long id) {
         Candidate candidate = getCandidateById(id);
         candidateRepository.delete(candidate);
+        rollupService.recordCandidateDeleted(candidate);
+        eventPublisher.publishEvent(AnalyticsChangeEvent.candidateChanged());
     }
     
-    public List<com.aiinterview.dto.InterviewSessionResponse> getCandidateInterviews(Long candidateId) {
+    public List<com.aiinterview.dto.InterviewSessionResponse> getCandidateInterviews(Long candidateId, boolean detail) {
         // Verify candidate exists
         getCandidateById(candidateId);
         
-        // Get all sessions for this candidate
-        List<com.aiinterview.model.InterviewSession> sessions = sessionRepository.findByCandidate_Id(candidateId);
-        
-        // Map to response DTOs
-        return sessions.stream()
-            .map(session -> {
-                return com.aiinterview.dto.InterviewSessionResponse.builder()
-                    .id(session.getId())
-                    .sessionId(session.getSessionId())
-                    .candidateId(session.getCandidate().getId())
-                    .candidateName(session.getCandidate().getFirstName() + " " + session.getCandidate().getLastName())
-                    .templateId(session.getTemplate().getId())
-                    .templateName(session.getTemplate().getName())
-                    .status(session.getStatus())
-                    .language(session.getLanguage())
-                    .startedAt(session.getStartedAt())
-                    .completedAt(session.getCompletedAt())
-                    .aiSummary(session.getAiSummary())
-                    .strengths(session.getStrengths())
-                    .weaknesses(session.getWeaknesses())
-                    .recommendation(session.getRecommendation())
-                    .totalTurns(session.getTotalTurns())
-                    .build();
-            })
-            .collect(Collectors.toList());
+        return sessionService.getSessionList(candidateId, null, detail);
     }
     
     public CandidateStatisticsResponse getCandidateStatistics() {
-        long totalCandidates = candidateRepository.count();
-        long candidatesWithResumes = candidateRepository.findAll().stream()
-            .filter(c -> c.getResumeUrl() != null && !c.getResumeUrl().isEmpty())
-            .count();
-        long candidatesWithInterviews = sessionRepository.findAll().stream()
-            .map(s -> s.getCandidate().getId())
-            .distinct()
-            .count();
-        
-        long totalInterviews = sessionRepository.count();
-        double averageInterviewsPerCandidate = totalCandidates > 0 
-            ? (double) totalInterviews / totalCandidates 
-            : 0.0;
-        
-        return CandidateStatisticsResponse.builder()
-            .totalCandidates(totalCandidates)
-            .candidatesWithResumes(candidatesWithResumes)
-            .candidatesWithInterviews(candidatesWithInterviews)
-            .activeCandidates(totalCandidates) // All candidates are considered active
-            .averageInterviewsPerCandidate(averageInterviewsPerCandidate)
-            .build();
+        return statisticsService.getCandidateStatistics();
     }
 }
 
@@ -0,0 +1,218 @@
+package com.aiinterview.service;
+
+import com.aiinterview.dto.CandidateStatisticsResponse;
+import com.aiinterview.dto.JobStatisticsResponse;
+import com.aiinterview.dto.TemplateUsageResponse;
+import com.aiinterview.event.AnalyticsChangeEvent;
+import com.aiinterview.model.InterviewSession;
+import com.aiinterview.model.InterviewTemplate;
+import com.aiinterview.model.Job;
+import com.aiinterview.repository.CandidateRepository;
+import com.aiinterview.repository.InterviewSessionRepository;
+import com.aiinterview.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Session counts per template, job and candidate, plus the global job and candidate statistics.
+ * <p>
+ * Per-entity counters are loaded with one grouped query on an indexed column and kept in memory for
+ * {@code analytics.entity-stats.ttl-seconds}, or until an {@link AnalyticsChangeEvent} on this instance
+ * touches a session of that entity. Events only reach the instance that committed them, so the TTL bounds
+ * how stale another replica's counters can be. Past {@code analytics.entity-stats.max-entries} the least
+ * recently read counters are evicted. Global figures come from the rollups and count queries, so no
+ * statistic scans {@code interview_sessions}.
+ */
+@Service
+@RequiredArgsConstructor
+public class EntityStatisticsService {
+    
+    private final InterviewSessionRepository sessionRepository;
+    private final JobRepository jobRepository;
+    private final CandidateRepository candidateRepository;
+    private final AnalyticsRollupService rollupService;
+    private final CandidateReachService reachService;
+    
+    @Value("${analytics.entity-stats.max-entries:10000}")
+    private int maxEntries;
+    
+    @Value("${analytics.entity-stats.ttl-seconds:30}")
+    private long ttlSeconds;
+    
+    // Access-ordered, so the eldest entry is the least recently read one; guarded by itself
+    private final Map<Key, CachedCounters> counters = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, CachedCounters> eldest) {
+            return size() > maxEntries;
+        }
+    };
+    private long generation;
+    
+    public enum Scope {
+        TEMPLATE,
+        JOB,
+        CANDIDATE
+    }
+    
+    private record Key(Scope scope, Long id) {
+    }
+    
+    private record CachedCounters(SessionCounters counters, long loadedAtMillis) {
+    }
+    
+    /**
+     * Sessions of one template, job or candidate, by status, with their summed turn counts.
+     */
+    public record SessionCounters(Map<InterviewSession.SessionStatus, Long> byStatus, long total, long totalTurns) {
+        
+        public long count(InterviewSession.SessionStatus status) {
+            return byStatus.getOrDefault(status, 0L);
+        }
+    }
+    
+    public SessionCounters getSessionCounters(Scope scope, Long id) {
+        Key key = new Key(scope, id);
+        long loadedAtGeneration;
+        synchronized (counters) {
+            CachedCounters cached = counters.get(key);
+            if (cached != null && System.currentTimeMillis() - cached.loadedAtMillis() < ttlSeconds * 1000) {
+                return cached.counters();
+            }
+            loadedAtGeneration = generation;
+        }
+        long loadedAt = System.currentTimeMillis();
+        SessionCounters loaded = load(scope, id);
+        synchronized (counters) {
+            // Skip the put if the entity changed while loading; the next read reloads it
+            if (generation == loadedAtGeneration) {
+                counters.put(key, new CachedCounters(loaded, loadedAt));
+            }
+        }
+        return loaded;
+    }
+    
+    public JobStatisticsResponse getJobStatistics() {
+        long totalJobs = jobRepository.count();
+        long activeJobs = jobRepository.countByActiveTrue();
+        long totalInterviews = rollupService.getTotalSessions();
+        
+        Map<String, Long> jobsBySeniority = new HashMap<>();
+        for (JobRepository.SeniorityCount row : jobRepository.countActiveGroupedBySeniority()) {
+            jobsBySeniority.put(row.getSeniorityLevel().name(), row.getTotal());
+        }
+        
+        return JobStatisticsResponse.builder()
+            .totalJobs(totalJobs)
+            .activeJobs(activeJobs)
+            .totalCandidates(reachService.countUniqueCandidates(
+                CandidateReachService.Slice.ALL, CandidateReachService.Mode.APPROXIMATE))
+            .totalInterviews(totalInterviews)
+            .jobsBySeniorityLevel(jobsBySeniority)
+            .averageInterviewsPerJob(activeJobs > 0 ? (double) totalInterviews / activeJobs : 0.0)
+            .build();
+    }
+    
+    public JobStatisticsResponse getJobStatistics(Job job) {
+        long totalInterviews = getSessionCounters(Scope.JOB, job.getId()).total();
+        long totalCandidates = reachService.countUniqueCandidates(
+            new CandidateReachService.Slice(job.getId(), null, null, null), CandidateReachService.Mode.EXACT);
+        
+        Map<String, Long> jobsBySeniority = new HashMap<>();
+        jobsBySeniority.put(job.getSeniorityLevel().name(), 1L);
+        
+        return JobStatisticsResponse.builder()
+            .totalJobs(1L)
+            .activeJobs(job.getActive() ? 1L : 0L)
+            .totalCandidates(totalCandidates)
+            .totalInterviews(totalInterviews)
+            .jobsBySeniorityLevel(jobsBySeniority)
+            .averageInterviewsPerJob(totalCandidates > 0 ? (double) totalInterviews / totalCandidates : 0.0)
+            .build();
+    }
+    
+    public CandidateStatisticsResponse getCandidateStatistics() {
+        long totalCandidates = candidateRepository.count();
+        long totalInterviews = rollupService.getTotalSessions();
+        
+        return CandidateStatisticsResponse.builder()
+            .totalCandidates(totalCandidates)
+            .candidatesWithResumes(candidateRepository.countWithResume())
+            .candidatesWithInterviews(reachService.countUniqueCandidates(
+                CandidateReachService.Slice.ALL, CandidateReachService.Mode.APPROXIMATE))
+            .activeCandidates(totalCandidates) // All candidates are considered active
+            .averageInterviewsPerCandidate(totalCandidates > 0 ? (double) totalInterviews / totalCandidates : 0.0)
+            .build();
+    }
+    
+    public TemplateUsageResponse getTemplateUsage(InterviewTemplate template) {
+        SessionCounters sessions = getSessionCounters(Scope.TEMPLATE, template.getId());
+        long totalSessions = sessions.total();
+        long completedSessions = sessions.count(InterviewSession.SessionStatus.COMPLETED);
+        
+        Map<String, Long> sessionsByStatus = new HashMap<>();
+        for (InterviewSession.SessionStatus status : InterviewSession.SessionStatus.values()) {
+            sessionsByStatus.put(status.name(), sessions.count(status));
+        }
+        
+        return TemplateUsageResponse.builder()
+            .templateId(template.getId())
+            .templateName(template.getName())
+            .totalSessions(totalSessions)
+            .completedSessions(completedSessions)
+            .inProgressSessions(sessions.count(InterviewSession.SessionStatus.IN_PROGRESS))
+            .pendingSessions(sessions.count(InterviewSession.SessionStatus.PENDING))
+            .averageCompletionRate(totalSessions > 0 ? (double) completedSessions / totalSessions * 100 : 0.0)
+            .averageTurnsPerSession(totalSessions > 0 ? (double) sessions.totalTurns() / totalSessions : 0.0)
+            .sessionsByStatus(sessionsByStatus)
+            .uniqueCandidates(reachService.countUniqueCandidates(
+                new CandidateReachService.Slice(null, template.getId(), null, null), CandidateReachService.Mode.EXACT))
+            .build();
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAnalyticsChange(AnalyticsChangeEvent event) {
+        synchronized (counters) {
+            generation++;
+            if (event.sessionId() == null) {
+                // Candidate and job changes can cascade to sessions the event does not name
+                counters.clear();
+                return;
+            }
+            counters.remove(new Key(Scope.TEMPLATE, event.templateId()));
+            counters.remove(new Key(Scope.JOB, event.jobId()));
+            counters.remove(new Key(Scope.CANDIDATE, event.candidateId()));
+        }
+    }
+    
+    private SessionCounters load(Scope scope, Long id) {
+        List<InterviewSessionRepository.StatusTurnCount> rows;
+        switch (scope) {
+            case TEMPLATE:
+                rows = sessionRepository.countGroupedByStatusForTemplate(id);
+                break;
+            case JOB:
+                rows = sessionRepository.countGroupedByStatusForJob(id);
+                break;
+            default:
+                rows = sessionRepository.countGroupedByStatusForCandidate(id);
+        }
+        Map<InterviewSession.SessionStatus, Long> byStatus = new EnumMap<>(InterviewSession.SessionStatus.class);
+        long total = 0;
+        long turns = 0;
+        for (InterviewSessionRepository.StatusTurnCount row : rows) {
+            byStatus.put(row.getStatus(), row.getTotal());
+            total += row.getTotal();
+            turns += row.getTurns() != null ? row.getTurns() : 0;
+        }
+        return new SessionCounters(Collections.unmodifiableMap(byStatus), total, turns);
+    }
+}
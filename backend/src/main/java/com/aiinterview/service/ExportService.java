@@ -2,17 +2,22 @@ package com.aiinterview.service;
 
 import com.aiinterview.dto.TranscriptResponse;
 import com.aiinterview.dto.InterviewTurnResponse;
+import com.aiinterview.model.InterviewSession;
+import com.aiinterview.repository.InterviewSessionRepository;
+import com.aiinterview.repository.InterviewTurnRepository;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfWriter;
 import com.itextpdf.layout.Document;
 import com.itextpdf.layout.element.Paragraph;
-import com.itextpdf.layout.element.Table;
 import com.itextpdf.layout.properties.TextAlignment;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 
@@ -21,12 +26,28 @@ import java.util.List;
 public class ExportService {
     
     private final TranscriptService transcriptService;
+    private final InterviewSessionRepository sessionRepository;
+    private final InterviewTurnRepository turnRepository;
     
-    public byte[] exportTranscriptAsPdf(String sessionId) throws IOException {
-        TranscriptResponse transcript = transcriptService.getTranscript(sessionId);
-        
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        PdfWriter writer = new PdfWriter(baos);
+    @Value("${exports.pdf.turn-page-size:100}")
+    private int turnPageSize;
+    
+    /**
+     * Stream the transcript of a session as a PDF. The session is loaded right away, so a missing one fails
+     * before the response starts; the turns are then read page by page as the document is written, and
+     * each finished PDF page is flushed to the response, so memory stays bounded by
+     * {@code exports.pdf.turn-page-size} whatever the transcript length.
+     */
+    public StreamingResponseBody streamTranscriptAsPdf(String sessionId) {
+        InterviewSession session = sessionRepository.findWithCandidateAndTemplateBySessionId(sessionId)
+            .orElseThrow(() -> new RuntimeException("Session not found"));
+        return out -> writeTranscriptPdf(session, out);
+    }
+    
+    private void writeTranscriptPdf(InterviewSession session, OutputStream out) throws IOException {
+        PdfWriter writer = new PdfWriter(out);
+        // The servlet container owns the response stream
+        writer.setCloseStream(false);
         PdfDocument pdf = new PdfDocument(writer);
         Document document = new Document(pdf);
         
@@ -39,10 +60,10 @@ public class ExportService {
         document.add(new Paragraph("\n"));
         
         // Session Info
-        document.add(new Paragraph("Candidate: " + transcript.getCandidateName()));
-        document.add(new Paragraph("Template: " + transcript.getTemplateName()));
-        document.add(new Paragraph("Language: " + transcript.getLanguage()));
-        document.add(new Paragraph("Status: " + transcript.getStatus()));
+        document.add(new Paragraph("Candidate: " + session.getCandidate().getFirstName() + " " + session.getCandidate().getLastName()));
+        document.add(new Paragraph("Template: " + session.getTemplate().getName()));
+        document.add(new Paragraph("Language: " + session.getLanguage()));
+        document.add(new Paragraph("Status: " + session.getStatus().name()));
         document.add(new Paragraph("\n"));
         
         // Transcript
@@ -53,54 +74,67 @@ public class ExportService {
         
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
         
-        for (InterviewTurnResponse turn : transcript.getTurns()) {
-            document.add(new Paragraph("Turn " + turn.getTurnNumber())
-                .setBold());
-            
-            if (turn.getQuestionTimestamp() != null) {
-                document.add(new Paragraph("Time: " + turn.getQuestionTimestamp().format(formatter))
-                    .setFontSize(10)
-                    .setItalic());
-            }
-            
-            document.add(new Paragraph("Question: " + turn.getQuestion()));
-            
-            if (turn.getAnswer() != null) {
-                document.add(new Paragraph("Answer: " + turn.getAnswer()));
+        int lastTurnNumber = 0;
+        int flushedPages = 0;
+        List<InterviewTurnRepository.TranscriptTurnRow> turns;
+        do {
+            turns = turnRepository.findTranscriptPage(session.getId(), session.getStartedAt(), lastTurnNumber,
+                Limit.of(turnPageSize));
+            for (InterviewTurnRepository.TranscriptTurnRow turn : turns) {
+                document.add(new Paragraph("Turn " + turn.getTurnNumber())
+                    .setBold());
+                
+                if (turn.getQuestionTimestamp() != null) {
+                    document.add(new Paragraph("Time: " + turn.getQuestionTimestamp().format(formatter))
+                        .setFontSize(10)
+                        .setItalic());
+                }
+                
+                document.add(new Paragraph("Question: " + turn.getQuestion()));
+                
+                if (turn.getAnswer() != null) {
+                    document.add(new Paragraph("Answer: " + turn.getAnswer()));
+                }
+                
+                if (turn.getAiComment() != null) {
+                    document.add(new Paragraph("AI Comment: " + turn.getAiComment())
+                        .setItalic());
+                }
+                
+                document.add(new Paragraph("\n"));
+                lastTurnNumber = turn.getTurnNumber();
             }
             
-            if (turn.getAiComment() != null) {
-                document.add(new Paragraph("AI Comment: " + turn.getAiComment())
-                    .setItalic());
+            // Every page before the one being laid out is complete: write it out and release its content
+            for (; flushedPages < pdf.getNumberOfPages() - 1; flushedPages++) {
+                pdf.getPage(flushedPages + 1).flush();
             }
-            
-            document.add(new Paragraph("\n"));
-        }
+            writer.flush();
+        } while (turns.size() == turnPageSize);
         
         // Evaluation
-        if (transcript.getAiSummary() != null) {
+        if (session.getAiSummary() != null) {
             document.add(new Paragraph("Evaluation")
                 .setFontSize(16)
                 .setBold());
             document.add(new Paragraph("\n"));
             
-            document.add(new Paragraph("Summary: " + transcript.getAiSummary()));
+            document.add(new Paragraph("Summary: " + session.getAiSummary()));
             
-            if (transcript.getStrengths() != null) {
-                document.add(new Paragraph("Strengths: " + transcript.getStrengths()));
+            if (session.getStrengths() != null) {
+                document.add(new Paragraph("Strengths: " + session.getStrengths()));
             }
             
-            if (transcript.getWeaknesses() != null) {
-                document.add(new Paragraph("Weaknesses: " + transcript.getWeaknesses()));
+            if (session.getWeaknesses() != null) {
+                document.add(new Paragraph("Weaknesses: " + session.getWeaknesses()));
             }
             
-            if (transcript.getRecommendation() != null) {
-                document.add(new Paragraph("Recommendation: " + transcript.getRecommendation()));
+            if (session.getRecommendation() != null) {
+                document.add(new Paragraph("Recommendation: " + session.getRecommendation().name()));
             }
         }
         
         document.close();
-        return baos.toByteArray();
     }
     
     public String exportTranscriptAsCsv(String sessionId) {
@@ -1,17 +1,20 @@
 package com.aiinterview.service;
 
 import com.aiinterview.dto.*;
+import com.aiinterview.event.AnalyticsChangeEvent;
 import com.aiinterview.model.Candidate;
 import com.aiinterview.model.InterviewSession;
 import com.aiinterview.model.InterviewTemplate;
 import com.aiinterview.repository.CandidateRepository;
+import com.aiinterview.repository.InterviewSessionListRepository;
 import com.aiinterview.repository.InterviewSessionRepository;
 import com.aiinterview.repository.InterviewTemplateRepository;
 import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -25,18 +28,32 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class InterviewSessionService {
     
+    // Non-null columns the session list can be cursor-paged on
+    private static final Map<String, Function<String, Object>> SESSION_CURSOR_KEYS = Map.of(
+        "startedAt", LocalDateTime::parse,
+        "id", Long::valueOf
+    );
+    
     private final InterviewSessionRepository sessionRepository;
     private final CandidateRepository candidateRepository;
     private final InterviewTemplateRepository templateRepository;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final AnalyticsRollupService rollupService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CandidateReachService reachService;
     @org.springframework.context.annotation.Lazy
     private final WebSocketService webSocketService;
+    private final EntityStatisticsService statisticsService;
+    private final SessionTimerService timerService;
+    private final SessionHeartbeatService heartbeatService;
+    private final TranscriptCacheService transcriptCache;
     
     @Transactional
     public InterviewSessionResponse createSession(CreateInterviewSessionRequest request) {
@@ -67,6 +84,10 @@ public class InterviewSessionService {
             .build();
         
         session = sessionRepository.save(session);
+        rollupService.recordSessionCreated(session);
+        reachService.recordSession(session);
+        eventPublisher.publishEvent(AnalyticsChangeEvent.sessionCreated(session));
+        timerService.scheduleCreated(session);
         
         // Store session state in Redis (optional - don't fail if Redis is unavailable)
         try {
@@ -94,6 +115,8 @@ public class InterviewSessionService {
     public InterviewSessionResponse updateSessionStatus(String sessionId, InterviewSession.SessionStatus status) {
         InterviewSession session = sessionRepository.findBySessionId(sessionId)
             .orElseThrow(() -> new RuntimeException("Session not found"));
+        AnalyticsRollupService.Contribution before = rollupService.snapshot(session);
+        InterviewSession.SessionStatus previousStatus = session.getStatus();
         
         session.setStatus(status);
         if (status == InterviewSession.SessionStatus.COMPLETED) {
@@ -101,6 +124,13 @@ public class InterviewSessionService {
         }
         
         session = sessionRepository.save(session);
+        rollupService.recordChange(before, session);
+        eventPublisher.publishEvent(AnalyticsChangeEvent.sessionStatusChanged(session, previousStatus));
+        timerService.onStatusChanged(session);
+        heartbeatService.onStatusChanged(session);
+        if (previousStatus == InterviewSession.SessionStatus.COMPLETED) {
+            transcriptCache.evict(sessionId);
+        }
         InterviewSessionResponse response = mapToResponse(session);
         
         // Broadcast session update via WebSocket
@@ -123,7 +153,8 @@ public class InterviewSessionService {
             int page,
             int size,
             String sortBy,
-            String sortDir) {
+            String sortDir,
+            boolean detail) {
         
         Sort sort = sortDir.equalsIgnoreCase("desc") 
             ? Sort.by(sortBy).descending() 
@@ -131,8 +162,125 @@ public class InterviewSessionService {
         
         Pageable pageable = PageRequest.of(page, size, sort);
         
-        // Build dynamic query using Specification
-        Specification<InterviewSession> spec = (root, query, cb) -> {
+        Specification<InterviewSession> spec = sessionFilter(status, candidateId, templateId, startDate, endDate);
+        
+        List<InterviewSessionResponse> sessions = sessionRepository
+            .findListRows(spec, sort, pageable.getOffset(), size, detail).stream()
+            .map(this::mapToResponse)
+            .collect(Collectors.toList());
+        long totalElements = sessionRepository.count(spec);
+        
+        return SessionListResponse.builder()
+            .sessions(sessions)
+            .totalElements(totalElements)
+            .totalPages((int) Math.ceil((double) totalElements / size))
+            .currentPage(page)
+            .pageSize(size)
+            .build();
+    }
+    
+    /**
+     * Cursor-paged variant of {@link #getAllSessions}: continues after {@code cursor} (null or blank for the
+     * first page) instead of skipping rows, and only counts when {@code countMode} asks for it.
+     */
+    public SessionListResponse getSessionsByCursor(
+            InterviewSession.SessionStatus status,
+            Long candidateId,
+            Long templateId,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String cursor,
+            int size,
+            String sortBy,
+            String sortDir,
+            KeysetPaging.CountMode countMode,
+            boolean detail) {
+        
+        Sort sort = KeysetPaging.sort(sortBy, sortDir, SESSION_CURSOR_KEYS);
+        ScrollPosition position = KeysetPaging.decode(cursor, sort, SESSION_CURSOR_KEYS);
+        Specification<InterviewSession> spec = sessionFilter(status, candidateId, templateId, startDate, endDate);
+        
+        // One extra row tells whether another page follows
+        List<InterviewSessionListRepository.SessionListRow> rows = sessionRepository.findListRows(
+            spec.and(KeysetPaging.after(position, sort)), sort, 0, size + 1, detail);
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
+        }
+        String nextCursor = null;
+        if (hasNext) {
+            InterviewSessionListRepository.SessionListRow last = rows.get(rows.size() - 1);
+            nextCursor = KeysetPaging.nextCursor(Map.of("startedAt", last.startedAt(), "id", last.id()), sort);
+        }
+        
+        List<InterviewSessionResponse> sessions = rows.stream()
+            .map(this::mapToResponse)
+            .collect(Collectors.toList());
+        
+        Long totalElements = countSessions(spec, status, candidateId, templateId, startDate, endDate, countMode);
+        return SessionListResponse.builder()
+            .sessions(sessions)
+            .totalElements(totalElements)
+            .totalPages(totalElements != null ? (int) Math.ceil((double) totalElements / size) : null)
+            .pageSize(size)
+            .nextCursor(nextCursor)
+            .hasNext(hasNext)
+            .build();
+    }
+    
+    /**
+     * Sessions of one candidate or job (whichever id is given), latest first.
+     */
+    public List<InterviewSessionResponse> getSessionList(Long candidateId, Long jobId, boolean detail) {
+        Specification<InterviewSession> spec = (root, query, cb) -> candidateId != null
+            ? cb.equal(root.get("candidate").get("id"), candidateId)
+            : cb.equal(root.get("template").get("job").get("id"), jobId);
+        return sessionRepository.findListRows(spec, Sort.by(Sort.Direction.DESC, "startedAt", "id"), 0, Integer.MAX_VALUE, detail)
+            .stream()
+            .map(this::mapToResponse)
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * Total for a cursor-paged listing. ESTIMATE answers from the rollups, the per-entity counters or the
+     * planner's row estimate where one of them matches the filters, and is null otherwise.
+     */
+    private Long countSessions(Specification<InterviewSession> spec,
+                               InterviewSession.SessionStatus status,
+                               Long candidateId,
+                               Long templateId,
+                               LocalDateTime startDate,
+                               LocalDateTime endDate,
+                               KeysetPaging.CountMode countMode) {
+        switch (countMode) {
+            case EXACT:
+                return sessionRepository.count(spec);
+            case ESTIMATE:
+                if (startDate != null || endDate != null || (candidateId != null && templateId != null)) {
+                    return null;
+                }
+                if (candidateId != null || templateId != null) {
+                    EntityStatisticsService.SessionCounters counters = candidateId != null
+                        ? statisticsService.getSessionCounters(EntityStatisticsService.Scope.CANDIDATE, candidateId)
+                        : statisticsService.getSessionCounters(EntityStatisticsService.Scope.TEMPLATE, templateId);
+                    return status != null ? counters.count(status) : counters.total();
+                }
+                if (status != null) {
+                    return rollupService.getSessionsByStatus().getOrDefault(status, 0L);
+                }
+                Long estimate = sessionRepository.estimateRowCount();
+                return estimate != null && estimate >= 0 ? estimate : null;
+            default:
+                return null;
+        }
+    }
+    
+    private Specification<InterviewSession> sessionFilter(InterviewSession.SessionStatus status,
+                                                          Long candidateId,
+                                                          Long templateId,
+                                                          LocalDateTime startDate,
+                                                          LocalDateTime endDate) {
+        return (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
             
             if (status != null) {
@@ -157,20 +305,6 @@ public class InterviewSessionService {
             
             return cb.and(predicates.toArray(new Predicate[0]));
         };
-        
-        Page<InterviewSession> sessionPage = sessionRepository.findAll(spec, pageable);
-        
-        List<InterviewSessionResponse> sessions = sessionPage.getContent().stream()
-            .map(this::mapToResponse)
-            .collect(Collectors.toList());
-        
-        return SessionListResponse.builder()
-            .sessions(sessions)
-            .totalElements(sessionPage.getTotalElements())
-            .totalPages(sessionPage.getTotalPages())
-            .currentPage(page)
-            .pageSize(size)
-            .build();
     }
     
     @Transactional
@@ -182,8 +316,12 @@ public class InterviewSessionService {
             throw new RuntimeException("Only IN_PROGRESS sessions can be paused");
         }
         
+        AnalyticsRollupService.Contribution before = rollupService.snapshot(session);
         session.setStatus(InterviewSession.SessionStatus.PAUSED);
         session = sessionRepository.save(session);
+        rollupService.recordChange(before, session);
+        eventPublisher.publishEvent(AnalyticsChangeEvent.sessionStatusChanged(session, InterviewSession.SessionStatus.IN_PROGRESS));
+        heartbeatService.onStatusChanged(session);
         return mapToResponse(session);
     }
     
@@ -196,8 +334,13 @@ public class InterviewSessionService {
             throw new RuntimeException("Only PAUSED sessions can be resumed");
         }
         
+        AnalyticsRollupService.Contribution before = rollupService.snapshot(session);
         session.setStatus(InterviewSession.SessionStatus.IN_PROGRESS);
         session = sessionRepository.save(session);
+        rollupService.recordChange(before, session);
+        eventPublisher.publishEvent(AnalyticsChangeEvent.sessionStatusChanged(session, InterviewSession.SessionStatus.PAUSED));
+        timerService.onStatusChanged(session);
+        heartbeatService.onStatusChanged(session);
         return mapToResponse(session);
     }
     
@@ -212,6 +355,8 @@ public class InterviewSessionService {
         session.setRecommendation(request.getRecommendation());
         
         session = sessionRepository.save(session);
+        eventPublisher.publishEvent(AnalyticsChangeEvent.sessionUpdated(session));
+        transcriptCache.evict(sessionId);
         return mapToResponse(session);
     }
     
@@ -230,6 +375,35 @@ public class InterviewSessionService {
         
         // Delete the session (cascade will handle related turns if configured)
         sessionRepository.delete(session);
+        rollupService.recordSessionDeleted(session);
+        eventPublisher.publishEvent(AnalyticsChangeEvent.sessionDeleted(session));
+        timerService.cancelAll(sessionId);
+        heartbeatService.untrack(sessionId);
+        transcriptCache.evict(sessionId);
+    }
+    
+    private InterviewSessionResponse mapToResponse(InterviewSessionListRepository.SessionListRow row) {
+        return InterviewSessionResponse.builder()
+            .id(row.id())
+            .sessionId(row.sessionId())
+            .candidateId(row.candidateId())
+            .candidateName(row.candidateFirstName() + " " + row.candidateLastName())
+            .templateId(row.templateId())
+            .templateName(row.templateName())
+            .status(row.status())
+            .language(row.language())
+            .startedAt(row.startedAt())
+            .completedAt(row.completedAt())
+            .aiSummary(row.aiSummary())
+            .strengths(row.strengths())
+            .weaknesses(row.weaknesses())
+            .recommendation(row.recommendation())
+            .totalTurns(row.totalTurns())
+            .averageCommunicationScore(row.averageCommunicationScore())
+            .averageTechnicalScore(row.averageTechnicalScore())
+            .averageClarityScore(row.averageClarityScore())
+            .antiCheatSignalCount(row.antiCheatSignalCount())
+            .build();
     }
     
     private InterviewSessionResponse mapToResponse(InterviewSession session) {
@@ -249,6 +423,10 @@ public class InterviewSessionService {
             .weaknesses(session.getWeaknesses())
             .recommendation(session.getRecommendation())
             .totalTurns(session.getTotalTurns())
+            .averageCommunicationScore(session.getScorecard().getCommunicationScoreAverage())
+            .averageTechnicalScore(session.getScorecard().getTechnicalScoreAverage())
+            .averageClarityScore(session.getScorecard().getClarityScoreAverage())
+            .antiCheatSignalCount(session.getScorecard().getAntiCheatSignalCount())
             .build();
     }
 }
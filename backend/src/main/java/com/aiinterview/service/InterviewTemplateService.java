@@ -2,9 +2,7 @@ package com.aiinterview.service;
 
 import com.aiinterview.dto.TemplateListResponse;
 import com.aiinterview.dto.TemplateUsageResponse;
-import com.aiinterview.model.InterviewSession;
 import com.aiinterview.model.InterviewTemplate;
-import com.aiinterview.repository.InterviewSessionRepository;
 import com.aiinterview.repository.InterviewTemplateRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -16,18 +14,15 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class InterviewTemplateService {
     
     private final InterviewTemplateRepository templateRepository;
-    private final InterviewSessionRepository sessionRepository;
     private final com.aiinterview.repository.UserRepository userRepository;
+    private final EntityStatisticsService statisticsService;
     
     public List<InterviewTemplate> getAllActiveTemplates() {
         return templateRepository.findByActiveTrue();
@@ -107,63 +102,7 @@ public class InterviewTemplateService {
     }
     
     public TemplateUsageResponse getTemplateUsage(Long templateId) {
-        InterviewTemplate template = getTemplateById(templateId);
-        
-        // Get all sessions using this template
-        List<InterviewSession> sessions = sessionRepository.findAll().stream()
-            .filter(s -> s.getTemplate().getId().equals(templateId))
-            .collect(Collectors.toList());
-        
-        long totalSessions = sessions.size();
-        long completedSessions = sessions.stream()
-            .filter(s -> s.getStatus() == InterviewSession.SessionStatus.COMPLETED)
-            .count();
-        long inProgressSessions = sessions.stream()
-            .filter(s -> s.getStatus() == InterviewSession.SessionStatus.IN_PROGRESS)
-            .count();
-        long pendingSessions = sessions.stream()
-            .filter(s -> s.getStatus() == InterviewSession.SessionStatus.PENDING)
-            .count();
-        
-        double averageCompletionRate = totalSessions > 0 
-            ? (double) completedSessions / totalSessions * 100 
-            : 0.0;
-        
-        double averageTurnsPerSession = totalSessions > 0
-            ? sessions.stream()
-                .mapToInt(s -> s.getTotalTurns() != null ? s.getTotalTurns() : 0)
-                .average()
-                .orElse(0.0)
-            : 0.0;
-        
-        Map<String, Long> sessionsByStatus = new HashMap<>();
-        sessionsByStatus.put("COMPLETED", completedSessions);
-        sessionsByStatus.put("IN_PROGRESS", inProgressSessions);
-        sessionsByStatus.put("PENDING", pendingSessions);
-        sessionsByStatus.put("PAUSED", sessions.stream()
-            .filter(s -> s.getStatus() == InterviewSession.SessionStatus.PAUSED)
-            .count());
-        sessionsByStatus.put("ABANDONED", sessions.stream()
-            .filter(s -> s.getStatus() == InterviewSession.SessionStatus.ABANDONED)
-            .count());
-        
-        long uniqueCandidates = sessions.stream()
-            .map(s -> s.getCandidate().getId())
-            .distinct()
-            .count();
-        
-        return TemplateUsageResponse.builder()
-            .templateId(templateId)
-            .templateName(template.getName())
-            .totalSessions(totalSessions)
-            .completedSessions(completedSessions)
-            .inProgressSessions(inProgressSessions)
-            .pendingSessions(pendingSessions)
-            .averageCompletionRate(averageCompletionRate)
-            .averageTurnsPerSession(averageTurnsPerSession)
-            .sessionsByStatus(sessionsByStatus)
-            .uniqueCandidates(uniqueCandidates)
-            .build();
+        return statisticsService.getTemplateUsage(getTemplateById(templateId));
     }
     
     @Transactional
@@ -2,25 +2,57 @@ package com.aiinterview.service;
 
 import com.aiinterview.dto.CreateTurnRequest;
 import com.aiinterview.dto.InterviewTurnResponse;
+import com.aiinterview.dto.TurnBatchRequest;
+import com.aiinterview.dto.TurnBatchResponse;
 import com.aiinterview.dto.UpdateTurnRequest;
+import com.aiinterview.event.AnalyticsChangeEvent;
 import com.aiinterview.model.InterviewSession;
 import com.aiinterview.model.InterviewTurn;
+import com.aiinterview.model.SessionScorecard;
 import com.aiinterview.repository.InterviewSessionRepository;
 import com.aiinterview.repository.InterviewTurnRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class InterviewTurnService {
     
+    private static final int MAX_APPEND_ATTEMPTS = 3;
+    private static final String TURN_NUMBER_KEY = "uk_interview_turns_session_turn";
+    private static final String TURN_PARTITION_PREFIX = "interview_turns_p";
+    private static final String UNIQUE_VIOLATION = "23505";
+    
     private final InterviewTurnRepository turnRepository;
     private final InterviewSessionRepository sessionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ScoreHistogramService histogramService;
+    private final TransactionTemplate transactionTemplate;
+    private final TranscriptCacheService transcriptCache;
+    
+    @Value("${interview.turns.max-batch-size:500}")
+    private int maxBatchSize;
     
     public List<InterviewTurn> getTurnsBySessionId(Long sessionId) {
         return turnRepository.findBySession_IdOrderByTurnNumberAsc(sessionId);
@@ -35,10 +67,13 @@ public class InterviewTurnService {
     public List<InterviewTurnResponse> getTurnsBySessionIdString(String sessionId) {
         InterviewSession session = sessionRepository.findBySessionId(sessionId)
             .orElseThrow(() -> new RuntimeException("Session not found"));
-        return getTurnsBySessionIdAsResponse(session.getId());
+        return turnRepository.findBySession_IdAndSessionStartedAtOrderByTurnNumberAsc(session.getId(), session.getStartedAt())
+            .stream()
+            .map(this::mapToResponse)
+            .collect(Collectors.toList());
     }
     
-    private InterviewTurnResponse mapToResponse(InterviewTurn turn) {
+    InterviewTurnResponse mapToResponse(InterviewTurn turn) {
         return InterviewTurnResponse.builder()
             .id(turn.getId())
             .turnNumber(turn.getTurnNumber())
@@ -57,75 +92,224 @@ public class InterviewTurnService {
             .build();
     }
     
-    @Transactional
     public InterviewTurn createTurn(Long sessionId, String question, String answer) {
-        InterviewSession session = sessionRepository.findById(sessionId)
-            .orElseThrow(() -> new RuntimeException("Session not found"));
-        
-        List<InterviewTurn> existingTurns = getTurnsBySessionId(sessionId);
-        int turnNumber = existingTurns.size() + 1;
-        
-        InterviewTurn turn = InterviewTurn.builder()
-            .session(session)
-            .turnNumber(turnNumber)
+        return appendTurn(() -> sessionRepository.findByIdForUpdate(sessionId), () -> InterviewTurn.builder()
             .question(question)
             .answer(answer)
             .questionTimestamp(LocalDateTime.now())
-            .answerTimestamp(answer != null ? LocalDateTime.now() : null)
-            .build();
-        
-        turn = turnRepository.save(turn);
-        
-        // Update session turn count
-        session.setTotalTurns(turnNumber);
-        sessionRepository.save(session);
-        
-        return turn;
+            .answerTimestamp(answer != null ? LocalDateTime.now() : null));
     }
     
     @Transactional
     public InterviewTurn updateTurnWithAnswer(Long turnId, String answer, Long durationMs) {
         InterviewTurn turn = turnRepository.findById(turnId)
             .orElseThrow(() -> new RuntimeException("Turn not found"));
+        ScoreHistogramService.TurnSample sampleBefore = ScoreHistogramService.TurnSample.of(turn);
         
         turn.setAnswer(answer);
         turn.setAnswerTimestamp(LocalDateTime.now());
         turn.setAnswerDurationMs(durationMs);
         
-        return turnRepository.save(turn);
+        turn = turnRepository.save(turn);
+        histogramService.recordTurnChange(turn.getSession(), sampleBefore, ScoreHistogramService.TurnSample.of(turn));
+        return turn;
     }
     
-    @Transactional
     public InterviewTurnResponse createTurn(String sessionId, CreateTurnRequest request) {
-        InterviewSession session = sessionRepository.findBySessionId(sessionId)
-            .orElseThrow(() -> new RuntimeException("Session not found"));
-        
-        List<InterviewTurn> existingTurns = getTurnsBySessionId(session.getId());
-        int turnNumber = existingTurns.size() + 1;
-        
-        InterviewTurn turn = InterviewTurn.builder()
-            .session(session)
-            .turnNumber(turnNumber)
+        InterviewTurn turn = appendTurn(() -> sessionRepository.findBySessionIdForUpdate(sessionId), () -> InterviewTurn.builder()
             .question(request.getQuestion())
             .answer(request.getAnswer())
             .questionTimestamp(LocalDateTime.now())
             .answerTimestamp(request.getAnswer() != null ? LocalDateTime.now() : null)
             .answerDurationMs(request.getAnswerDurationMs())
-            .audioUrl(request.getAudioUrl())
-            .build();
+            .audioUrl(request.getAudioUrl()));
+        return mapToResponse(turn);
+    }
+    
+    /**
+     * Apply an ordered batch of turn creates and updates in one transaction. Every session in the batch is
+     * locked, new turns are numbered from the session counters as in {@link #createTurn(String, CreateTurnRequest)},
+     * and the new turns are written as a single JDBC batch insert.
+     */
+    public TurnBatchResponse applyTurnBatch(TurnBatchRequest request) {
+        if (request.getOperations().size() > maxBatchSize) {
+            throw new RuntimeException("Turn batch exceeds " + maxBatchSize + " operations");
+        }
+        return withTurnNumberRetry(resync -> applyTurnBatch(request.getOperations(), resync));
+    }
+    
+    /**
+     * Append a turn after the session's last one. The session row is locked for the append, so the next
+     * number is read from {@code totalTurns} instead of counting the stored turns.
+     */
+    private InterviewTurn appendTurn(Supplier<Optional<InterviewSession>> lockSession,
+                                     Supplier<InterviewTurn.InterviewTurnBuilder> newTurn) {
+        return withTurnNumberRetry(resync -> {
+            InterviewSession session = lockSession.get()
+                .orElseThrow(() -> new RuntimeException("Session not found"));
+            return insertTurn(session, newTurn.get(), resync);
+        });
+    }
+    
+    /**
+     * Run {@code work} in a transaction. If the turn counters have drifted, the unique (session, turn number)
+     * key rejects an insert and the work is retried with {@code resync} set, so counters are re-read from the
+     * stored turns. Any other integrity violation is rethrown at once.
+     */
+    private <T> T withTurnNumberRetry(Function<Boolean, T> work) {
+        for (int attempt = 1; ; attempt++) {
+            boolean resync = attempt > 1;
+            try {
+                return transactionTemplate.execute(status -> work.apply(resync));
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= MAX_APPEND_ATTEMPTS || !isTurnNumberConflict(e)) {
+                    throw e;
+                }
+                log.warn("Turn number conflict on append (attempt {}), resyncing turn count: {}", attempt, e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Whether {@code e} is a unique violation of the turn number key. Hibernate reports the constraint
+     * name for entity writes; the JDBC batch insert only carries the driver's message. The monthly
+     * partitions enforce the key under their own generated names ({@code interview_turns_p<yyyyMM>_...}),
+     * so those count too.
+     */
+    static boolean isTurnNumberConflict(DataIntegrityViolationException e) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return isTurnNumberKey(violation.getConstraintName());
+            }
+            if (cause instanceof SQLException sql) {
+                return UNIQUE_VIOLATION.equals(sql.getSQLState()) && sql.getMessage() != null
+                    && (sql.getMessage().contains("\"" + TURN_NUMBER_KEY + "\"")
+                        || sql.getMessage().contains("\"" + TURN_PARTITION_PREFIX));
+            }
+        }
+        return false;
+    }
+    
+    private static boolean isTurnNumberKey(String constraint) {
+        return constraint.equals(TURN_NUMBER_KEY) || constraint.startsWith(TURN_PARTITION_PREFIX);
+    }
+    
+    private InterviewTurn insertTurn(InterviewSession session, InterviewTurn.InterviewTurnBuilder builder, boolean resync) {
+        int turnNumber = lastTurnNumber(session, resync) + 1;
         
-        turn = turnRepository.save(turn);
+        // Flush so a numbering conflict surfaces here rather than at commit
+        InterviewTurn turn = turnRepository.saveAndFlush(builder.session(session).turnNumber(turnNumber).build());
         
-        // Update session turn count
+        // Update session turn count and scorecard
         session.setTotalTurns(turnNumber);
+        session.getScorecard().apply(SessionScorecard.TurnScores.NONE, SessionScorecard.TurnScores.of(turn));
         sessionRepository.save(session);
+        histogramService.recordTurnChange(session, ScoreHistogramService.TurnSample.NONE,
+            ScoreHistogramService.TurnSample.of(turn));
+        eventPublisher.publishEvent(AnalyticsChangeEvent.turnChanged(session));
+        evictCompletedTranscript(session);
         
-        return mapToResponse(turn);
+        return turn;
+    }
+    
+    private TurnBatchResponse applyTurnBatch(List<TurnBatchRequest.TurnOperation> operations, boolean resync) {
+        // Lock sessions in a fixed order so concurrent batches can't deadlock
+        Map<String, InterviewSession> sessions = new HashMap<>();
+        for (String sessionId : operations.stream().map(TurnBatchRequest.TurnOperation::getSessionId)
+                .collect(Collectors.toCollection(TreeSet::new))) {
+            sessions.put(sessionId, sessionRepository.findBySessionIdForUpdate(sessionId)
+                .orElseThrow(() -> new RuntimeException("Session not found: " + sessionId)));
+        }
+        Map<Long, InterviewTurn> existingTurns = turnRepository.findAllById(operations.stream()
+                .map(TurnBatchRequest.TurnOperation::getTurnId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()))
+            .stream()
+            .collect(Collectors.toMap(InterviewTurn::getId, Function.identity()));
+        
+        Map<Long, Integer> lastTurns = new HashMap<>();
+        List<InterviewTurn> newTurns = new ArrayList<>();
+        List<Runnable> histogramChanges = new ArrayList<>();
+        List<InterviewTurn> turns = new ArrayList<>(operations.size());
+        for (TurnBatchRequest.TurnOperation operation : operations) {
+            InterviewSession session = sessions.get(operation.getSessionId());
+            InterviewTurn turn;
+            SessionScorecard.TurnScores scoresBefore;
+            ScoreHistogramService.TurnSample sampleBefore;
+            if (operation.getTurnId() == null) {
+                if (operation.getQuestion() == null || operation.getQuestion().isBlank()) {
+                    throw new RuntimeException("Question is required to create a turn");
+                }
+                int turnNumber = lastTurns.computeIfAbsent(session.getId(), id -> lastTurnNumber(session, resync)) + 1;
+                lastTurns.put(session.getId(), turnNumber);
+                turn = InterviewTurn.builder()
+                    .session(session)
+                    .turnNumber(turnNumber)
+                    .questionTimestamp(LocalDateTime.now())
+                    .build();
+                newTurns.add(turn);
+                scoresBefore = SessionScorecard.TurnScores.NONE;
+                sampleBefore = ScoreHistogramService.TurnSample.NONE;
+            } else {
+                turn = existingTurns.get(operation.getTurnId());
+                if (turn == null) {
+                    throw new RuntimeException("Turn not found: " + operation.getTurnId());
+                }
+                if (!turn.getSession().getId().equals(session.getId())) {
+                    throw new RuntimeException("Turn " + operation.getTurnId() + " does not belong to session " + operation.getSessionId());
+                }
+                scoresBefore = SessionScorecard.TurnScores.of(turn);
+                sampleBefore = ScoreHistogramService.TurnSample.of(turn);
+            }
+            
+            applyChanges(turn, operation);
+            session.getScorecard().apply(scoresBefore, SessionScorecard.TurnScores.of(turn));
+            ScoreHistogramService.TurnSample sampleAfter = ScoreHistogramService.TurnSample.of(turn);
+            histogramChanges.add(() -> histogramService.recordTurnChange(session, sampleBefore, sampleAfter));
+            turns.add(turn);
+        }
+        
+        turnRepository.batchInsert(newTurns);
+        for (InterviewSession session : sessions.values()) {
+            if (lastTurns.containsKey(session.getId())) {
+                session.setTotalTurns(lastTurns.get(session.getId()));
+            }
+        }
+        sessionRepository.saveAll(sessions.values());
+        // Histogram updates run after the loop, so the dirty turns and sessions are flushed together as one
+        // JDBC batch (hibernate.jdbc.batch_size) before the first of them
+        histogramChanges.forEach(Runnable::run);
+        sessions.values().forEach(session -> eventPublisher.publishEvent(AnalyticsChangeEvent.turnChanged(session)));
+        sessions.values().forEach(this::evictCompletedTranscript);
+        
+        List<TurnBatchResponse.TurnResult> results = new ArrayList<>(turns.size());
+        for (int i = 0; i < turns.size(); i++) {
+            results.add(TurnBatchResponse.TurnResult.builder()
+                .sessionId(operations.get(i).getSessionId())
+                .turnId(turns.get(i).getId())
+                .turnNumber(turns.get(i).getTurnNumber())
+                .created(operations.get(i).getTurnId() == null)
+                .build());
+        }
+        return TurnBatchResponse.builder()
+            .results(results)
+            .created(newTurns.size())
+            .updated(operations.size() - newTurns.size())
+            .build();
+    }
+    
+    private int lastTurnNumber(InterviewSession session, boolean resync) {
+        if (resync || session.getTotalTurns() == null) {
+            Integer stored = turnRepository.findMaxTurnNumber(session.getId(), session.getStartedAt());
+            return stored != null ? stored : 0;
+        }
+        return session.getTotalTurns();
     }
     
     @Transactional
     public InterviewTurnResponse updateTurn(String sessionId, Long turnId, UpdateTurnRequest request) {
-        InterviewSession session = sessionRepository.findBySessionId(sessionId)
+        // Locked like an append: the scorecard sums are read, adjusted and written back below
+        InterviewSession session = sessionRepository.findBySessionIdForUpdate(sessionId)
             .orElseThrow(() -> new RuntimeException("Session not found"));
         
         InterviewTurn turn = turnRepository.findById(turnId)
@@ -136,7 +320,33 @@ public class InterviewTurnService {
             throw new RuntimeException("Turn does not belong to this session");
         }
         
-        // Update fields if provided
+        SessionScorecard.TurnScores scoresBefore = SessionScorecard.TurnScores.of(turn);
+        ScoreHistogramService.TurnSample sampleBefore = ScoreHistogramService.TurnSample.of(turn);
+        
+        applyChanges(turn, request);
+        
+        turn = turnRepository.save(turn);
+        histogramService.recordTurnChange(session, sampleBefore, ScoreHistogramService.TurnSample.of(turn));
+        
+        SessionScorecard.TurnScores scoresAfter = SessionScorecard.TurnScores.of(turn);
+        if (!scoresAfter.equals(scoresBefore)) {
+            session.getScorecard().apply(scoresBefore, scoresAfter);
+            sessionRepository.save(session);
+            eventPublisher.publishEvent(AnalyticsChangeEvent.turnChanged(session));
+        }
+        transcriptCache.evict(sessionId);
+        
+        return mapToResponse(turn);
+    }
+    
+    // Only completed transcripts are cached
+    private void evictCompletedTranscript(InterviewSession session) {
+        if (session.getStatus() == InterviewSession.SessionStatus.COMPLETED) {
+            transcriptCache.evict(session.getSessionId());
+        }
+    }
+    
+    private void applyChanges(InterviewTurn turn, UpdateTurnRequest request) {
         if (request.getQuestion() != null) {
             turn.setQuestion(request.getQuestion());
         }
@@ -170,9 +380,13 @@ public class InterviewTurnService {
         if (request.getAntiCheatDetails() != null) {
             turn.setAntiCheatDetails(request.getAntiCheatDetails());
         }
-        
-        turn = turnRepository.save(turn);
-        return mapToResponse(turn);
+    }
+    
+    /**
+     * Compute scorecards for sessions created before scorecards were maintained.
+     */
+    @Transactional
+    public int backfillScorecards() {
+        return sessionRepository.backfillScorecards();
     }
 }
-
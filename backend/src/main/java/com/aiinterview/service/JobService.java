@@ -2,10 +2,11 @@ package com.aiinterview.service;
 
 import com.aiinterview.dto.JobListResponse;
 import com.aiinterview.dto.JobStatisticsResponse;
+import com.aiinterview.event.AnalyticsChangeEvent;
 import com.aiinterview.model.Job;
 import com.aiinterview.repository.JobRepository;
-import com.aiinterview.repository.InterviewSessionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -16,9 +17,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,8 +25,11 @@ import java.util.stream.Collectors;
 public class JobService {
     
     private final JobRepository jobRepository;
-    private final InterviewSessionRepository sessionRepository;
     private final com.aiinterview.repository.UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityStatisticsService statisticsService;
+    @org.springframework.context.annotation.Lazy
+    private final InterviewSessionService sessionService;
     
     public List<Job> getAllActiveJobs() {
         return jobRepository.findByActiveTrue();
@@ -81,7 +83,9 @@ public class JobService {
             throw new RuntimeException("User not authenticated");
         }
         
-        return jobRepository.save(job);
+        Job saved = jobRepository.save(job);
+        eventPublisher.publishEvent(AnalyticsChangeEvent.jobChanged());
+        return saved;
     }
     
     @Transactional
@@ -99,6 +103,7 @@ public class JobService {
         }
         
         final com.aiinterview.model.User finalUser = user;
+        eventPublisher.publishEvent(AnalyticsChangeEvent.jobChanged());
         return jobs.stream()
             .map(job -> {
                 job.setCreatedBy(finalUser);
@@ -112,6 +117,7 @@ public class JobService {
         List<Job> jobs = jobRepository.findAllById(jobIds);
         jobs.forEach(job -> job.setActive(false));
         jobRepository.saveAll(jobs);
+        eventPublisher.publishEvent(AnalyticsChangeEvent.jobChanged());
     }
     
     @Transactional
@@ -122,7 +128,9 @@ public class JobService {
         job.setSeniorityLevel(jobDetails.getSeniorityLevel());
         job.setRequiredSkills(jobDetails.getRequiredSkills());
         job.setSoftSkills(jobDetails.getSoftSkills());
-        return jobRepository.save(job);
+        Job saved = jobRepository.save(job);
+        eventPublisher.publishEvent(AnalyticsChangeEvent.jobChanged());
+        return saved;
     }
     
     @Transactional
@@ -130,104 +138,22 @@ public class JobService {
         Job job = getJobById(id);
         job.setActive(false);
         jobRepository.save(job);
+        eventPublisher.publishEvent(AnalyticsChangeEvent.jobChanged());
     }
     
     public JobStatisticsResponse getJobStatistics() {
-        long totalJobs = jobRepository.count();
-        long activeJobs = jobRepository.findByActiveTrue().size();
-        
-        long totalCandidates = sessionRepository.findAll().stream()
-            .map(s -> s.getCandidate().getId())
-            .distinct()
-            .count();
-        
-        long totalInterviews = sessionRepository.count();
-        
-        Map<String, Long> jobsBySeniority = jobRepository.findByActiveTrue().stream()
-            .collect(Collectors.groupingBy(
-                job -> job.getSeniorityLevel().name(),
-                Collectors.counting()
-            ));
-        
-        double averageInterviewsPerJob = activeJobs > 0 
-            ? (double) totalInterviews / activeJobs 
-            : 0.0;
-        
-        return JobStatisticsResponse.builder()
-            .totalJobs(totalJobs)
-            .activeJobs(activeJobs)
-            .totalCandidates(totalCandidates)
-            .totalInterviews(totalInterviews)
-            .jobsBySeniorityLevel(jobsBySeniority)
-            .averageInterviewsPerJob(averageInterviewsPerJob)
-            .build();
+        return statisticsService.getJobStatistics();
     }
     
     public JobStatisticsResponse getJobStatisticsById(Long jobId) {
-        Job job = getJobById(jobId);
-        
-        // Get all sessions for this job (through templates)
-        List<com.aiinterview.model.InterviewSession> jobSessions = sessionRepository.findAll().stream()
-            .filter(session -> session.getTemplate().getJob() != null && 
-                             session.getTemplate().getJob().getId().equals(jobId))
-            .collect(Collectors.toList());
-        
-        long totalCandidates = jobSessions.stream()
-            .map(s -> s.getCandidate().getId())
-            .distinct()
-            .count();
-        
-        long totalInterviews = jobSessions.size();
-        
-        double averageInterviewsPerJob = totalCandidates > 0 
-            ? (double) totalInterviews / totalCandidates 
-            : 0.0;
-        
-        Map<String, Long> jobsBySeniority = new HashMap<>();
-        jobsBySeniority.put(job.getSeniorityLevel().name(), 1L);
-        
-        return JobStatisticsResponse.builder()
-            .totalJobs(1L)
-            .activeJobs(job.getActive() ? 1L : 0L)
-            .totalCandidates(totalCandidates)
-            .totalInterviews(totalInterviews)
-            .jobsBySeniorityLevel(jobsBySeniority)
-            .averageInterviewsPerJob(averageInterviewsPerJob)
-            .build();
+        return statisticsService.getJobStatistics(getJobById(jobId));
     }
     
-    public List<com.aiinterview.dto.InterviewSessionResponse> getJobCandidates(Long jobId) {
+    public List<com.aiinterview.dto.InterviewSessionResponse> getJobCandidates(Long jobId, boolean detail) {
         // Verify job exists
         getJobById(jobId);
         
-        // Get all sessions for this job (through templates)
-        List<com.aiinterview.model.InterviewSession> sessions = sessionRepository.findAll().stream()
-            .filter(session -> session.getTemplate().getJob() != null && 
-                             session.getTemplate().getJob().getId().equals(jobId))
-            .collect(Collectors.toList());
-        
-        // Map to response DTOs
-        return sessions.stream()
-            .map(session -> {
-                return com.aiinterview.dto.InterviewSessionResponse.builder()
-                    .id(session.getId())
-                    .sessionId(session.getSessionId())
-                    .candidateId(session.getCandidate().getId())
-                    .candidateName(session.getCandidate().getFirstName() + " " + session.getCandidate().getLastName())
-                    .templateId(session.getTemplate().getId())
-                    .templateName(session.getTemplate().getName())
-                    .status(session.getStatus())
-                    .language(session.getLanguage())
-                    .startedAt(session.getStartedAt())
-                    .completedAt(session.getCompletedAt())
-                    .aiSummary(session.getAiSummary())
-                    .strengths(session.getStrengths())
-                    .weaknesses(session.getWeaknesses())
-                    .recommendation(session.getRecommendation())
-                    .totalTurns(session.getTotalTurns())
-                    .build();
-            })
-            .collect(Collectors.toList());
+        return sessionService.getSessionList(null, jobId, detail);
     }
     
     @Transactional
@@ -0,0 +1,161 @@
+package com.aiinterview.service;
+
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Cursor paging shared by the list endpoints. A cursor is an opaque token holding the sort it was issued
+ * for and the keyset (sort key, id) of the last row served; the next page continues strictly after it, so
+ * deep pages cost the same as the first. Only non-null columns can be used as sort keys.
+ */
+public final class KeysetPaging {
+    
+    private static final String SORT_ENTRY = "_sort";
+    
+    private KeysetPaging() {
+    }
+    
+    public enum CountMode {
+        EXACT,
+        ESTIMATE,
+        NONE;
+        
+        public static CountMode fromName(String name, CountMode defaultMode) {
+            if (name == null || name.isBlank()) {
+                return defaultMode;
+            }
+            try {
+                return valueOf(name.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException("Unknown count mode: " + name);
+            }
+        }
+    }
+    
+    /**
+     * Sort on {@code sortBy} with the id as tie-breaker. {@code keyTypes} maps each sortable property to
+     * the parser for its cursor values.
+     */
+    public static Sort sort(String sortBy, String sortDir, Map<String, Function<String, Object>> keyTypes) {
+        if (!keyTypes.containsKey(sortBy)) {
+            throw new RuntimeException("Cursor paging supports sortBy: " + String.join(", ", keyTypes.keySet()));
+        }
+        Sort.Direction direction = sortDir.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Sort sort = Sort.by(direction, sortBy);
+        return sortBy.equals("id") ? sort : sort.and(Sort.by(direction, "id"));
+    }
+    
+    public static ScrollPosition decode(String cursor, Sort sort, Map<String, Function<String, Object>> keyTypes) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        Map<String, String> entries = new LinkedHashMap<>();
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            for (String entry : raw.split("&")) {
+                int separator = entry.indexOf('=');
+                entries.put(URLDecoder.decode(entry.substring(0, separator), StandardCharsets.UTF_8),
+                    URLDecoder.decode(entry.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+        if (!sortSignature(sort).equals(entries.remove(SORT_ENTRY))) {
+            throw new RuntimeException("Cursor was issued for a different sort order");
+        }
+        
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (Sort.Order order : sort) {
+            String value = entries.get(order.getProperty());
+            if (value == null) {
+                throw new RuntimeException("Invalid cursor");
+            }
+            try {
+                keys.put(order.getProperty(), keyTypes.get(order.getProperty()).apply(value));
+            } catch (RuntimeException e) {
+                throw new RuntimeException("Invalid cursor");
+            }
+        }
+        return ScrollPosition.forward(keys);
+    }
+    
+    /**
+     * Cursor continuing after the last row of {@code window}, or null when there are no more rows.
+     */
+    public static String nextCursor(Window<?> window, Sort sort) {
+        if (!window.hasNext() || window.isEmpty()) {
+            return null;
+        }
+        KeysetScrollPosition position = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+        return nextCursor(position.getKeys(), sort);
+    }
+    
+    /**
+     * Cursor continuing after a row whose sort keys are {@code lastKeys}.
+     */
+    public static String nextCursor(Map<String, ?> lastKeys, Sort sort) {
+        StringBuilder raw = new StringBuilder(SORT_ENTRY).append('=').append(encode(sortSignature(sort)));
+        for (Sort.Order order : sort) {
+            raw.append('&').append(encode(order.getProperty()))
+                .append('=').append(encode(String.valueOf(lastKeys.get(order.getProperty()))));
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Predicate for the rows strictly after {@code position} in {@code sort} order, for queries that can't
+     * go through Spring Data's scroll API (e.g. projections).
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Specification<T> after(ScrollPosition position, Sort sort) {
+        return (root, query, cb) -> {
+            if (!(position instanceof KeysetScrollPosition keyset) || keyset.isInitial()) {
+                return null;
+            }
+            List<Sort.Order> orders = sort.toList();
+            List<Predicate> alternatives = new ArrayList<>(orders.size());
+            for (int i = 0; i < orders.size(); i++) {
+                List<Predicate> conditions = new ArrayList<>(i + 1);
+                for (Sort.Order previous : orders.subList(0, i)) {
+                    conditions.add(cb.equal(root.get(previous.getProperty()), keyset.getKeys().get(previous.getProperty())));
+                }
+                Sort.Order order = orders.get(i);
+                Expression<Comparable> path = root.get(order.getProperty());
+                Comparable value = (Comparable) keyset.getKeys().get(order.getProperty());
+                conditions.add(order.isAscending() ? cb.greaterThan(path, value) : cb.lessThan(path, value));
+                alternatives.add(cb.and(conditions.toArray(new Predicate[0])));
+            }
+            return cb.or(alternatives.toArray(new Predicate[0]));
+        };
+    }
+    
+    private static String sortSignature(Sort sort) {
+        StringBuilder signature = new StringBuilder();
+        for (Sort.Order order : sort) {
+            if (signature.length() > 0) {
+                signature.append(',');
+            }
+            signature.append(order.getProperty()).append(':').append(order.getDirection());
+        }
+        return signature.toString();
+    }
+    
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,142 @@
+package com.aiinterview.service;
+
+import com.aiinterview.dto.LiveMetricsMessage;
+import com.aiinterview.event.AnalyticsChangeEvent;
+import com.aiinterview.model.InterviewSession;
+import com.aiinterview.repository.InterviewSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Live session counters for the recruiter dashboard, pushed on {@code /topic/analytics/live}.
+ * <p>
+ * Each committed status change is broadcast as a small delta; a full snapshot is broadcast periodically
+ * (see {@link BackgroundJobService}) and resets the counters from the database. Messages carry a
+ * sequence number: a client applies deltas whose sequence is greater than that of the last snapshot it
+ * holds. Changes the deltas can't attribute exactly (a session completed on an earlier day leaving
+ * COMPLETED) are left to the next snapshot.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LiveMetricsService {
+    
+    public static final String TOPIC = "/topic/analytics/live";
+    
+    private static final String COMPLETED_TODAY = "completedToday";
+    
+    private final AnalyticsRollupService rollupService;
+    private final InterviewSessionRepository sessionRepository;
+    private final WebSocketService webSocketService;
+    
+    private final Map<String, Long> counters = new LinkedHashMap<>();
+    private long sequence;
+    private boolean loaded;
+    
+    /**
+     * Reload the counters from the database and broadcast them as a snapshot.
+     */
+    public void publishSnapshot() {
+        LiveMetricsMessage snapshot;
+        synchronized (this) {
+            load();
+            snapshot = snapshotMessage();
+        }
+        webSocketService.broadcastLiveMetrics(snapshot);
+    }
+    
+    public synchronized LiveMetricsMessage getSnapshot() {
+        if (!loaded) {
+            load();
+        }
+        return snapshotMessage();
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAnalyticsChange(AnalyticsChangeEvent event) {
+        Map<String, Long> changes = new LinkedHashMap<>();
+        switch (event.type()) {
+            case SESSION_CREATED:
+                changes.merge(counterName(event.status()), 1L, Long::sum);
+                break;
+            case SESSION_DELETED:
+                changes.merge(counterName(event.previousStatus()), -1L, Long::sum);
+                break;
+            case SESSION_STATUS_CHANGED:
+                if (event.previousStatus() == event.status()) {
+                    return;
+                }
+                changes.merge(counterName(event.previousStatus()), -1L, Long::sum);
+                changes.merge(counterName(event.status()), 1L, Long::sum);
+                if (event.status() == InterviewSession.SessionStatus.COMPLETED) {
+                    changes.put(COMPLETED_TODAY, 1L);
+                }
+                break;
+            default:
+                return;
+        }
+        
+        LiveMetricsMessage delta;
+        synchronized (this) {
+            if (!loaded) {
+                // Nothing to apply the delta to yet; the first snapshot will include this change
+                return;
+            }
+            changes.forEach((name, change) -> counters.merge(name, change, Long::sum));
+            delta = LiveMetricsMessage.builder()
+                .type("delta")
+                .sequence(++sequence)
+                .timestamp(event.occurredAt())
+                .counters(changes)
+                .build();
+        }
+        try {
+            webSocketService.broadcastLiveMetrics(delta);
+        } catch (Exception e) {
+            log.debug("Failed to broadcast live metrics delta: {}", e.getMessage());
+        }
+    }
+    
+    private void load() {
+        Map<InterviewSession.SessionStatus, Long> byStatus = rollupService.getSessionsByStatus();
+        counters.clear();
+        for (InterviewSession.SessionStatus status : InterviewSession.SessionStatus.values()) {
+            counters.put(counterName(status), byStatus.getOrDefault(status, 0L));
+        }
+        counters.put(COMPLETED_TODAY, sessionRepository.countByStatusAndCompletedAtGreaterThanEqual(
+            InterviewSession.SessionStatus.COMPLETED, LocalDate.now().atStartOfDay()));
+        sequence++;
+        loaded = true;
+    }
+    
+    private LiveMetricsMessage snapshotMessage() {
+        return LiveMetricsMessage.builder()
+            .type("snapshot")
+            .sequence(sequence)
+            .timestamp(LocalDateTime.now())
+            .counters(new LinkedHashMap<>(counters))
+            .build();
+    }
+    
+    private static String counterName(InterviewSession.SessionStatus status) {
+        switch (status) {
+            case PENDING:
+                return "pending";
+            case IN_PROGRESS:
+                return "active";
+            case PAUSED:
+                return "paused";
+            case COMPLETED:
+                return "completed";
+            default:
+                return "abandoned";
+        }
+    }
+}
@@ -8,22 +8,40 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
     
+    private static final Map<String, Function<String, Object>> NOTIFICATION_CURSOR_KEYS = Map.of(
+        "createdAt", LocalDateTime::parse,
+        "id", Long::valueOf
+    );
+    private static final Sort NOTIFICATION_SORT = KeysetPaging.sort("createdAt", "desc", NOTIFICATION_CURSOR_KEYS);
+    
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
     private final EmailService emailService;
     @org.springframework.context.annotation.Lazy
     private final WebSocketService webSocketService;
     
+    public record NotificationPage(List<Notification> notifications, Long totalElements, String nextCursor,
+                                   boolean hasNext) {
+    }
+    
     @Transactional
     public Notification createNotification(Long userId, String title, String message, 
                                           Notification.NotificationType type, String actionUrl) {
@@ -80,6 +98,19 @@ public class NotificationService {
         return notification;
     }
     
+    /**
+     * The id of the authenticated user, whose notifications the endpoints list and mark read.
+     */
+    public Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new RuntimeException("User not authenticated");
+        }
+        return userRepository.findByEmail(authentication.getName())
+            .orElseThrow(() -> new RuntimeException("User not found"))
+            .getId();
+    }
+    
     public List<Notification> getUserNotifications(Long userId) {
         return notificationRepository.findByUser_IdOrderByCreatedAtDesc(userId);
     }
@@ -89,6 +120,23 @@ public class NotificationService {
         return notificationRepository.findByUser_IdOrderByCreatedAtDesc(userId, pageable);
     }
     
+    /**
+     * Newest-first notifications for a user, continuing after {@code cursor}; see {@link KeysetPaging}.
+     * Counts are per user, so ESTIMATE is answered with the exact count.
+     */
+    public NotificationPage getUserNotificationsByCursor(Long userId, String cursor, int size,
+                                                         KeysetPaging.CountMode countMode) {
+        ScrollPosition position = KeysetPaging.decode(cursor, NOTIFICATION_SORT, NOTIFICATION_CURSOR_KEYS);
+        Specification<Notification> spec = (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
+        
+        Window<Notification> window = notificationRepository.findBy(spec,
+            query -> query.sortBy(NOTIFICATION_SORT).limit(size).scroll(position));
+        
+        Long totalElements = countMode != KeysetPaging.CountMode.NONE ? notificationRepository.countByUser_Id(userId) : null;
+        return new NotificationPage(window.getContent(), totalElements,
+            KeysetPaging.nextCursor(window, NOTIFICATION_SORT), window.hasNext());
+    }
+    
     public List<Notification> getUnreadNotifications(Long userId) {
         return notificationRepository.findByUser_IdAndReadFalseOrderByCreatedAtDesc(userId);
     }
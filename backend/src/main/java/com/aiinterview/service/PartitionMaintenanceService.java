@@ -0,0 +1,176 @@
+package com.aiinterview.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Monthly partitions of interview_sessions and interview_turns (see the V3 migration). Partitions are
+ * created ahead of time so inserts rarely fall into the default partition, and months past the retention
+ * window are detached and moved to the archive schema. Sessions scheduled beyond the months created so far
+ * do land in the default partition; their rows are moved into the month's partition when it is created.
+ * Otherwise both are catalog operations that don't touch the rows; detaching a sessions month additionally
+ * checks that no attached turn still references it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PartitionMaintenanceService {
+    
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    
+    // Turns first: a sessions partition can only be detached once no turns reference it
+    private static final List<String> TABLES = List.of("interview_turns", "interview_sessions");
+    
+    private static final Map<String, String> PARTITION_KEYS = Map.of(
+        "interview_turns", "session_started_at",
+        "interview_sessions", "started_at");
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Value("${partitions.months-ahead:3}")
+    private int monthsAhead;
+    
+    @Value("${partitions.retention-months:0}")
+    private int retentionMonths;
+    
+    @Value("${partitions.archive-schema:archive}")
+    private String archiveSchema;
+    
+    /**
+     * Create the partitions for the current month and the next {@code partitions.months-ahead} months.
+     * Each month is created in its own transaction, so a month that fails is retried on the next run
+     * without holding back the others.
+     */
+    public int createUpcomingPartitions() {
+        YearMonth current = YearMonth.now();
+        int created = 0;
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            try {
+                created += transactionTemplate.execute(status -> createMonth(month));
+            } catch (RuntimeException e) {
+                log.warn("Failed to create interview partitions for {}: {}", month, e.getMessage());
+            }
+        }
+        if (created > 0) {
+            log.info("Created {} interview partitions", created);
+        }
+        return created;
+    }
+    
+    /**
+     * Create the month's partitions. A partition can't be created while the default partition holds rows
+     * in its range, so those rows are set aside, deleted from the default partition and re-inserted through
+     * the parent once the month exists. Inserts into the default partitions are blocked meanwhile.
+     */
+    private int createMonth(YearMonth month) {
+        List<String> missing = TABLES.stream()
+            .filter(table -> !attachedPartitions(table).contains(partitionName(table, month)))
+            .toList();
+        if (missing.isEmpty()) {
+            return 0;
+        }
+        String from = month.atDay(1).toString();
+        String to = month.plusMonths(1).atDay(1).toString();
+        jdbcTemplate.execute("LOCK TABLE " + TABLES.stream().map(table -> table + "_pdefault")
+            .collect(Collectors.joining(", ")) + " IN EXCLUSIVE MODE");
+        // Turns first: their foreign key keeps the sessions rows in place until the turns are gone
+        for (String table : TABLES) {
+            String rows = table + "_moved";
+            String inRange = String.format("%s >= '%s' AND %s < '%s'", PARTITION_KEYS.get(table), from,
+                PARTITION_KEYS.get(table), to);
+            jdbcTemplate.execute(String.format("CREATE TEMPORARY TABLE %s ON COMMIT DROP AS SELECT * FROM %s_pdefault WHERE %s",
+                rows, table, inRange));
+            int count = jdbcTemplate.update(String.format("DELETE FROM %s_pdefault WHERE %s", table, inRange));
+            if (count > 0) {
+                log.info("Moving {} rows of {} for {} out of the default partition", count, table, month);
+            }
+        }
+        for (String table : missing) {
+            jdbcTemplate.execute(String.format("CREATE TABLE %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                partitionName(table, month), table, from, to));
+        }
+        // Sessions before the turns that reference them
+        for (int i = TABLES.size() - 1; i >= 0; i--) {
+            jdbcTemplate.execute(String.format("INSERT INTO %s SELECT * FROM %s_moved", TABLES.get(i), TABLES.get(i)));
+        }
+        return missing.size();
+    }
+    
+    /**
+     * Detach the months older than {@code partitions.retention-months} (disabled when 0) and move them to
+     * the archive schema as standalone tables. Their foreign keys are dropped so archived rows never block
+     * deletes in the live tables.
+     *
+     * @return the archived months
+     */
+    @Transactional
+    public List<YearMonth> archiveExpiredPartitions() {
+        if (retentionMonths <= 0) {
+            return List.of();
+        }
+        YearMonth cutoff = YearMonth.now().minusMonths(retentionMonths);
+        List<YearMonth> archived = new ArrayList<>();
+        for (String partition : attachedPartitions("interview_sessions")) {
+            YearMonth month = monthOf("interview_sessions", partition);
+            if (month == null || !month.isBefore(cutoff)) {
+                continue;
+            }
+            jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + archiveSchema);
+            for (String table : TABLES) {
+                detach(table, partitionName(table, month));
+            }
+            archived.add(month);
+        }
+        if (!archived.isEmpty()) {
+            log.info("Archived interview partitions to schema {}: {}", archiveSchema, archived);
+        }
+        return archived;
+    }
+    
+    private void detach(String table, String partition) {
+        if (!attachedPartitions(table).contains(partition)) {
+            return;
+        }
+        jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition);
+        List<String> foreignKeys = jdbcTemplate.queryForList(
+            "SELECT conname FROM pg_constraint WHERE conrelid = CAST(? AS regclass) AND contype = 'f'",
+            String.class, partition);
+        for (String foreignKey : foreignKeys) {
+            jdbcTemplate.execute("ALTER TABLE " + partition + " DROP CONSTRAINT " + foreignKey);
+        }
+        jdbcTemplate.execute("ALTER TABLE " + partition + " SET SCHEMA " + archiveSchema);
+    }
+    
+    private List<String> attachedPartitions(String table) {
+        return jdbcTemplate.queryForList(
+            "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+            "WHERE i.inhparent = CAST(? AS regclass) ORDER BY c.relname",
+            String.class, table);
+    }
+    
+    private static String partitionName(String table, YearMonth month) {
+        return table + "_p" + month.format(SUFFIX);
+    }
+    
+    /**
+     * Month of a monthly partition, or null for the default partition.
+     */
+    private static YearMonth monthOf(String table, String partition) {
+        String suffix = partition.substring(table.length() + 2);
+        return suffix.matches("\\d{6}") ? YearMonth.parse(suffix, SUFFIX) : null;
+    }
+}
@@ -0,0 +1,192 @@
+package com.aiinterview.service;
+
+import com.aiinterview.dto.QueryTimingMetadata;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs independent read-only sub-queries ("segments") of one response, either one after another or all
+ * at once on the bounded {@code dashboardExecutor}. Every segment gets its own read-only transaction, so
+ * they can use separate connections.
+ * <p>
+ * Segments fail independently: a segment that throws or misses the deadline of
+ * {@code analytics.fan-out.segment-timeout-ms} is reported in the timing metadata and its value is left
+ * empty, while the rest of the response is still returned.
+ */
+@Service
+@Slf4j
+public class QueryFanOutService {
+    
+    private final Executor dashboardExecutor;
+    private final TransactionTemplate readOnlyTransaction;
+    
+    @Value("${analytics.fan-out.mode:parallel}")
+    private String defaultMode;
+    
+    private final long segmentTimeoutMs;
+    
+    public QueryFanOutService(@Qualifier("dashboardExecutor") Executor dashboardExecutor,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${analytics.fan-out.segment-timeout-ms:3000}") long segmentTimeoutMs) {
+        this.dashboardExecutor = dashboardExecutor;
+        this.segmentTimeoutMs = segmentTimeoutMs;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // Also bounds the JDBC statements, so a timed-out segment doesn't keep its connection busy
+        this.readOnlyTransaction.setTimeout((int) Math.max(1, (segmentTimeoutMs + 999) / 1000));
+    }
+    
+    public enum Mode {
+        SEQUENTIAL,
+        PARALLEL;
+        
+        public static Mode fromName(String name) {
+            return valueOf(name.toUpperCase());
+        }
+    }
+    
+    /**
+     * One named sub-query. Its value is null until the fan-out ran and whenever the segment failed.
+     */
+    public static final class Segment<T> {
+        private final String name;
+        private final Supplier<T> query;
+        private T value;
+        private boolean succeeded;
+        
+        private Segment(String name, Supplier<T> query) {
+            this.name = name;
+            this.query = query;
+        }
+        
+        public T value() {
+            return value;
+        }
+        
+        public T valueOr(T fallback) {
+            return succeeded ? value : fallback;
+        }
+        
+        public boolean succeeded() {
+            return succeeded;
+        }
+    }
+    
+    public <T> Segment<T> segment(String name, Supplier<T> query) {
+        return new Segment<>(name, query);
+    }
+    
+    public QueryTimingMetadata run(List<Segment<?>> segments) {
+        return run(Mode.fromName(defaultMode), segments);
+    }
+    
+    public QueryTimingMetadata run(Mode mode, List<Segment<?>> segments) {
+        long start = System.nanoTime();
+        List<QueryTimingMetadata.SegmentTiming> timings = mode == Mode.PARALLEL
+            ? runParallel(segments, start)
+            : runSequential(segments);
+        boolean partial = timings.stream().anyMatch(t -> t.getStatus() != QueryTimingMetadata.Status.OK);
+        return QueryTimingMetadata.builder()
+            .mode(mode.name().toLowerCase())
+            .totalMs(elapsedMs(start))
+            .partial(partial)
+            .segments(timings)
+            .build();
+    }
+    
+    private List<QueryTimingMetadata.SegmentTiming> runSequential(List<Segment<?>> segments) {
+        List<QueryTimingMetadata.SegmentTiming> timings = new ArrayList<>(segments.size());
+        for (Segment<?> segment : segments) {
+            long segmentStart = System.nanoTime();
+            try {
+                complete(segment, execute(segment));
+                timings.add(timing(segment, QueryTimingMetadata.Status.OK, segmentStart, null));
+            } catch (RuntimeException e) {
+                log.warn("Query segment {} failed: {}", segment.name, e.getMessage());
+                timings.add(timing(segment, QueryTimingMetadata.Status.FAILED, segmentStart, e.getMessage()));
+            }
+        }
+        return timings;
+    }
+    
+    private record Outcome(Object value, long elapsedMs) {
+    }
+    
+    private List<QueryTimingMetadata.SegmentTiming> runParallel(List<Segment<?>> segments, long start) {
+        List<CompletableFuture<Outcome>> futures = new ArrayList<>(segments.size());
+        for (Segment<?> segment : segments) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                long segmentStart = System.nanoTime();
+                Object value = execute(segment);
+                return new Outcome(value, elapsedMs(segmentStart));
+            }, dashboardExecutor));
+        }
+        
+        // All segments start together, so one shared deadline is each segment's own timeout. Values are only
+        // assigned on this thread; a segment that finishes after its deadline is simply discarded.
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(segmentTimeoutMs);
+        List<QueryTimingMetadata.SegmentTiming> timings = new ArrayList<>(segments.size());
+        for (int i = 0; i < segments.size(); i++) {
+            Segment<?> segment = segments.get(i);
+            CompletableFuture<Outcome> future = futures.get(i);
+            try {
+                Outcome outcome = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                complete(segment, outcome.value());
+                timings.add(QueryTimingMetadata.SegmentTiming.builder()
+                    .name(segment.name)
+                    .status(QueryTimingMetadata.Status.OK)
+                    .elapsedMs(outcome.elapsedMs())
+                    .build());
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                log.warn("Query segment {} timed out after {} ms", segment.name, segmentTimeoutMs);
+                timings.add(timing(segment, QueryTimingMetadata.Status.TIMED_OUT, start, null));
+            } catch (ExecutionException e) {
+                log.warn("Query segment {} failed: {}", segment.name, e.getCause().getMessage());
+                timings.add(timing(segment, QueryTimingMetadata.Status.FAILED, start, e.getCause().getMessage()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                timings.add(timing(segment, QueryTimingMetadata.Status.FAILED, start, "interrupted"));
+            }
+        }
+        return timings;
+    }
+    
+    private <T> T execute(Segment<T> segment) {
+        return readOnlyTransaction.execute(status -> segment.query.get());
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <T> void complete(Segment<T> segment, Object value) {
+        segment.value = (T) value;
+        segment.succeeded = true;
+    }
+    
+    private static QueryTimingMetadata.SegmentTiming timing(Segment<?> segment, QueryTimingMetadata.Status status,
+                                                          long startNanos, String error) {
+        return QueryTimingMetadata.SegmentTiming.builder()
+            .name(segment.name)
+            .status(status)
+            .elapsedMs(elapsedMs(startNanos))
+            .error(error)
+            .build();
+    }
+    
+    private static long elapsedMs(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
@@ -113,7 +113,7 @@ public class ReportService {
     }
     
     public byte[] generateCandidateAnalyticsReport() throws IOException {
-        CandidateAnalyticsResponse analytics = analyticsService.getCandidateAnalytics();
+        CandidateAnalyticsResponse analytics = analyticsService.getCandidateAnalytics(CandidateReachService.Mode.EXACT);
         
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         PdfWriter writer = new PdfWriter(baos);
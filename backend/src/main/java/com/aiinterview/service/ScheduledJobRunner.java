@@ -0,0 +1,261 @@
+package com.aiinterview.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * Runs the background jobs. Every run is guarded against overlapping with a previous run of the same job
+ * on this instance, and timed and counted under the {@code jobs.run.*} metrics. Cluster-wide jobs also
+ * take a lease first, so each run happens on exactly one instance; the others skip it. Leases are rows of
+ * {@code job_leases} rather than Redis keys: the jobs need the database anyway, and Redis stays optional.
+ * <p>
+ * The lease is released when the run ends but held for at least {@code jobs.lease.min-hold-ms}, so an
+ * instance whose clock or scheduler is a little late doesn't repeat a run that just finished elsewhere.
+ * It is not renewed: a run that outlives its lease may overlap with the next one on another instance,
+ * so leases are sized well above the expected run time.
+ */
+@Service
+@Slf4j
+public class ScheduledJobRunner {
+    
+    private static final String RUN_PREFIX = "job-runs:";
+    private static final String JOBS_KEY = "job-runs";
+    
+    // Takes the lease unless another holder's lease is still running; times come from the database clock
+    private static final String ACQUIRE_SQL =
+        "INSERT INTO job_leases (name, holder, expires_at) VALUES (?, ?, now() + make_interval(secs => ?)) " +
+        "ON CONFLICT (name) DO UPDATE SET holder = EXCLUDED.holder, expires_at = EXCLUDED.expires_at " +
+        "WHERE job_leases.expires_at <= now()";
+    
+    // Release only our own lease; keep it for the rest of the minimum hold when the run was short
+    private static final String RELEASE_SQL =
+        "UPDATE job_leases SET expires_at = now() + make_interval(secs => ?) WHERE name = ? AND holder = ?";
+    
+    public record JobRun(String job, String node, LocalDateTime startedAt, long durationMs, int items,
+                         String outcome, String error) {
+    }
+    
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId;
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+    // Jobs whose last lease attempt failed, so an outage is logged once per job rather than every run
+    private final Set<String> leaseUnavailable = ConcurrentHashMap.newKeySet();
+    
+    @Value("${jobs.lease.min-hold-ms:30000}")
+    private long minHoldMs;
+    
+    public ScheduledJobRunner(StringRedisTemplate stringRedisTemplate, JdbcTemplate jdbcTemplate,
+                              MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+        this.nodeId = hostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+    
+    /**
+     * Run a job that must happen once per schedule across all instances, if this instance gets the lease.
+     *
+     * @param leaseFor upper bound of the run time; another instance may start the job after it expires
+     * @param job      the job, returning the number of items it processed
+     */
+    public void runClustered(String name, Duration leaseFor, IntSupplier job) {
+        runClustered(name, leaseFor, Duration.ofMillis(minHoldMs), job);
+    }
+    
+    /**
+     * As {@link #runClustered(String, Duration, IntSupplier)}, with a minimum hold for jobs scheduled more
+     * often than {@code jobs.lease.min-hold-ms}.
+     */
+    public void runClustered(String name, Duration leaseFor, Duration holdAtLeast, IntSupplier job) {
+        if (!running.add(name)) {
+            skipped(name, "running");
+            return;
+        }
+        try {
+            boolean acquired;
+            try {
+                acquired = jdbcTemplate.update(ACQUIRE_SQL, name, nodeId, seconds(leaseFor.toMillis())) > 0;
+            } catch (Exception e) {
+                // Without the lease store we can't tell whether another instance runs it
+                if (leaseUnavailable.add(name)) {
+                    log.warn("Skipping job {} until its lease is available again: {}", name, e.getMessage());
+                }
+                skipped(name, "lease-unavailable");
+                return;
+            }
+            if (leaseUnavailable.remove(name)) {
+                log.info("Lease for job {} is available again", name);
+            }
+            if (!acquired) {
+                skipped(name, "leased");
+                return;
+            }
+            long start = System.currentTimeMillis();
+            try {
+                execute(name, job, true);
+            } finally {
+                long elapsed = System.currentTimeMillis() - start;
+                if (elapsed > leaseFor.toMillis()) {
+                    log.warn("Job {} ran for {} ms, longer than its {} ms lease", name, elapsed, leaseFor.toMillis());
+                }
+                release(name, Math.max(0, Math.min(holdAtLeast.toMillis(), leaseFor.toMillis()) - elapsed));
+            }
+        } finally {
+            running.remove(name);
+        }
+    }
+    
+    /**
+     * Run a job that every instance performs for itself, e.g. on in-memory state.
+     */
+    public void runLocal(String name, IntSupplier job) {
+        runLocal(name, job, true);
+    }
+    
+    /**
+     * As {@link #runLocal(String, IntSupplier)}, for jobs scheduled more often than once a minute: their
+     * runs are only metered, not stored for {@link #getLastRuns()}, which would cost Redis writes every
+     * few seconds.
+     */
+    public void runFrequentLocal(String name, IntSupplier job) {
+        runLocal(name, job, false);
+    }
+    
+    private void runLocal(String name, IntSupplier job, boolean recordRun) {
+        if (!running.add(name)) {
+            skipped(name, "running");
+            return;
+        }
+        try {
+            execute(name, job, recordRun);
+        } finally {
+            running.remove(name);
+        }
+    }
+    
+    /**
+     * The last run of every job, whichever instance ran it.
+     */
+    public List<JobRun> getLastRuns() {
+        Set<String> jobs = stringRedisTemplate.opsForSet().members(JOBS_KEY);
+        List<JobRun> runs = new ArrayList<>();
+        if (jobs == null) {
+            return runs;
+        }
+        for (String job : new TreeSet<>(jobs)) {
+            Map<Object, Object> fields = stringRedisTemplate.opsForHash().entries(RUN_PREFIX + job);
+            if (fields.isEmpty()) {
+                continue;
+            }
+            String error = (String) fields.get("error");
+            runs.add(new JobRun(
+                job,
+                (String) fields.get("node"),
+                LocalDateTime.parse((String) fields.get("startedAt")),
+                Long.parseLong((String) fields.get("durationMs")),
+                Integer.parseInt((String) fields.get("items")),
+                (String) fields.get("outcome"),
+                error == null || error.isEmpty() ? null : error
+            ));
+        }
+        return runs;
+    }
+    
+    private void execute(String name, IntSupplier job, boolean recordRun) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.nanoTime();
+        int items = 0;
+        String outcome = "success";
+        String error = null;
+        try {
+            items = job.getAsInt();
+        } catch (Exception e) {
+            outcome = "failure";
+            error = e.getMessage();
+            log.error("Job {} failed", name, e);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        
+        Timer.builder("jobs.run.duration")
+            .tag("job", name)
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("jobs.run.items")
+            .tag("job", name)
+            .register(meterRegistry)
+            .record(items);
+        if (recordRun) {
+            record(new JobRun(name, nodeId, startedAt, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), items, outcome, error));
+        }
+    }
+    
+    private void record(JobRun run) {
+        try {
+            Map<String, String> fields = new HashMap<>();
+            fields.put("node", run.node());
+            fields.put("startedAt", run.startedAt().toString());
+            fields.put("durationMs", Long.toString(run.durationMs()));
+            fields.put("items", Integer.toString(run.items()));
+            fields.put("outcome", run.outcome());
+            fields.put("error", run.error() != null ? run.error() : "");
+            stringRedisTemplate.opsForHash().putAll(RUN_PREFIX + run.job(), fields);
+            stringRedisTemplate.opsForSet().add(JOBS_KEY, run.job());
+        } catch (Exception e) {
+            log.debug("Failed to record run of job {}: {}", run.job(), e.getMessage());
+        }
+    }
+    
+    private void release(String name, long holdMs) {
+        try {
+            jdbcTemplate.update(RELEASE_SQL, seconds(holdMs), name, nodeId);
+        } catch (Exception e) {
+            // The lease expires on its own
+            log.warn("Failed to release lease of job {}: {}", name, e.getMessage());
+        }
+    }
+    
+    private static double seconds(long millis) {
+        return millis / 1000.0;
+    }
+    
+    private void skipped(String name, String reason) {
+        Counter.builder("jobs.run.skipped")
+            .tag("job", name)
+            .tag("reason", reason)
+            .register(meterRegistry)
+            .increment();
+        log.debug("Skipped job {} ({})", name, reason);
+    }
+    
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
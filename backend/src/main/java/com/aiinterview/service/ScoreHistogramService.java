@@ -0,0 +1,170 @@
+package com.aiinterview.service;
+
+import com.aiinterview.dto.ScoreDistributionResponse;
+import com.aiinterview.model.InterviewSession;
+import com.aiinterview.model.InterviewTurn;
+import com.aiinterview.model.ScoreHistogramBucket;
+import com.aiinterview.repository.ScoreHistogramBucketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Maintains the fixed-bucket histograms of turn scores and answer durations, and answers distribution
+ * and percentile queries from them without scanning interview_turns.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScoreHistogramService {
+    
+    private final ScoreHistogramBucketRepository histogramRepository;
+    
+    /**
+     * Histogrammed values of a single turn.
+     */
+    public record TurnSample(Double communication, Double technical, Double clarity, Long answerDurationMs) {
+        
+        public static final TurnSample NONE = new TurnSample(null, null, null, null);
+        
+        public static TurnSample of(InterviewTurn turn) {
+            return new TurnSample(turn.getCommunicationScore(), turn.getTechnicalScore(), turn.getClarityScore(),
+                turn.getAnswerDurationMs());
+        }
+        
+        Double value(ScoreHistogramBucket.Metric metric) {
+            switch (metric) {
+                case COMMUNICATION:
+                    return communication;
+                case TECHNICAL:
+                    return technical;
+                case CLARITY:
+                    return clarity;
+                default:
+                    return answerDurationMs != null ? answerDurationMs.doubleValue() : null;
+            }
+        }
+    }
+    
+    /**
+     * Move a turn's values from the buckets of {@code before} to those of {@code after}.
+     */
+    @Transactional
+    public void recordTurnChange(InterviewSession session, TurnSample before, TurnSample after) {
+        if (session.getStartedAt() == null || session.getTemplate() == null) {
+            return;
+        }
+        LocalDate day = session.getStartedAt().toLocalDate();
+        Long templateId = session.getTemplate().getId();
+        Long jobId = session.getTemplate().getJob().getId();
+        for (ScoreHistogramBucket.Metric metric : ScoreHistogramBucket.Metric.values()) {
+            Double oldValue = before.value(metric);
+            Double newValue = after.value(metric);
+            if (Objects.equals(oldValue, newValue)) {
+                continue;
+            }
+            if (oldValue != null) {
+                histogramRepository.increment(day, templateId, jobId, metric.name(), metric.bucketOf(oldValue), -1);
+            }
+            if (newValue != null) {
+                histogramRepository.increment(day, templateId, jobId, metric.name(), metric.bucketOf(newValue), 1);
+            }
+        }
+    }
+    
+    /**
+     * Histogram and percentiles of {@code metric}, merged over the matching templates/jobs and days.
+     */
+    public ScoreDistributionResponse getDistribution(ScoreHistogramBucket.Metric metric, Long templateId, Long jobId,
+                                                     LocalDate from, LocalDate to, List<Double> percentiles) {
+        long[] counts = new long[metric.bucketCount()];
+        for (ScoreHistogramBucketRepository.BucketTotal row
+                : histogramRepository.sumByBucket(metric, templateId, jobId, from, to)) {
+            counts[row.getBucketIndex()] = row.getTotal();
+        }
+        long total = 0;
+        List<ScoreDistributionResponse.HistogramBucket> buckets = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            total += counts[i];
+            buckets.add(ScoreDistributionResponse.HistogramBucket.builder()
+                .lowerBound(metric.lowerBound(i))
+                .upperBound(metric.upperBound(i))
+                .count(counts[i])
+                .build());
+        }
+        
+        Map<String, Double> percentileValues = new LinkedHashMap<>();
+        for (Double p : percentiles) {
+            percentileValues.put(formatPercentile(p), total > 0 ? percentile(metric, counts, total, p) : null);
+        }
+        
+        return ScoreDistributionResponse.builder()
+            .metric(metric.name().toLowerCase())
+            .templateId(templateId)
+            .jobId(jobId)
+            .from(from)
+            .to(to)
+            .totalCount(total)
+            .buckets(buckets)
+            .percentiles(percentileValues)
+            .build();
+    }
+    
+    /**
+     * Value at percentile {@code p}, interpolated linearly inside the bucket that contains it. Values in the
+     * open-ended last bucket are reported as its lower bound.
+     */
+    private double percentile(ScoreHistogramBucket.Metric metric, long[] counts, long total, double p) {
+        double rank = Math.max(0, Math.min(100, p)) / 100.0 * total;
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                continue;
+            }
+            if (cumulative + counts[i] >= rank) {
+                double lower = metric.lowerBound(i);
+                Double upper = metric.upperBound(i);
+                if (upper == null) {
+                    return lower;
+                }
+                double fraction = (rank - cumulative) / counts[i];
+                return lower + fraction * (upper - lower);
+            }
+            cumulative += counts[i];
+        }
+        return metric.lowerBound(counts.length - 1);
+    }
+    
+    private String formatPercentile(double p) {
+        return p == Math.rint(p) ? "p" + (long) p : "p" + p;
+    }
+    
+    /**
+     * Recompute every histogram from interview_turns. Used to seed an empty table and by the nightly
+     * reconciliation.
+     */
+    @Transactional
+    public int rebuild() {
+        LocalDateTime start = LocalDateTime.now();
+        histogramRepository.lockForRebuild();
+        histogramRepository.deleteAllInBatch();
+        int buckets = histogramRepository.rebuildFromTurns();
+        log.info("Rebuilt score histograms ({} buckets) in {} ms", buckets,
+            Duration.between(start, LocalDateTime.now()).toMillis());
+        return buckets;
+    }
+    
+    public boolean isEmpty() {
+        return histogramRepository.count() == 0;
+    }
+}
@@ -0,0 +1,264 @@
+package com.aiinterview.service;
+
+import com.aiinterview.dto.HeartbeatResponse;
+import com.aiinterview.dto.InterviewSessionResponse;
+import com.aiinterview.event.AnalyticsChangeEvent;
+import com.aiinterview.model.InterviewSession;
+import com.aiinterview.repository.InterviewSessionMaintenanceRepository;
+import com.aiinterview.repository.InterviewSessionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Liveness of running interviews. Candidate clients and the ai-service send a heartbeat every few
+ * seconds, stored as the session's last-seen time in a Redis sorted set. The sweep pops only the members
+ * whose score fell behind the cutoff with a range query, so its cost follows the number of silent
+ * sessions rather than the number of running ones.
+ * <p>
+ * A session silent for {@code interview.heartbeat.pause-after-seconds} is paused and moves to a second
+ * set, where its next heartbeat resumes it; one that stays silent for another
+ * {@code interview.heartbeat.abandon-after-minutes} is abandoned. Sessions paused by the candidate aren't
+ * tracked and never expire.
+ */
+@Service
+@Slf4j
+public class SessionHeartbeatService {
+    
+    private static final String LIVE_KEY = "session-heartbeats";
+    private static final String PAUSED_KEY = LIVE_KEY + ":paused";
+    
+    // 1: last-seen time refreshed, 2: paused for missing heartbeats, 0: not tracked
+    private static final RedisScript<Long> BEAT_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('ZSCORE', KEYS[1], ARGV[1]) then redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1]) return 1 end " +
+        "if redis.call('ZSCORE', KEYS[2], ARGV[1]) then return 2 end " +
+        "return 0", Long.class);
+    
+    // Remove the members last seen at or before the cutoff, oldest first, and return them. With a second
+    // key they move there keeping their last-seen time.
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> POP_EXPIRED_SCRIPT = new DefaultRedisScript<>(
+        "local expired = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'WITHSCORES', 'LIMIT', 0, ARGV[2]) " +
+        "local members = {} " +
+        "for i = 1, #expired, 2 do " +
+        "members[#members + 1] = expired[i] " +
+        "if KEYS[2] then redis.call('ZADD', KEYS[2], expired[i + 1], expired[i]) end " +
+        "end " +
+        "if #members > 0 then redis.call('ZREM', KEYS[1], unpack(members)) end " +
+        "return members", List.class);
+    
+    private final StringRedisTemplate stringRedisTemplate;
+    private final InterviewSessionRepository sessionRepository;
+    private final InterviewSessionService sessionService;
+    private final AnalyticsRollupService rollupService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WebSocketService webSocketService;
+    private final SessionTimerService timerService;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Value("${interview.heartbeat.pause-after-seconds:90}")
+    private long pauseAfterSeconds;
+    
+    @Value("${interview.heartbeat.abandon-after-minutes:30}")
+    private long abandonAfterMinutes;
+    
+    public SessionHeartbeatService(StringRedisTemplate stringRedisTemplate,
+                                   InterviewSessionRepository sessionRepository,
+                                   @Lazy InterviewSessionService sessionService,
+                                   AnalyticsRollupService rollupService,
+                                   ApplicationEventPublisher eventPublisher,
+                                   @Lazy WebSocketService webSocketService,
+                                   @Lazy SessionTimerService timerService,
+                                   TransactionTemplate transactionTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.sessionRepository = sessionRepository;
+        this.sessionService = sessionService;
+        this.rollupService = rollupService;
+        this.eventPublisher = eventPublisher;
+        this.webSocketService = webSocketService;
+        this.timerService = timerService;
+        this.transactionTemplate = transactionTemplate;
+    }
+    
+    /**
+     * Record a heartbeat. Only touches Redis unless the session was paused for missing heartbeats, in
+     * which case it is resumed.
+     */
+    public HeartbeatResponse beat(String sessionId) {
+        Long result = stringRedisTemplate.execute(BEAT_SCRIPT, List.of(LIVE_KEY, PAUSED_KEY),
+            sessionId, Long.toString(System.currentTimeMillis()));
+        boolean resumed = false;
+        if (result != null && result == 2) {
+            try {
+                // Tracks the session again through onStatusChanged
+                sessionService.resumeSession(sessionId);
+                resumed = true;
+            } catch (RuntimeException e) {
+                // Abandoned or resumed by a concurrent request in the meantime
+                log.debug("Could not resume session {} on heartbeat: {}", sessionId, e.getMessage());
+            }
+        }
+        return HeartbeatResponse.builder()
+            .sessionId(sessionId)
+            .tracked(resumed || (result != null && result == 1))
+            .resumed(resumed)
+            .build();
+    }
+    
+    /**
+     * Track running sessions from their start, whether or not a heartbeat arrives; stop tracking the rest.
+     */
+    public void onStatusChanged(InterviewSession session) {
+        if (session.getStatus() != InterviewSession.SessionStatus.IN_PROGRESS) {
+            untrack(session.getSessionId());
+            return;
+        }
+        try {
+            stringRedisTemplate.opsForZSet().add(LIVE_KEY, session.getSessionId(), System.currentTimeMillis());
+            stringRedisTemplate.opsForZSet().remove(PAUSED_KEY, session.getSessionId());
+        } catch (Exception e) {
+            // Picked up again by trackUntracked
+            log.warn("Failed to track heartbeats of session {}: {}", session.getSessionId(), e.getMessage());
+        }
+    }
+    
+    public void untrack(String sessionId) {
+        try {
+            stringRedisTemplate.opsForZSet().remove(LIVE_KEY, sessionId);
+            stringRedisTemplate.opsForZSet().remove(PAUSED_KEY, sessionId);
+        } catch (Exception e) {
+            // A stale member is dropped by the sweep, whose status change no longer matches
+            log.warn("Failed to stop tracking heartbeats of session {}: {}", sessionId, e.getMessage());
+        }
+    }
+    
+    /**
+     * Start tracking running sessions missing from the live set, e.g. after Redis lost its data. They
+     * count as seen now, so they expire if no heartbeat follows.
+     *
+     * @return the number of sessions added
+     */
+    public int trackUntracked(List<String> runningSessionIds, int chunkSize) {
+        double now = System.currentTimeMillis();
+        int added = 0;
+        for (int from = 0; from < runningSessionIds.size(); from += chunkSize) {
+            Set<ZSetOperations.TypedTuple<String>> tuples = runningSessionIds
+                .subList(from, Math.min(from + chunkSize, runningSessionIds.size())).stream()
+                .map(sessionId -> (ZSetOperations.TypedTuple<String>) new DefaultTypedTuple<>(sessionId, now))
+                .collect(Collectors.toSet());
+            Long count = stringRedisTemplate.opsForZSet().addIfAbsent(LIVE_KEY, tuples);
+            added += count != null ? count : 0;
+        }
+        if (added > 0) {
+            log.info("Started heartbeat tracking of {} running sessions", added);
+        }
+        return added;
+    }
+    
+    /**
+     * Pause the running sessions that stopped sending heartbeats and abandon the paused ones that never
+     * came back.
+     *
+     * @return the number of sessions changed
+     */
+    public int sweep(int chunkSize) {
+        long now = System.currentTimeMillis();
+        long pauseCutoff = now - pauseAfterSeconds * 1000;
+        return expire(LIVE_KEY, PAUSED_KEY, pauseCutoff, InterviewSession.SessionStatus.IN_PROGRESS,
+                InterviewSession.SessionStatus.PAUSED, chunkSize)
+            + expire(PAUSED_KEY, null, pauseCutoff - abandonAfterMinutes * 60_000,
+                InterviewSession.SessionStatus.PAUSED, InterviewSession.SessionStatus.ABANDONED, chunkSize);
+    }
+    
+    private int expire(String key, String nextKey, long cutoff, InterviewSession.SessionStatus from,
+                       InterviewSession.SessionStatus to, int chunkSize) {
+        List<String> keys = nextKey != null ? List.of(key, nextKey) : List.of(key);
+        int changed = 0;
+        while (true) {
+            List<String> expired = popExpired(keys, cutoff, chunkSize);
+            if (expired.isEmpty()) {
+                break;
+            }
+            List<InterviewSessionMaintenanceRepository.StatusChange> changes;
+            try {
+                changes = transactionTemplate.execute(status -> changeStatus(expired, from, to));
+            } catch (RuntimeException e) {
+                // Put them back as just expired so the next sweep retries
+                expired.forEach(sessionId -> stringRedisTemplate.opsForZSet().add(key, sessionId, cutoff));
+                if (nextKey != null) {
+                    stringRedisTemplate.opsForZSet().remove(nextKey, expired.toArray());
+                }
+                throw e;
+            }
+            
+            Set<String> changedIds = changes.stream()
+                .map(InterviewSessionMaintenanceRepository.StatusChange::sessionId)
+                .collect(Collectors.toSet());
+            List<String> unchanged = new ArrayList<>(expired);
+            unchanged.removeAll(changedIds);
+            if (nextKey != null && !unchanged.isEmpty()) {
+                // Finished or paused by the candidate since the last heartbeat
+                stringRedisTemplate.opsForZSet().remove(nextKey, unchanged.toArray());
+            }
+            for (InterviewSessionMaintenanceRepository.StatusChange change : changes) {
+                if (to == InterviewSession.SessionStatus.ABANDONED) {
+                    timerService.cancelAll(change.sessionId());
+                }
+                webSocketService.broadcastSessionUpdate(change.sessionId(), InterviewSessionResponse.builder()
+                    .id(change.id())
+                    .sessionId(change.sessionId())
+                    .candidateId(change.candidateId())
+                    .templateId(change.templateId())
+                    .status(to)
+                    .startedAt(change.startedAt())
+                    .build());
+            }
+            changed += changes.size();
+            if (expired.size() < chunkSize) {
+                break;
+            }
+        }
+        if (changed > 0) {
+            log.info("Moved {} sessions without heartbeats from {} to {}", changed, from, to);
+        }
+        return changed;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private List<String> popExpired(List<String> keys, long cutoff, int chunkSize) {
+        List<String> expired = stringRedisTemplate.execute(POP_EXPIRED_SCRIPT, keys,
+            Long.toString(cutoff), Integer.toString(chunkSize));
+        return expired != null ? expired : List.of();
+    }
+    
+    private List<InterviewSessionMaintenanceRepository.StatusChange> changeStatus(List<String> sessionIds,
+                                                                                  InterviewSession.SessionStatus from,
+                                                                                  InterviewSession.SessionStatus to) {
+        List<InterviewSessionMaintenanceRepository.StatusChange> changes =
+            sessionRepository.bulkChangeStatus(from, to, new HashSet<>(sessionIds));
+        
+        rollupService.recordStatusChanges(changes.stream()
+            .map(change -> new AnalyticsRollupService.Contribution(change.startedAt().toLocalDate(),
+                from, change.templateId(), change.jobId(), null))
+            .toList(), to);
+        for (InterviewSessionMaintenanceRepository.StatusChange change : changes) {
+            eventPublisher.publishEvent(AnalyticsChangeEvent.sessionStatusChanged(change.id(), change.candidateId(),
+                change.templateId(), change.jobId(), from, to));
+        }
+        return changes;
+    }
+}
@@ -0,0 +1,405 @@
+package com.aiinterview.service;
+
+import com.aiinterview.model.InterviewSession;
+import com.aiinterview.model.Job;
+import com.aiinterview.repository.InterviewSessionRepository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Column-oriented copy of the interview sessions: one primitive array per attribute, with enums stored as
+ * ordinals and templates/jobs dictionary-encoded to dense int codes. Filters run as tight loops over the
+ * arrays into a selection mask, and group-by keys are built from the encoded columns, so slices never
+ * touch the database or allocate per row.
+ * <p>
+ * Rows are patched in place as sessions change; deleted sessions are tombstoned until the next full
+ * rebuild compacts them away. All access goes through a read/write lock.
+ */
+public class SessionSnapshot {
+    
+    private static final byte DELETED = -1;
+    private static final byte NONE = -1;
+    private static final int NO_DAY = Integer.MIN_VALUE;
+    
+    public enum Dimension {
+        STATUS, TEMPLATE, JOB, SENIORITY, RECOMMENDATION, DAY, MONTH
+    }
+    
+    public enum Measure {
+        COUNT, AVG_TECHNICAL_SCORE, AVG_DURATION_MINUTES, AVG_TURNS, TOTAL_TURNS
+    }
+    
+    /**
+     * Filters of a slice; null or empty means "any".
+     */
+    public record Filter(Set<InterviewSession.SessionStatus> statuses,
+                         Set<Long> templateIds,
+                         Set<Long> jobIds,
+                         Set<Job.SeniorityLevel> seniorityLevels,
+                         Set<InterviewSession.Recommendation> recommendations,
+                         LocalDate from,
+                         LocalDate to) {
+    }
+    
+    public record Group(Map<Dimension, String> key, long count, Map<Measure, Double> measures) {
+    }
+    
+    public record Result(List<Group> groups, int scannedRows, long matchedRows) {
+    }
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LocalDateTime builtAt = LocalDateTime.now();
+    
+    private int size;
+    private long[] ids;
+    private byte[] status;
+    private int[] template;
+    private int[] job;
+    private byte[] seniority;
+    private byte[] recommendation;
+    private int[] startDay;
+    private int[] durationMinutes;
+    private float[] technicalScore;
+    private int[] totalTurns;
+    
+    private final Map<Long, Integer> rowById = new HashMap<>();
+    private final Dictionary templates = new Dictionary();
+    private final Dictionary jobs = new Dictionary();
+    
+    /**
+     * Id to dense code mapping, plus a display label per code.
+     */
+    private static final class Dictionary {
+        private final Map<Long, Integer> codes = new HashMap<>();
+        private final List<Long> ids = new ArrayList<>();
+        private final List<String> labels = new ArrayList<>();
+        
+        int encode(Long id, String label) {
+            Integer code = codes.get(id);
+            if (code == null) {
+                code = ids.size();
+                codes.put(id, code);
+                ids.add(id);
+                labels.add(label);
+            } else {
+                labels.set(code, label);
+            }
+            return code;
+        }
+        
+        int size() {
+            return ids.size();
+        }
+        
+        // Names aren't unique, so the label carries the id as well
+        String label(int code) {
+            return labels.get(code) + " (#" + ids.get(code) + ")";
+        }
+    }
+    
+    public SessionSnapshot(int initialCapacity) {
+        int capacity = Math.max(16, initialCapacity);
+        ids = new long[capacity];
+        status = new byte[capacity];
+        template = new int[capacity];
+        job = new int[capacity];
+        seniority = new byte[capacity];
+        recommendation = new byte[capacity];
+        startDay = new int[capacity];
+        durationMinutes = new int[capacity];
+        technicalScore = new float[capacity];
+        totalTurns = new int[capacity];
+    }
+    
+    public LocalDateTime getBuiltAt() {
+        return builtAt;
+    }
+    
+    public int liveRows() {
+        lock.readLock().lock();
+        try {
+            return rowById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public void upsert(InterviewSessionRepository.SnapshotRow row) {
+        lock.writeLock().lock();
+        try {
+            Integer index = rowById.get(row.getId());
+            if (index == null) {
+                ensureCapacity(size + 1);
+                index = size++;
+                rowById.put(row.getId(), index);
+            }
+            write(index, row);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void remove(Long sessionId) {
+        lock.writeLock().lock();
+        try {
+            Integer index = rowById.remove(sessionId);
+            if (index != null) {
+                status[index] = DELETED;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private void write(int i, InterviewSessionRepository.SnapshotRow row) {
+        ids[i] = row.getId();
+        status[i] = (byte) row.getStatus().ordinal();
+        template[i] = templates.encode(row.getTemplateId(), row.getTemplateName());
+        job[i] = jobs.encode(row.getJobId(), row.getJobTitle());
+        seniority[i] = row.getSeniorityLevel() != null ? (byte) row.getSeniorityLevel().ordinal() : NONE;
+        recommendation[i] = row.getRecommendation() != null ? (byte) row.getRecommendation().ordinal() : NONE;
+        startDay[i] = row.getStartedAt() != null ? (int) row.getStartedAt().toLocalDate().toEpochDay() : NO_DAY;
+        durationMinutes[i] = row.getStatus() == InterviewSession.SessionStatus.COMPLETED
+                && row.getStartedAt() != null && row.getCompletedAt() != null
+            ? (int) Duration.between(row.getStartedAt(), row.getCompletedAt()).toMinutes()
+            : -1;
+        technicalScore[i] = row.getTechnicalScore() != null ? row.getTechnicalScore().floatValue() : Float.NaN;
+        totalTurns[i] = row.getTotalTurns() != null ? row.getTotalTurns() : 0;
+    }
+    
+    private void ensureCapacity(int required) {
+        if (required <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(required, ids.length * 2);
+        ids = Arrays.copyOf(ids, capacity);
+        status = Arrays.copyOf(status, capacity);
+        template = Arrays.copyOf(template, capacity);
+        job = Arrays.copyOf(job, capacity);
+        seniority = Arrays.copyOf(seniority, capacity);
+        recommendation = Arrays.copyOf(recommendation, capacity);
+        startDay = Arrays.copyOf(startDay, capacity);
+        durationMinutes = Arrays.copyOf(durationMinutes, capacity);
+        technicalScore = Arrays.copyOf(technicalScore, capacity);
+        totalTurns = Arrays.copyOf(totalTurns, capacity);
+    }
+    
+    /**
+     * Filter, group and aggregate in one pass over the selected rows.
+     */
+    public Result query(Filter filter, List<Dimension> groupBy) {
+        lock.readLock().lock();
+        try {
+            boolean[] selected = select(filter);
+            
+            int minDay = Integer.MAX_VALUE;
+            int maxDay = Integer.MIN_VALUE;
+            for (int i = 0; i < size; i++) {
+                if (selected[i] && startDay[i] != NO_DAY) {
+                    minDay = Math.min(minDay, startDay[i]);
+                    maxDay = Math.max(maxDay, startDay[i]);
+                }
+            }
+            boolean anyDay = minDay != Integer.MAX_VALUE;
+            int minMonth = anyDay ? monthIndex(minDay) : 0;
+            int dayRange = anyDay ? maxDay - minDay + 1 : 0;
+            int monthRange = anyDay ? monthIndex(maxDay) - minMonth + 1 : 0;
+            
+            // Mixed-radix key: each dimension's code (0..cardinality-1) is one digit of the group key
+            int[] radix = new int[groupBy.size()];
+            for (int d = 0; d < groupBy.size(); d++) {
+                radix[d] = cardinality(groupBy.get(d), dayRange, monthRange);
+            }
+            
+            Map<Long, double[]> accumulators = new LinkedHashMap<>();
+            long matched = 0;
+            for (int i = 0; i < size; i++) {
+                if (!selected[i]) {
+                    continue;
+                }
+                matched++;
+                long key = 0;
+                for (int d = 0; d < groupBy.size(); d++) {
+                    key = key * radix[d] + code(groupBy.get(d), i, minDay, minMonth);
+                }
+                double[] acc = accumulators.computeIfAbsent(key, k -> new double[6]);
+                acc[0]++;
+                if (!Float.isNaN(technicalScore[i])) {
+                    acc[1] += technicalScore[i];
+                    acc[2]++;
+                }
+                if (durationMinutes[i] >= 0) {
+                    acc[3] += durationMinutes[i];
+                    acc[4]++;
+                }
+                acc[5] += totalTurns[i];
+            }
+            
+            List<Group> groups = new ArrayList<>(accumulators.size());
+            for (Map.Entry<Long, double[]> entry : accumulators.entrySet()) {
+                groups.add(toGroup(entry.getKey(), entry.getValue(), groupBy, radix, minDay, minMonth));
+            }
+            return new Result(groups, size, matched);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private boolean[] select(Filter filter) {
+        boolean[] selected = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            selected[i] = status[i] != DELETED;
+        }
+        if (filter.statuses() != null && !filter.statuses().isEmpty()) {
+            boolean[] allowed = new boolean[InterviewSession.SessionStatus.values().length];
+            filter.statuses().forEach(s -> allowed[s.ordinal()] = true);
+            for (int i = 0; i < size; i++) {
+                selected[i] &= status[i] >= 0 && allowed[status[i]];
+            }
+        }
+        if (filter.templateIds() != null && !filter.templateIds().isEmpty()) {
+            boolean[] allowed = allowedCodes(templates, filter.templateIds());
+            for (int i = 0; i < size; i++) {
+                selected[i] &= allowed[template[i]];
+            }
+        }
+        if (filter.jobIds() != null && !filter.jobIds().isEmpty()) {
+            boolean[] allowed = allowedCodes(jobs, filter.jobIds());
+            for (int i = 0; i < size; i++) {
+                selected[i] &= allowed[job[i]];
+            }
+        }
+        if (filter.seniorityLevels() != null && !filter.seniorityLevels().isEmpty()) {
+            boolean[] allowed = new boolean[Job.SeniorityLevel.values().length];
+            filter.seniorityLevels().forEach(s -> allowed[s.ordinal()] = true);
+            for (int i = 0; i < size; i++) {
+                selected[i] &= seniority[i] >= 0 && allowed[seniority[i]];
+            }
+        }
+        if (filter.recommendations() != null && !filter.recommendations().isEmpty()) {
+            boolean[] allowed = new boolean[InterviewSession.Recommendation.values().length];
+            filter.recommendations().forEach(r -> allowed[r.ordinal()] = true);
+            for (int i = 0; i < size; i++) {
+                selected[i] &= recommendation[i] >= 0 && allowed[recommendation[i]];
+            }
+        }
+        if (filter.from() != null || filter.to() != null) {
+            int from = filter.from() != null ? (int) filter.from().toEpochDay() : Integer.MIN_VALUE + 1;
+            int to = filter.to() != null ? (int) filter.to().toEpochDay() : Integer.MAX_VALUE;
+            for (int i = 0; i < size; i++) {
+                selected[i] &= startDay[i] >= from && startDay[i] <= to;
+            }
+        }
+        return selected;
+    }
+    
+    private boolean[] allowedCodes(Dictionary dictionary, Set<Long> ids) {
+        boolean[] allowed = new boolean[dictionary.size()];
+        for (Long id : ids) {
+            Integer code = dictionary.codes.get(id);
+            if (code != null) {
+                allowed[code] = true;
+            }
+        }
+        return allowed;
+    }
+    
+    private int cardinality(Dimension dimension, int dayRange, int monthRange) {
+        switch (dimension) {
+            case STATUS:
+                return InterviewSession.SessionStatus.values().length;
+            case TEMPLATE:
+                return Math.max(1, templates.size());
+            case JOB:
+                return Math.max(1, jobs.size());
+            case SENIORITY:
+                return Job.SeniorityLevel.values().length + 1;
+            case RECOMMENDATION:
+                return InterviewSession.Recommendation.values().length + 1;
+            case DAY:
+                // Day and month codes are offsets from the earliest selected row, with 0 for "not started"
+                return dayRange + 1;
+            default:
+                return monthRange + 1;
+        }
+    }
+    
+    private long code(Dimension dimension, int i, int minDay, int minMonth) {
+        switch (dimension) {
+            case STATUS:
+                return status[i];
+            case TEMPLATE:
+                return template[i];
+            case JOB:
+                return job[i];
+            case SENIORITY:
+                return seniority[i] + 1;
+            case RECOMMENDATION:
+                return recommendation[i] + 1;
+            case DAY:
+                return startDay[i] == NO_DAY ? 0 : startDay[i] - minDay + 1;
+            default:
+                return startDay[i] == NO_DAY ? 0 : monthIndex(startDay[i]) - minMonth + 1;
+        }
+    }
+    
+    private Group toGroup(long key, double[] acc, List<Dimension> groupBy, int[] radix, int minDay, int minMonth) {
+        Map<Dimension, String> labels = new LinkedHashMap<>();
+        long remaining = key;
+        for (int d = groupBy.size() - 1; d >= 0; d--) {
+            int code = (int) (remaining % radix[d]);
+            remaining /= radix[d];
+            labels.put(groupBy.get(d), label(groupBy.get(d), code, minDay, minMonth));
+        }
+        Map<Dimension, String> ordered = new LinkedHashMap<>();
+        groupBy.forEach(dimension -> ordered.put(dimension, labels.get(dimension)));
+        
+        Map<Measure, Double> measures = new LinkedHashMap<>();
+        measures.put(Measure.COUNT, acc[0]);
+        measures.put(Measure.AVG_TECHNICAL_SCORE, acc[2] > 0 ? acc[1] / acc[2] : null);
+        measures.put(Measure.AVG_DURATION_MINUTES, acc[4] > 0 ? acc[3] / acc[4] : null);
+        measures.put(Measure.AVG_TURNS, acc[0] > 0 ? acc[5] / acc[0] : null);
+        measures.put(Measure.TOTAL_TURNS, acc[5]);
+        return new Group(ordered, (long) acc[0], measures);
+    }
+    
+    private String label(Dimension dimension, int code, int minDay, int minMonth) {
+        switch (dimension) {
+            case STATUS:
+                return InterviewSession.SessionStatus.values()[code].name();
+            case TEMPLATE:
+                return templates.label(code);
+            case JOB:
+                return jobs.label(code);
+            case SENIORITY:
+                return code == 0 ? null : Job.SeniorityLevel.values()[code - 1].name();
+            case RECOMMENDATION:
+                return code == 0 ? null : InterviewSession.Recommendation.values()[code - 1].name();
+            case DAY:
+                return code == 0 ? null : LocalDate.ofEpochDay(minDay + code - 1L).toString();
+            default:
+                if (code == 0) {
+                    return null;
+                }
+                int month = minMonth + code - 1;
+                return YearMonth.of(month / 12, month % 12 + 1).toString();
+        }
+    }
+    
+    private static int monthIndex(int epochDay) {
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        return date.getYear() * 12 + date.getMonthValue() - 1;
+    }
+}
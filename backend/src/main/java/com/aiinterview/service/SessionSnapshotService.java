@@ -0,0 +1,122 @@
+package com.aiinterview.service;
+
+import com.aiinterview.dto.SliceQueryRequest;
+import com.aiinterview.dto.SliceQueryResponse;
+import com.aiinterview.event.AnalyticsChangeEvent;
+import com.aiinterview.repository.InterviewSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Keeps a {@link SessionSnapshot} of all sessions in memory and answers ad-hoc slice queries from it.
+ * <p>
+ * The snapshot is rebuilt in full on startup and every {@code analytics.snapshot.refresh-interval-ms}
+ * (driven by {@link BackgroundJobService}), and patched per session from {@link AnalyticsChangeEvent}s in
+ * between. Sessions changed while a rebuild is streaming are re-read once the new snapshot is swapped in,
+ * so no update is lost to the swap.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SessionSnapshotService {
+    
+    private final InterviewSessionRepository sessionRepository;
+    
+    private volatile SessionSnapshot snapshot;
+    private volatile Set<Long> dirtyDuringRebuild;
+    
+    @Transactional(readOnly = true)
+    public synchronized int rebuild() {
+        long start = System.currentTimeMillis();
+        dirtyDuringRebuild = ConcurrentHashMap.newKeySet();
+        SessionSnapshot fresh = new SessionSnapshot((int) sessionRepository.count());
+        try (Stream<InterviewSessionRepository.SnapshotRow> rows = sessionRepository.streamSnapshotRows()) {
+            rows.forEach(fresh::upsert);
+        }
+        snapshot = fresh;
+        Set<Long> dirty = dirtyDuringRebuild;
+        dirtyDuringRebuild = null;
+        dirty.forEach(this::refreshSession);
+        log.info("Built session snapshot ({} sessions, {} patched after swap) in {} ms", fresh.liveRows(),
+            dirty.size(), System.currentTimeMillis() - start);
+        return fresh.liveRows();
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAnalyticsChange(AnalyticsChangeEvent event) {
+        if (event.sessionId() == null) {
+            return;
+        }
+        Set<Long> dirty = dirtyDuringRebuild;
+        if (dirty != null) {
+            dirty.add(event.sessionId());
+        }
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            if (event.type() == AnalyticsChangeEvent.Type.SESSION_DELETED) {
+                snapshot.remove(event.sessionId());
+            } else {
+                refreshSession(event.sessionId());
+            }
+        } catch (Exception e) {
+            // The next scheduled rebuild repairs the row
+            log.warn("Failed to patch session {} in snapshot: {}", event.sessionId(), e.getMessage());
+        }
+    }
+    
+    private void refreshSession(Long sessionId) {
+        SessionSnapshot current = snapshot;
+        sessionRepository.findSnapshotRow(sessionId).ifPresentOrElse(current::upsert, () -> current.remove(sessionId));
+    }
+    
+    public SliceQueryResponse query(SliceQueryRequest request) {
+        SessionSnapshot current = snapshot;
+        if (current == null) {
+            throw new RuntimeException("Session snapshot is not ready yet");
+        }
+        List<SessionSnapshot.Dimension> groupBy = request.getGroupBy() != null ? request.getGroupBy() : List.of();
+        if (groupBy.size() != Set.copyOf(groupBy).size()) {
+            throw new RuntimeException("Duplicate groupBy dimension");
+        }
+        
+        long start = System.nanoTime();
+        SessionSnapshot.Result result = current.query(new SessionSnapshot.Filter(
+            request.getStatuses(),
+            request.getTemplateIds(),
+            request.getJobIds(),
+            request.getSeniorityLevels(),
+            request.getRecommendations(),
+            request.getFrom(),
+            request.getTo()
+        ), groupBy);
+        long elapsedMicros = (System.nanoTime() - start) / 1000;
+        
+        List<SliceQueryResponse.SliceRow> rows = new ArrayList<>(result.groups().size());
+        for (SessionSnapshot.Group group : result.groups()) {
+            rows.add(SliceQueryResponse.SliceRow.builder()
+                .group(group.key())
+                .count(group.count())
+                .measures(group.measures())
+                .build());
+        }
+        return SliceQueryResponse.builder()
+            .groupBy(groupBy)
+            .rows(rows)
+            .matchedSessions(result.matchedRows())
+            .scannedRows(result.scannedRows())
+            .snapshotBuiltAt(current.getBuiltAt())
+            .evaluationMicros(elapsedMicros)
+            .build();
+    }
+}
@@ -0,0 +1,283 @@
+package com.aiinterview.service;
+
+import com.aiinterview.dto.InterviewSessionResponse;
+import com.aiinterview.model.InterviewSession;
+import com.aiinterview.model.Notification;
+import com.aiinterview.repository.InterviewSessionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Per-session timed actions: the reminder before a scheduled interview and its scheduled start. Running
+ * sessions are expired by {@link SessionHeartbeatService} instead of a fixed deadline.
+ * <p>
+ * Timers live in a Redis sorted set scored by due time, which survives restarts and is shared by all
+ * instances. Each instance pulls the timers due within the next poll window into a {@link TimingWheel}
+ * ticking every second, so actions fire within a couple of seconds of their due time at O(1) cost each.
+ * Firing claims the timer by removing it from the sorted set, so only one instance runs it, and every
+ * action re-checks the session first, which makes stale or duplicate timers harmless.
+ */
+@Service
+@Slf4j
+public class SessionTimerService {
+    
+    private static final String TIMERS_KEY = "session-timers";
+    private static final String SEEDED_KEY = TIMERS_KEY + ":seeded";
+    private static final long TICK_MILLIS = 1000;
+    
+    // Remove the timer only if it still has the due time this instance loaded: not claimed by another
+    // instance, cancelled or rescheduled since
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>(
+        "local score = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+        "if score and tonumber(score) == tonumber(ARGV[2]) then return redis.call('ZREM', KEYS[1], ARGV[1]) end " +
+        "return 0", Long.class);
+    
+    public enum Action {
+        REMINDER,
+        SCHEDULED_START
+    }
+    
+    private record Timer(Action action, String sessionId, long dueMillis) {
+        
+        String member() {
+            return action + ":" + sessionId;
+        }
+    }
+    
+    private final StringRedisTemplate stringRedisTemplate;
+    private final InterviewSessionRepository sessionRepository;
+    private final EmailService emailService;
+    private final NotificationService notificationService;
+    private final WebSocketService webSocketService;
+    private final Executor timerExecutor;
+    
+    @Value("${interview.timers.reminder-lead-minutes:60}")
+    private long reminderLeadMinutes;
+    
+    @Value("${interview.timers.poll-interval-ms:30000}")
+    private long pollIntervalMs;
+    
+    private final TimingWheel<Timer> wheel = new TimingWheel<>(TICK_MILLIS, System.currentTimeMillis());
+    // Member -> due time of the timers currently in the wheel, so polls don't add them twice
+    private final Map<String, Long> loaded = new HashMap<>();
+    
+    public SessionTimerService(StringRedisTemplate stringRedisTemplate,
+                               InterviewSessionRepository sessionRepository,
+                               EmailService emailService,
+                               NotificationService notificationService,
+                               @Lazy WebSocketService webSocketService,
+                               @Qualifier("timerExecutor") Executor timerExecutor) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.sessionRepository = sessionRepository;
+        this.emailService = emailService;
+        this.notificationService = notificationService;
+        this.webSocketService = webSocketService;
+        this.timerExecutor = timerExecutor;
+    }
+    
+    /**
+     * Register the reminder and scheduled start of a session created for a future time.
+     */
+    public void scheduleCreated(InterviewSession session) {
+        if (!session.getStartedAt().isAfter(LocalDateTime.now())) {
+            return;
+        }
+        schedule(Action.REMINDER, session.getSessionId(), session.getStartedAt().minusMinutes(reminderLeadMinutes));
+        schedule(Action.SCHEDULED_START, session.getSessionId(), session.getStartedAt());
+    }
+    
+    /**
+     * Drop the timers of a session that started or finished; they only apply to pending ones.
+     */
+    public void onStatusChanged(InterviewSession session) {
+        if (session.getStatus() != InterviewSession.SessionStatus.PENDING) {
+            cancelAll(session.getSessionId());
+        }
+    }
+    
+    public void cancelAll(String sessionId) {
+        try {
+            String[] members = new String[Action.values().length];
+            for (Action action : Action.values()) {
+                members[action.ordinal()] = action + ":" + sessionId;
+            }
+            stringRedisTemplate.opsForZSet().remove(TIMERS_KEY, (Object[]) members);
+        } catch (Exception e) {
+            log.warn("Failed to cancel timers of session {}: {}", sessionId, e.getMessage());
+        }
+    }
+    
+    private void schedule(Action action, String sessionId, LocalDateTime dueAt) {
+        Timer timer = new Timer(action, sessionId, dueAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        try {
+            stringRedisTemplate.opsForZSet().add(TIMERS_KEY, timer.member(), timer.dueMillis());
+        } catch (Exception e) {
+            // Recreated by seedIfMissing only when the whole set is lost
+            log.warn("Failed to persist {} timer of session {}: {}", action, sessionId, e.getMessage());
+            return;
+        }
+        if (timer.dueMillis() <= System.currentTimeMillis() + pollIntervalMs) {
+            load(timer);
+        }
+    }
+    
+    /**
+     * Pull the timers due before the next poll into the wheel. Also picks up timers registered by other
+     * instances and those left behind by an instance that stopped.
+     *
+     * @return the number of due timers read
+     */
+    public int loadDueTimers() {
+        long until = System.currentTimeMillis() + 2 * pollIntervalMs;
+        Set<ZSetOperations.TypedTuple<String>> due =
+            stringRedisTemplate.opsForZSet().rangeByScoreWithScores(TIMERS_KEY, Double.NEGATIVE_INFINITY, until);
+        if (due == null) {
+            return 0;
+        }
+        for (ZSetOperations.TypedTuple<String> tuple : due) {
+            String member = tuple.getValue();
+            int separator = member.indexOf(':');
+            Action action;
+            try {
+                action = Action.valueOf(member.substring(0, separator));
+            } catch (RuntimeException e) {
+                log.warn("Dropping unreadable session timer {}", member);
+                stringRedisTemplate.opsForZSet().remove(TIMERS_KEY, member);
+                continue;
+            }
+            load(new Timer(action, member.substring(separator + 1), tuple.getScore().longValue()));
+        }
+        return due.size();
+    }
+    
+    private void load(Timer timer) {
+        synchronized (wheel) {
+            Long current = loaded.get(timer.member());
+            if (current != null && current == timer.dueMillis()) {
+                return;
+            }
+            loaded.put(timer.member(), timer.dueMillis());
+            wheel.add(timer.dueMillis(), timer);
+        }
+    }
+    
+    /**
+     * Advance the wheel to now and run the expired timers this instance manages to claim.
+     *
+     * @return the number of expired timers handed to the executor
+     */
+    public int advance() {
+        List<Timer> expired;
+        synchronized (wheel) {
+            expired = wheel.advance(System.currentTimeMillis());
+            for (Timer timer : expired) {
+                loaded.remove(timer.member(), timer.dueMillis());
+            }
+        }
+        for (Timer timer : expired) {
+            timerExecutor.execute(() -> fire(timer));
+        }
+        return expired.size();
+    }
+    
+    private void fire(Timer timer) {
+        try {
+            Long claimed = stringRedisTemplate.execute(CLAIM_SCRIPT, List.of(TIMERS_KEY),
+                timer.member(), Long.toString(timer.dueMillis()));
+            if (claimed == null || claimed == 0) {
+                return;
+            }
+            InterviewSession session = sessionRepository.findBySessionId(timer.sessionId()).orElse(null);
+            if (session == null) {
+                return;
+            }
+            switch (timer.action()) {
+                case REMINDER:
+                    sendReminder(session);
+                    break;
+                case SCHEDULED_START:
+                    announceStart(session);
+                    break;
+            }
+        } catch (Exception e) {
+            log.error("Failed to run {} timer of session {}", timer.action(), timer.sessionId(), e);
+        }
+    }
+    
+    private void sendReminder(InterviewSession session) {
+        if (session.getStatus() != InterviewSession.SessionStatus.PENDING
+                || !session.getStartedAt().isAfter(LocalDateTime.now())) {
+            return;
+        }
+        emailService.sendInterviewReminder(session.getCandidate(), session);
+        notificationService.sendInterviewNotification(
+            session.getCandidate().getUser() != null ? session.getCandidate().getUser().getId() : null,
+            session.getSessionId(),
+            Notification.NotificationType.INTERVIEW_REMINDER
+        );
+        log.info("Sent reminder for session: {}", session.getSessionId());
+    }
+    
+    private void announceStart(InterviewSession session) {
+        if (session.getStatus() != InterviewSession.SessionStatus.PENDING) {
+            return;
+        }
+        // Lets a waiting candidate page know the interview can begin
+        webSocketService.broadcastSessionUpdate(session.getSessionId(), InterviewSessionResponse.builder()
+            .id(session.getId())
+            .sessionId(session.getSessionId())
+            .status(session.getStatus())
+            .startedAt(session.getStartedAt())
+            .build());
+    }
+    
+    /**
+     * Register timers for the sessions that already exist when the sorted set is missing, i.e. on first
+     * start or after Redis lost its data.
+     */
+    public void seedIfMissing(int chunkSize) {
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(SEEDED_KEY))) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int seeded = seed(InterviewSession.SessionStatus.PENDING, now, now.plusYears(100), chunkSize, this::scheduleCreated);
+        stringRedisTemplate.opsForValue().set(SEEDED_KEY, now.toString());
+        log.info("Seeded session timers for {} sessions", seeded);
+    }
+    
+    private int seed(InterviewSession.SessionStatus status, LocalDateTime from, LocalDateTime to, int chunkSize,
+                     Consumer<InterviewSession> register) {
+        LocalDateTime afterStartedAt = from;
+        Long afterId = 0L;
+        int seeded = 0;
+        List<InterviewSession> chunk;
+        do {
+            chunk = sessionRepository.findStartingBetween(status, from, to, afterStartedAt, afterId, Limit.of(chunkSize));
+            chunk.forEach(register);
+            if (!chunk.isEmpty()) {
+                InterviewSession last = chunk.get(chunk.size() - 1);
+                afterStartedAt = last.getStartedAt();
+                afterId = last.getId();
+            }
+            seeded += chunk.size();
+        } while (chunk.size() == chunkSize);
+        return seeded;
+    }
+}
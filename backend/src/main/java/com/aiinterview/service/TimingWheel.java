@@ -0,0 +1,99 @@
+package com.aiinterview.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel: {@code LEVELS} wheels of {@code SLOTS} slots, where a slot of level n spans
+ * SLOTS^n ticks. An entry goes into the coarsest level that still resolves its due tick and cascades one
+ * level down each time the finer wheels wrap around to its slot, so adding is O(1) and every entry is
+ * touched at most LEVELS times before it expires. Entries beyond the horizon park in the top level and
+ * are re-placed when that slot comes round.
+ * <p>
+ * Not thread-safe; callers synchronize.
+ */
+public class TimingWheel<T> {
+    
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int LEVELS = 4;
+    private static final long HORIZON_TICKS = 1L << (SLOT_BITS * LEVELS);
+    
+    private record Entry<T>(long dueTick, T item) {
+    }
+    
+    private final long tickMillis;
+    private final List<List<ArrayDeque<Entry<T>>>> wheels = new ArrayList<>(LEVELS);
+    private long currentTick;
+    private int size;
+    
+    public TimingWheel(long tickMillis, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        for (int level = 0; level < LEVELS; level++) {
+            List<ArrayDeque<Entry<T>>> slots = new ArrayList<>(SLOTS);
+            for (int slot = 0; slot < SLOTS; slot++) {
+                slots.add(new ArrayDeque<>());
+            }
+            wheels.add(slots);
+        }
+    }
+    
+    /**
+     * Schedule {@code item} to expire at {@code dueMillis}; past due times expire on the next advance.
+     */
+    public void add(long dueMillis, T item) {
+        place(new Entry<>(Math.max(dueMillis / tickMillis, currentTick + 1), item));
+        size++;
+    }
+    
+    /**
+     * Move the wheel forward to {@code nowMillis} and return the entries that expired, in due order.
+     */
+    public List<T> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        List<T> expired = new ArrayList<>();
+        while (currentTick < targetTick) {
+            currentTick++;
+            // Higher levels first so cascaded entries can land in this tick's level-0 slot
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    ArrayDeque<Entry<T>> slot = slot(level, currentTick);
+                    List<Entry<T>> cascading = new ArrayList<>(slot);
+                    slot.clear();
+                    cascading.forEach(this::place);
+                }
+            }
+            ArrayDeque<Entry<T>> due = slot(0, currentTick);
+            for (Entry<T> entry : due) {
+                expired.add(entry.item());
+            }
+            size -= due.size();
+            due.clear();
+        }
+        return expired;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    private void place(Entry<T> entry) {
+        long ticks = entry.dueTick() - currentTick;
+        // Parked at the far end of the top level; re-placed when that slot cascades
+        long placeTick = ticks < HORIZON_TICKS ? entry.dueTick() : currentTick + HORIZON_TICKS - 1;
+        ticks = placeTick - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && ticks >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        // A slot of level n >= 1 is reached once the lower bits of the tick are zero, so an entry due
+        // mid-slot is re-placed a few ticks early instead of being missed
+        slot(level, placeTick).add(entry);
+    }
+    
+    private ArrayDeque<Entry<T>> slot(int level, long tick) {
+        return wheels.get(level).get((int) ((tick >>> (SLOT_BITS * level)) & (SLOTS - 1)));
+    }
+}
@@ -0,0 +1,140 @@
+package com.aiinterview.service;
+
+import com.aiinterview.dto.TranscriptResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Transcripts of completed sessions, stored in Redis as gzipped JSON. A completed transcript only changes
+ * through an evaluation or turn edit, which evict it, so entries need no freshness check.
+ * <p>
+ * Each session has a generation counter that eviction bumps after the editing transaction commits. A
+ * transcript is only stored if the counter hasn't moved since it was read from the database, so a load
+ * that raced with an edit can't put the old version back.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TranscriptCacheService {
+    
+    private static final String KEY_PREFIX = "transcript:";
+    
+    // Store the blob only if the generation is still the one read before loading
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>(
+        "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end " +
+        "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+        "return 1", Long.class);
+    
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    
+    @Value("${transcripts.cache.ttl-hours:168}")
+    private long ttlHours;
+    
+    public TranscriptResponse get(String sessionId) {
+        try {
+            byte[] blob = stringRedisTemplate.execute((RedisCallback<byte[]>) connection ->
+                connection.stringCommands().get(bytes(KEY_PREFIX + sessionId)));
+            return blob != null ? decode(blob) : null;
+        } catch (Exception e) {
+            log.debug("Failed to read cached transcript {}: {}", sessionId, e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * The current generation of a session's transcript, to pass to {@link #put} after loading it.
+     */
+    public String generation(String sessionId) {
+        try {
+            String generation = stringRedisTemplate.opsForValue().get(generationKey(sessionId));
+            return generation != null ? generation : "0";
+        } catch (Exception e) {
+            return null;
+        }
+    }
+    
+    public void put(String sessionId, String generation, TranscriptResponse transcript) {
+        if (generation == null) {
+            return;
+        }
+        try {
+            stringRedisTemplate.execute(PUT_SCRIPT, RedisSerializer.byteArray(), new GenericToStringSerializer<>(Long.class),
+                List.of(KEY_PREFIX + sessionId, generationKey(sessionId)),
+                bytes(generation), encode(transcript), bytes(Long.toString(ttlHours * 3_600_000)));
+        } catch (Exception e) {
+            log.debug("Failed to cache transcript {}: {}", sessionId, e.getMessage());
+        }
+    }
+    
+    /**
+     * Drop the cached transcript once the current transaction commits, or right away outside one.
+     */
+    public void evict(String sessionId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(sessionId);
+                }
+            });
+        } else {
+            evictNow(sessionId);
+        }
+    }
+    
+    private void evictNow(String sessionId) {
+        try {
+            // Bump first: a put between the two commands then fails its generation check
+            stringRedisTemplate.opsForValue().increment(generationKey(sessionId));
+            stringRedisTemplate.expire(generationKey(sessionId), Duration.ofHours(ttlHours));
+            stringRedisTemplate.delete(KEY_PREFIX + sessionId);
+        } catch (Exception e) {
+            log.warn("Failed to evict cached transcript {}: {}", sessionId, e.getMessage());
+        }
+    }
+    
+    private byte[] encode(TranscriptResponse transcript) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(buffer)) {
+            objectMapper.writeValue(out, transcript);
+        }
+        return buffer.toByteArray();
+    }
+    
+    private TranscriptResponse decode(byte[] blob) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(blob))) {
+            return objectMapper.readValue(in, TranscriptResponse.class);
+        }
+    }
+    
+    private static String generationKey(String sessionId) {
+        return KEY_PREFIX + sessionId + ":generation";
+    }
+    
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
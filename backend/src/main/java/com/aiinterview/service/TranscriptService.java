@@ -1,6 +1,5 @@
 package com.aiinterview.service;
 
-import com.aiinterview.dto.InterviewSessionResponse;
 import com.aiinterview.dto.InterviewTurnResponse;
 import com.aiinterview.dto.TranscriptResponse;
 import com.aiinterview.model.InterviewSession;
@@ -8,6 +7,7 @@ import com.aiinterview.repository.InterviewSessionRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -16,27 +16,51 @@ public class TranscriptService {
     
     private final InterviewSessionRepository sessionRepository;
     private final InterviewTurnService turnService;
-    private final InterviewSessionService sessionService;
+    private final TranscriptCacheService transcriptCache;
     
+    /**
+     * The transcript of a session. Completed sessions are served from {@link TranscriptCacheService}; the
+     * others, and cache misses, are assembled from a single query.
+     */
     public TranscriptResponse getTranscript(String sessionId) {
-        InterviewSession session = sessionRepository.findBySessionId(sessionId)
-            .orElseThrow(() -> new RuntimeException("Session not found"));
+        TranscriptResponse cached = transcriptCache.get(sessionId);
+        if (cached != null) {
+            return cached;
+        }
         
-        InterviewSessionResponse sessionResponse = sessionService.getSessionBySessionId(sessionId);
-        List<InterviewTurnResponse> turns = turnService.getTurnsBySessionIdString(sessionId);
+        String generation = transcriptCache.generation(sessionId);
+        TranscriptResponse transcript = loadTranscript(sessionId);
+        if (InterviewSession.SessionStatus.COMPLETED.name().equals(transcript.getStatus())) {
+            transcriptCache.put(sessionId, generation, transcript);
+        }
+        return transcript;
+    }
+    
+    private TranscriptResponse loadTranscript(String sessionId) {
+        List<InterviewSessionRepository.TranscriptRow> rows = sessionRepository.findTranscriptRows(sessionId);
+        if (rows.isEmpty()) {
+            throw new RuntimeException("Session not found");
+        }
+        
+        InterviewSession session = rows.get(0).getSession();
+        List<InterviewTurnResponse> turns = new ArrayList<>(rows.size());
+        for (InterviewSessionRepository.TranscriptRow row : rows) {
+            if (row.getTurn() != null) {
+                turns.add(turnService.mapToResponse(row.getTurn()));
+            }
+        }
         
         return TranscriptResponse.builder()
             .sessionId(sessionId)
-            .candidateName(sessionResponse.getCandidateName())
-            .templateName(sessionResponse.getTemplateName())
-            .language(sessionResponse.getLanguage())
-            .status(sessionResponse.getStatus().name())
+            .candidateName(session.getCandidate().getFirstName() + " " + session.getCandidate().getLastName())
+            .templateName(session.getTemplate().getName())
+            .language(session.getLanguage())
+            .status(session.getStatus().name())
             .turns(turns)
-            .aiSummary(sessionResponse.getAiSummary())
-            .strengths(sessionResponse.getStrengths())
-            .weaknesses(sessionResponse.getWeaknesses())
-            .recommendation(sessionResponse.getRecommendation() != null ? sessionResponse.getRecommendation().name() : null)
+            .aiSummary(session.getAiSummary())
+            .strengths(session.getStrengths())
+            .weaknesses(session.getWeaknesses())
+            .recommendation(session.getRecommendation() != null ? session.getRecommendation().name() : null)
             .build();
     }
 }
-
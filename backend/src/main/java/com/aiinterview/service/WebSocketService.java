@@ -1,6 +1,7 @@
 package com.aiinterview.service;
 
 import com.aiinterview.dto.InterviewSessionResponse;
+import com.aiinterview.dto.LiveMetricsMessage;
 import com.aiinterview.dto.NotificationResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -53,5 +54,16 @@ public class WebSocketService {
             log.error("Failed to broadcast notification", e);
         }
     }
+    
+    /**
+     * Broadcast live dashboard counters (snapshot or delta)
+     */
+    public void broadcastLiveMetrics(LiveMetricsMessage message) {
+        try {
+            messagingTemplate.convertAndSend(LiveMetricsService.TOPIC, message);
+            log.debug("Broadcasted live metrics {} #{}", message.getType(), message.getSequence());
+        } catch (Exception e) {
+            log.error("Failed to broadcast live metrics", e);
+        }
+    }
 }
-
@@ -0,0 +1,224 @@
+-- Schema as previously generated by Hibernate (ddl-auto: update) from the entity mappings.
+-- Every statement is IF NOT EXISTS (or checks first) so this also runs cleanly against databases created
+-- that way, and brings them up to the mappings of this release.
+
+CREATE TABLE IF NOT EXISTS users (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email               VARCHAR(255) NOT NULL UNIQUE,
+    password            VARCHAR(255) NOT NULL,
+    first_name          VARCHAR(255) NOT NULL,
+    last_name           VARCHAR(255) NOT NULL,
+    role                VARCHAR(255) NOT NULL,
+    active              BOOLEAN NOT NULL,
+    reset_token         VARCHAR(500),
+    reset_token_expiry  TIMESTAMP(6),
+    created_at          TIMESTAMP(6) NOT NULL,
+    updated_at          TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS candidates (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email           VARCHAR(255) NOT NULL UNIQUE,
+    first_name      VARCHAR(255) NOT NULL,
+    last_name       VARCHAR(255) NOT NULL,
+    phone_number    VARCHAR(20),
+    resume_url      VARCHAR(2000),
+    linked_in_url   VARCHAR(2000),
+    user_id         BIGINT REFERENCES users (id),
+    created_at      TIMESTAMP(6) NOT NULL,
+    updated_at      TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS jobs (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title            VARCHAR(255) NOT NULL,
+    description      VARCHAR(2000),
+    seniority_level  VARCHAR(255) NOT NULL,
+    created_by       BIGINT NOT NULL REFERENCES users (id),
+    active           BOOLEAN NOT NULL,
+    created_at       TIMESTAMP(6) NOT NULL,
+    updated_at       TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS job_required_skills (
+    job_id  BIGINT NOT NULL REFERENCES jobs (id),
+    skill   VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS job_soft_skills (
+    job_id  BIGINT NOT NULL REFERENCES jobs (id),
+    skill   VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS interview_templates (
+    id                          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name                        VARCHAR(255) NOT NULL,
+    job_id                      BIGINT NOT NULL REFERENCES jobs (id),
+    mode                        VARCHAR(255) NOT NULL,
+    system_prompt               VARCHAR(5000),
+    estimated_duration_minutes  INTEGER NOT NULL,
+    created_by                  BIGINT NOT NULL REFERENCES users (id),
+    active                      BOOLEAN NOT NULL,
+    created_at                  TIMESTAMP(6) NOT NULL,
+    updated_at                  TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS template_question_bank (
+    template_id  BIGINT NOT NULL REFERENCES interview_templates (id),
+    question     VARCHAR(1000)
+);
+
+CREATE TABLE IF NOT EXISTS interview_sessions (
+    id                           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    session_id                   VARCHAR(255) NOT NULL UNIQUE,
+    candidate_id                 BIGINT NOT NULL REFERENCES candidates (id),
+    template_id                  BIGINT NOT NULL REFERENCES interview_templates (id),
+    status                       VARCHAR(255) NOT NULL,
+    language                     VARCHAR(50),
+    started_at                   TIMESTAMP(6) NOT NULL,
+    scheduled_at                 TIMESTAMP(6),
+    completed_at                 TIMESTAMP(6),
+    ai_summary                   VARCHAR(5000),
+    strengths                    VARCHAR(2000),
+    weaknesses                   VARCHAR(2000),
+    recommendation               VARCHAR(255),
+    total_turns                  INTEGER NOT NULL,
+    communication_score_sum      FLOAT(53),
+    communication_score_count    INTEGER,
+    communication_score_average  FLOAT(53),
+    technical_score_sum          FLOAT(53),
+    technical_score_count        INTEGER,
+    technical_score_average      FLOAT(53),
+    clarity_score_sum            FLOAT(53),
+    clarity_score_count          INTEGER,
+    clarity_score_average        FLOAT(53),
+    anti_cheat_signal_count      INTEGER,
+    created_at                   TIMESTAMP(6) NOT NULL,
+    updated_at                   TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS interview_turns (
+    id                     BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    session_id             BIGINT NOT NULL REFERENCES interview_sessions (id),
+    turn_number            INTEGER NOT NULL,
+    question               VARCHAR(2000) NOT NULL,
+    answer                 VARCHAR(5000),
+    question_timestamp     TIMESTAMP(6) NOT NULL,
+    answer_timestamp       TIMESTAMP(6),
+    answer_duration_ms     BIGINT,
+    audio_url              VARCHAR(500),
+    ai_comment             VARCHAR(1000),
+    communication_score    FLOAT(53),
+    technical_score        FLOAT(53),
+    clarity_score          FLOAT(53),
+    has_anti_cheat_signal  BOOLEAN NOT NULL,
+    anti_cheat_details     VARCHAR(500),
+    created_at             TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS notifications (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id     BIGINT NOT NULL REFERENCES users (id),
+    title       VARCHAR(255) NOT NULL,
+    message     VARCHAR(1000),
+    type        VARCHAR(255) NOT NULL,
+    status      VARCHAR(255) NOT NULL,
+    action_url  VARCHAR(500),
+    read        BOOLEAN NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    read_at     TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS stored_files (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    file_path          VARCHAR(255) NOT NULL UNIQUE,
+    original_filename  VARCHAR(255) NOT NULL,
+    content_type       VARCHAR(255) NOT NULL,
+    file_size          BIGINT NOT NULL,
+    file_type          VARCHAR(255) NOT NULL,
+    uploaded_by        BIGINT REFERENCES users (id),
+    description        VARCHAR(500),
+    uploaded_at        TIMESTAMP(6) NOT NULL,
+    active             BOOLEAN NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS analytics_daily_session_rollups (
+    id                    BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    rollup_date           DATE NOT NULL,
+    status                VARCHAR(255) NOT NULL,
+    template_id           BIGINT NOT NULL,
+    job_id                BIGINT NOT NULL,
+    session_count         BIGINT NOT NULL,
+    duration_minutes_sum  BIGINT NOT NULL,
+    duration_count        BIGINT NOT NULL,
+    UNIQUE (rollup_date, status, template_id, job_id)
+);
+
+CREATE TABLE IF NOT EXISTS analytics_daily_candidate_rollups (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    rollup_date      DATE NOT NULL UNIQUE,
+    candidate_count  BIGINT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS analytics_score_histograms (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    histogram_date  DATE NOT NULL,
+    template_id     BIGINT NOT NULL,
+    job_id          BIGINT NOT NULL,
+    metric          VARCHAR(32) NOT NULL,
+    bucket_index    INTEGER NOT NULL,
+    bucket_count    BIGINT NOT NULL,
+    UNIQUE (histogram_date, template_id, job_id, metric, bucket_index)
+);
+
+-- Columns added since ddl-auto last ran: interview_sessions already existed there, so CREATE TABLE above
+-- skipped them
+ALTER TABLE interview_sessions
+    ADD COLUMN IF NOT EXISTS communication_score_sum      FLOAT(53),
+    ADD COLUMN IF NOT EXISTS communication_score_count    INTEGER,
+    ADD COLUMN IF NOT EXISTS communication_score_average  FLOAT(53),
+    ADD COLUMN IF NOT EXISTS technical_score_sum          FLOAT(53),
+    ADD COLUMN IF NOT EXISTS technical_score_count        INTEGER,
+    ADD COLUMN IF NOT EXISTS technical_score_average      FLOAT(53),
+    ADD COLUMN IF NOT EXISTS clarity_score_sum            FLOAT(53),
+    ADD COLUMN IF NOT EXISTS clarity_score_count          INTEGER,
+    ADD COLUMN IF NOT EXISTS clarity_score_average        FLOAT(53),
+    ADD COLUMN IF NOT EXISTS anti_cheat_signal_count      INTEGER;
+
+-- Turns used to be numbered from an unlocked count, so concurrent appends could repeat a number. Renumber
+-- the turns of affected sessions in (turn_number, id) order and raise total_turns to match before adding
+-- the unique key.
+WITH renumbered AS (
+    SELECT id, ROW_NUMBER() OVER (PARTITION BY session_id ORDER BY turn_number, id) AS turn_number
+    FROM interview_turns
+    WHERE session_id IN (SELECT session_id
+                         FROM interview_turns
+                         GROUP BY session_id, turn_number
+                         HAVING COUNT(*) > 1)
+)
+UPDATE interview_turns t
+SET turn_number = r.turn_number
+FROM renumbered r
+WHERE t.id = r.id
+  AND t.turn_number <> r.turn_number;
+
+UPDATE interview_sessions s
+SET total_turns = m.last_turn
+FROM (SELECT session_id, MAX(turn_number) AS last_turn FROM interview_turns GROUP BY session_id) m
+WHERE s.id = m.session_id
+  AND s.total_turns < m.last_turn;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uk_interview_turns_session_turn') THEN
+        ALTER TABLE interview_turns
+            ADD CONSTRAINT uk_interview_turns_session_turn UNIQUE (session_id, turn_number);
+    END IF;
+END $$;
+
+-- Indexes declared on the entities
+CREATE INDEX IF NOT EXISTS idx_interview_sessions_template_status ON interview_sessions (template_id, status);
+CREATE INDEX IF NOT EXISTS idx_interview_sessions_candidate_status ON interview_sessions (candidate_id, status);
+CREATE INDEX IF NOT EXISTS idx_interview_sessions_started_at ON interview_sessions (started_at, id);
+CREATE INDEX IF NOT EXISTS idx_interview_templates_job ON interview_templates (job_id);
+CREATE INDEX IF NOT EXISTS idx_notifications_user_created ON notifications (user_id, created_at, id);
@@ -0,0 +1,35 @@
+-- Indexes behind the repository query methods on the request path.
+
+-- Status-filtered session lists sorted by start time, and findByStatus
+CREATE INDEX IF NOT EXISTS idx_interview_sessions_status_started
+    ON interview_sessions (status, started_at, id);
+
+-- A candidate's sessions, latest first (findByCandidate_Id, candidate interview lists)
+CREATE INDEX IF NOT EXISTS idx_interview_sessions_candidate_started
+    ON interview_sessions (candidate_id, started_at DESC, id DESC);
+
+-- countByStatusAndCompletedAtGreaterThanEqual (live metrics)
+CREATE INDEX IF NOT EXISTS idx_interview_sessions_completed
+    ON interview_sessions (completed_at)
+    WHERE status = 'COMPLETED';
+
+-- Transcript reads (findBySession_IdOrderByTurnNumberAsc, findMaxTurnNumber) use the index of
+-- uk_interview_turns_session_turn on (session_id, turn_number).
+
+-- Unread notifications per user, newest first, and the unread badge count
+CREATE INDEX IF NOT EXISTS idx_notifications_user_unread
+    ON notifications (user_id, created_at DESC)
+    WHERE read = FALSE;
+
+-- Password reset lookups; only users with a pending reset carry a token
+CREATE INDEX IF NOT EXISTS idx_users_reset_token
+    ON users (reset_token)
+    WHERE reset_token IS NOT NULL;
+
+-- Jobs created by a recruiter
+CREATE INDEX IF NOT EXISTS idx_jobs_created_by ON jobs (created_by);
+
+-- Element collections are loaded by their owner's id
+CREATE INDEX IF NOT EXISTS idx_job_required_skills_job ON job_required_skills (job_id);
+CREATE INDEX IF NOT EXISTS idx_job_soft_skills_job ON job_soft_skills (job_id);
+CREATE INDEX IF NOT EXISTS idx_template_question_bank_template ON template_question_bank (template_id);
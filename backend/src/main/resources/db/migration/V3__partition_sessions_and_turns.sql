@@ -0,0 +1,137 @@
+-- Range-partition interview_sessions by started_at and interview_turns by their session's started_at,
+-- one partition per month. Turns carry session_started_at so a session and its turns always land in
+-- partitions with the same bounds and can be detached together.
+--
+-- Partitioned tables need the partition key in every primary key and unique constraint, so the keys
+-- become (id, started_at), (session_id, started_at) and (session_id, session_started_at, turn_number).
+-- ids still come from a single sequence and session_id is a UUID, so both stay unique in practice.
+-- Partitions for future months are created by PartitionMaintenanceService.
+
+ALTER TABLE interview_turns ADD COLUMN IF NOT EXISTS session_started_at TIMESTAMP(6);
+
+UPDATE interview_turns t
+SET session_started_at = s.started_at
+FROM interview_sessions s
+WHERE s.id = t.session_id;
+
+CREATE TABLE interview_sessions_partitioned (
+    id                           BIGINT NOT NULL,
+    session_id                   VARCHAR(255) NOT NULL,
+    candidate_id                 BIGINT NOT NULL,
+    template_id                  BIGINT NOT NULL,
+    status                       VARCHAR(255) NOT NULL,
+    language                     VARCHAR(50),
+    started_at                   TIMESTAMP(6) NOT NULL,
+    scheduled_at                 TIMESTAMP(6),
+    completed_at                 TIMESTAMP(6),
+    ai_summary                   VARCHAR(5000),
+    strengths                    VARCHAR(2000),
+    weaknesses                   VARCHAR(2000),
+    recommendation               VARCHAR(255),
+    total_turns                  INTEGER NOT NULL,
+    communication_score_sum      FLOAT(53),
+    communication_score_count    INTEGER,
+    communication_score_average  FLOAT(53),
+    technical_score_sum          FLOAT(53),
+    technical_score_count        INTEGER,
+    technical_score_average      FLOAT(53),
+    clarity_score_sum            FLOAT(53),
+    clarity_score_count          INTEGER,
+    clarity_score_average        FLOAT(53),
+    anti_cheat_signal_count      INTEGER,
+    created_at                   TIMESTAMP(6) NOT NULL,
+    updated_at                   TIMESTAMP(6)
+) PARTITION BY RANGE (started_at);
+
+CREATE TABLE interview_turns_partitioned (
+    id                     BIGINT NOT NULL,
+    session_id             BIGINT NOT NULL,
+    session_started_at     TIMESTAMP(6) NOT NULL,
+    turn_number            INTEGER NOT NULL,
+    question               VARCHAR(2000) NOT NULL,
+    answer                 VARCHAR(5000),
+    question_timestamp     TIMESTAMP(6) NOT NULL,
+    answer_timestamp       TIMESTAMP(6),
+    answer_duration_ms     BIGINT,
+    audio_url              VARCHAR(500),
+    ai_comment             VARCHAR(1000),
+    communication_score    FLOAT(53),
+    technical_score        FLOAT(53),
+    clarity_score          FLOAT(53),
+    has_anti_cheat_signal  BOOLEAN NOT NULL,
+    anti_cheat_details     VARCHAR(500),
+    created_at             TIMESTAMP(6) NOT NULL
+) PARTITION BY RANGE (session_started_at);
+
+-- Monthly partitions from the oldest session up to three months ahead, or up to the latest session if that
+-- is scheduled further out, plus a default partition for rows outside every range. Sessions scheduled
+-- later land there until PartitionMaintenanceService creates their month and moves them.
+DO $$
+DECLARE
+    bound DATE := COALESCE(date_trunc('month', (SELECT MIN(started_at) FROM interview_sessions)),
+                           date_trunc('month', now()))::date;
+    last_bound DATE := GREATEST(date_trunc('month', now()) + INTERVAL '3 months',
+                                date_trunc('month', (SELECT MAX(started_at) FROM interview_sessions)))::date;
+BEGIN
+    WHILE bound <= last_bound LOOP
+        EXECUTE format('CREATE TABLE interview_sessions_p%s PARTITION OF interview_sessions_partitioned '
+                       'FOR VALUES FROM (%L) TO (%L)',
+                       to_char(bound, 'YYYYMM'), bound, (bound + INTERVAL '1 month')::date);
+        EXECUTE format('CREATE TABLE interview_turns_p%s PARTITION OF interview_turns_partitioned '
+                       'FOR VALUES FROM (%L) TO (%L)',
+                       to_char(bound, 'YYYYMM'), bound, (bound + INTERVAL '1 month')::date);
+        bound := (bound + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+CREATE TABLE interview_sessions_pdefault PARTITION OF interview_sessions_partitioned DEFAULT;
+CREATE TABLE interview_turns_pdefault PARTITION OF interview_turns_partitioned DEFAULT;
+
+INSERT INTO interview_sessions_partitioned
+SELECT id, session_id, candidate_id, template_id, status, language, started_at, scheduled_at, completed_at,
+       ai_summary, strengths, weaknesses, recommendation, total_turns,
+       communication_score_sum, communication_score_count, communication_score_average,
+       technical_score_sum, technical_score_count, technical_score_average,
+       clarity_score_sum, clarity_score_count, clarity_score_average,
+       anti_cheat_signal_count, created_at, updated_at
+FROM interview_sessions;
+
+INSERT INTO interview_turns_partitioned
+SELECT id, session_id, session_started_at, turn_number, question, answer, question_timestamp, answer_timestamp,
+       answer_duration_ms, audio_url, ai_comment, communication_score, technical_score, clarity_score,
+       has_anti_cheat_signal, anti_cheat_details, created_at
+FROM interview_turns;
+
+DROP TABLE interview_turns;
+DROP TABLE interview_sessions;
+
+ALTER TABLE interview_sessions_partitioned RENAME TO interview_sessions;
+ALTER TABLE interview_turns_partitioned RENAME TO interview_turns;
+
+CREATE SEQUENCE interview_sessions_id_seq OWNED BY interview_sessions.id;
+SELECT setval('interview_sessions_id_seq', COALESCE((SELECT MAX(id) FROM interview_sessions), 0) + 1, false);
+ALTER TABLE interview_sessions ALTER COLUMN id SET DEFAULT nextval('interview_sessions_id_seq');
+
+CREATE SEQUENCE interview_turns_id_seq OWNED BY interview_turns.id;
+SELECT setval('interview_turns_id_seq', COALESCE((SELECT MAX(id) FROM interview_turns), 0) + 1, false);
+ALTER TABLE interview_turns ALTER COLUMN id SET DEFAULT nextval('interview_turns_id_seq');
+
+ALTER TABLE interview_sessions
+    ADD CONSTRAINT pk_interview_sessions PRIMARY KEY (id, started_at),
+    ADD CONSTRAINT uk_interview_sessions_session_id UNIQUE (session_id, started_at),
+    ADD CONSTRAINT fk_interview_sessions_candidate FOREIGN KEY (candidate_id) REFERENCES candidates (id),
+    ADD CONSTRAINT fk_interview_sessions_template FOREIGN KEY (template_id) REFERENCES interview_templates (id);
+
+ALTER TABLE interview_turns
+    ADD CONSTRAINT pk_interview_turns PRIMARY KEY (id, session_started_at),
+    ADD CONSTRAINT uk_interview_turns_session_turn UNIQUE (session_id, session_started_at, turn_number),
+    ADD CONSTRAINT fk_interview_turns_session FOREIGN KEY (session_id, session_started_at)
+        REFERENCES interview_sessions (id, started_at);
+
+-- Partitioned indexes; each partition gets its own copy. Lookups by id alone use the primary keys.
+CREATE INDEX idx_interview_sessions_template_status ON interview_sessions (template_id, status);
+CREATE INDEX idx_interview_sessions_candidate_status ON interview_sessions (candidate_id, status);
+CREATE INDEX idx_interview_sessions_started_at ON interview_sessions (started_at, id);
+CREATE INDEX idx_interview_sessions_status_started ON interview_sessions (status, started_at, id);
+CREATE INDEX idx_interview_sessions_candidate_started ON interview_sessions (candidate_id, started_at DESC, id DESC);
+CREATE INDEX idx_interview_sessions_completed ON interview_sessions (completed_at) WHERE status = 'COMPLETED';
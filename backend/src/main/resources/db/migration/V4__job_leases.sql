@@ -0,0 +1,7 @@
+-- Leases of the cluster-wide background jobs (see ScheduledJobRunner). A row is kept per job once it has
+-- run; the lease is free when expires_at has passed.
+CREATE TABLE IF NOT EXISTS job_leases (
+    name        VARCHAR(255) PRIMARY KEY,
+    holder      VARCHAR(255) NOT NULL,
+    expires_at  TIMESTAMP(6) NOT NULL
+);
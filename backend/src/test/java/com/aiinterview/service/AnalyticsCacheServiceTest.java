@@ -0,0 +1,108 @@
+package com.aiinterview.service;
+
+import com.aiinterview.event.AnalyticsChangeEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AnalyticsCacheServiceTest {
+    
+    private static final Set<AnalyticsCacheService.Scope> SESSION_SCOPES = EnumSet.of(AnalyticsCacheService.Scope.SESSIONS);
+    private static final Set<AnalyticsCacheService.Scope> SCORE_SCOPES =
+        EnumSet.of(AnalyticsCacheService.Scope.SESSIONS, AnalyticsCacheService.Scope.TURNS);
+    
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private TaskScheduler taskScheduler;
+    private AnalyticsCacheService cacheService;
+    
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        taskScheduler = mock(TaskScheduler.class);
+        // Refreshes run inline so the test sees their effect right away
+        cacheService = new AnalyticsCacheService(redisTemplate, new ObjectMapper(), Runnable::run, taskScheduler);
+        ReflectionTestUtils.setField(cacheService, "ttlSeconds", 60L);
+        ReflectionTestUtils.setField(cacheService, "maxStaleSeconds", 600L);
+        ReflectionTestUtils.setField(cacheService, "invalidationDelayMs", 1000L);
+        ReflectionTestUtils.setField(cacheService, "maxEntries", 2);
+    }
+    
+    @Test
+    void turnChangesOnlyInvalidateEntriesComputedFromTurns() {
+        AtomicInteger sessionLoads = new AtomicInteger();
+        AtomicInteger scoreLoads = new AtomicInteger();
+        cacheService.get("sessions", SESSION_SCOPES, Integer.class, sessionLoads::incrementAndGet);
+        cacheService.get("scores", SCORE_SCOPES, Integer.class, scoreLoads::incrementAndGet);
+        
+        cacheService.onAnalyticsChange(turnChanged());
+        cacheService.get("sessions", SESSION_SCOPES, Integer.class, sessionLoads::incrementAndGet);
+        cacheService.get("scores", SCORE_SCOPES, Integer.class, scoreLoads::incrementAndGet);
+        
+        assertThat(sessionLoads.get()).isEqualTo(1);
+        assertThat(scoreLoads.get()).isEqualTo(2);
+    }
+    
+    @Test
+    void burstOfChangesIsFlushedToRedisOnce() {
+        for (int i = 0; i < 100; i++) {
+            cacheService.onAnalyticsChange(turnChanged());
+        }
+        
+        // Nothing touches Redis on the committing thread
+        verify(valueOperations, never()).increment(anyString());
+        ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler, times(1)).schedule(flush.capture(), any(Instant.class));
+        
+        flush.getValue().run();
+        verify(valueOperations, times(1)).increment("analytics:cache-version:turns");
+        verify(valueOperations, never()).increment("analytics:cache-version:sessions");
+        verify(redisTemplate, never()).delete(anyString());
+        
+        // The next change after a flush schedules a new one
+        cacheService.onAnalyticsChange(turnChanged());
+        verify(taskScheduler, times(2)).schedule(any(Runnable.class), any(Instant.class));
+    }
+    
+    @Test
+    void leastRecentlyReadEntryIsEvictedBeyondMaxEntries() {
+        AtomicInteger loads = new AtomicInteger();
+        cacheService.get("first", SESSION_SCOPES, Integer.class, loads::incrementAndGet);
+        cacheService.get("second", SESSION_SCOPES, Integer.class, loads::incrementAndGet);
+        cacheService.get("first", SESSION_SCOPES, Integer.class, loads::incrementAndGet);
+        cacheService.get("third", SESSION_SCOPES, Integer.class, loads::incrementAndGet);
+        assertThat(loads.get()).isEqualTo(3);
+        
+        // "second" was the least recently read when "third" came in
+        cacheService.get("first", SESSION_SCOPES, Integer.class, loads::incrementAndGet);
+        assertThat(loads.get()).isEqualTo(3);
+        cacheService.get("second", SESSION_SCOPES, Integer.class, loads::incrementAndGet);
+        assertThat(loads.get()).isEqualTo(4);
+    }
+    
+    private static AnalyticsChangeEvent turnChanged() {
+        return new AnalyticsChangeEvent(AnalyticsChangeEvent.Type.TURN_CHANGED, 1L, null, null, 1L, 1L, 1L, null);
+    }
+}
@@ -0,0 +1,75 @@
+package com.aiinterview.service;
+
+import com.aiinterview.model.InterviewTemplate;
+import com.aiinterview.support.PostgresIntegrationTest;
+import com.aiinterview.support.StatementCounter;
+import com.aiinterview.support.TestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * The interview and candidate analytics must run a fixed number of statements, however many sessions
+ * and turns exist (no per-session turn fetch).
+ */
+class AnalyticsQueryCountTest extends PostgresIntegrationTest {
+    
+    // Compute on every call instead of serving a cached response
+    @MockBean
+    private AnalyticsCacheService cacheService;
+    
+    @Autowired
+    private AnalyticsService analyticsService;
+    
+    @Autowired
+    private TestData testData;
+    
+    @BeforeEach
+    void bypassCache() {
+        when(cacheService.get(anyString(), any(), any(), any()))
+            .thenAnswer(call -> ((Supplier<?>) call.getArgument(3)).get());
+    }
+    
+    @Test
+    void interviewAnalyticsStatementCountDoesNotGrowWithSessions() {
+        InterviewTemplate template = testData.template();
+        addCompletedSessions(template, 2);
+        int fewSessions = StatementCounter.count(analyticsService::getInterviewAnalytics);
+        
+        addCompletedSessions(template, 20);
+        int manySessions = StatementCounter.count(analyticsService::getInterviewAnalytics);
+        
+        assertThat(fewSessions).isPositive();
+        assertThat(manySessions).isEqualTo(fewSessions);
+    }
+    
+    @Test
+    void candidateAnalyticsStatementCountDoesNotGrowWithSessions() {
+        InterviewTemplate template = testData.template();
+        addCompletedSessions(template, 2);
+        int fewSessions = StatementCounter.count(
+            () -> analyticsService.getCandidateAnalytics(CandidateReachService.Mode.EXACT));
+        
+        addCompletedSessions(template, 20);
+        int manySessions = StatementCounter.count(
+            () -> analyticsService.getCandidateAnalytics(CandidateReachService.Mode.EXACT));
+        
+        assertThat(fewSessions).isPositive();
+        assertThat(manySessions).isEqualTo(fewSessions);
+    }
+    
+    private void addCompletedSessions(InterviewTemplate template, int sessions) {
+        for (int i = 0; i < sessions; i++) {
+            // Alternate high and low scores so both rankings have entries
+            testData.completedSession(template, 3, i % 2 == 0 ? 8.0 : 2.0);
+        }
+    }
+}
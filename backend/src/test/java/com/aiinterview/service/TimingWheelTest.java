@@ -0,0 +1,71 @@
+package com.aiinterview.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+    
+    private static final long TICK_MILLIS = 10;
+    // Deliberately not aligned to a slot boundary of any level
+    private static final long START_MILLIS = 1_700_000_123_457L;
+    
+    // Ticks from the start: level 0, a level 1 slot, the mid-slot case of each level, the top level, and
+    // past the 64^4 tick horizon
+    private static final long[] DUE_TICKS = {1, 63, 64, 70, 130, 4_095, 4_096, 5_000, 262_143, 262_144,
+        300_000, 16_777_215, 16_777_216, 16_778_000, 40_000_000};
+    
+    @Test
+    void entriesCascadeDownAndExpireOnTheirDueTick() {
+        TimingWheel<Long> wheel = new TimingWheel<>(TICK_MILLIS, START_MILLIS);
+        // Added in reverse so expiry order can't just follow insertion order
+        for (int i = DUE_TICKS.length - 1; i >= 0; i--) {
+            wheel.add(dueMillis(DUE_TICKS[i]), DUE_TICKS[i]);
+        }
+        
+        for (long dueTick : DUE_TICKS) {
+            assertThat(wheel.advance(dueMillis(dueTick) - TICK_MILLIS)).isEmpty();
+            assertThat(wheel.advance(dueMillis(dueTick))).containsExactly(dueTick);
+        }
+        assertThat(wheel.size()).isZero();
+    }
+    
+    @Test
+    void advancingPastSeveralEntriesReturnsThemInDueOrder() {
+        TimingWheel<Long> wheel = new TimingWheel<>(TICK_MILLIS, START_MILLIS);
+        for (int i = DUE_TICKS.length - 1; i >= 0; i--) {
+            wheel.add(dueMillis(DUE_TICKS[i]), DUE_TICKS[i]);
+        }
+        
+        List<Long> expired = new ArrayList<>(wheel.advance(dueMillis(300_000)));
+        assertThat(wheel.size()).isEqualTo(4);
+        expired.addAll(wheel.advance(dueMillis(40_000_000)));
+        
+        assertThat(expired).containsExactly(1L, 63L, 64L, 70L, 130L, 4_095L, 4_096L, 5_000L, 262_143L, 262_144L,
+            300_000L, 16_777_215L, 16_777_216L, 16_778_000L, 40_000_000L);
+        assertThat(wheel.size()).isZero();
+    }
+    
+    @Test
+    void entriesAddedAfterAdvancingCascadeFromTheCurrentTick() {
+        TimingWheel<String> wheel = new TimingWheel<>(TICK_MILLIS, START_MILLIS);
+        wheel.advance(dueMillis(4_000));
+        // Due in the next level 1 slot and two level 2 slots ahead, relative to a tick mid-way through both
+        wheel.add(dueMillis(4_100), "level 1");
+        wheel.add(dueMillis(12_300), "level 2");
+        wheel.add(dueMillis(3_000), "past due");
+        
+        assertThat(wheel.advance(dueMillis(4_001))).containsExactly("past due");
+        assertThat(wheel.advance(dueMillis(4_099))).isEmpty();
+        assertThat(wheel.advance(dueMillis(4_100))).containsExactly("level 1");
+        assertThat(wheel.advance(dueMillis(12_299))).isEmpty();
+        assertThat(wheel.advance(dueMillis(12_300))).containsExactly("level 2");
+    }
+    
+    private static long dueMillis(long ticksFromStart) {
+        return (START_MILLIS / TICK_MILLIS + ticksFromStart) * TICK_MILLIS;
+    }
+}
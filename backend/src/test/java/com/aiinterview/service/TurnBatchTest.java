@@ -0,0 +1,91 @@
+package com.aiinterview.service;
+
+import com.aiinterview.dto.InterviewSessionResponse;
+import com.aiinterview.dto.InterviewTurnResponse;
+import com.aiinterview.dto.TurnBatchRequest;
+import com.aiinterview.dto.TurnBatchResponse;
+import com.aiinterview.model.InterviewSession;
+import com.aiinterview.model.InterviewTemplate;
+import com.aiinterview.model.InterviewTurn;
+import com.aiinterview.model.SessionScorecard;
+import com.aiinterview.repository.InterviewSessionRepository;
+import com.aiinterview.support.PostgresIntegrationTest;
+import com.aiinterview.support.TestData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * A batch mixing creates and updates across sessions numbers the new turns after each session's last one
+ * and keeps the counters and scorecards in step with the stored turns.
+ */
+class TurnBatchTest extends PostgresIntegrationTest {
+    
+    @Autowired
+    private InterviewTurnService turnService;
+    
+    @Autowired
+    private InterviewSessionRepository sessionRepository;
+    
+    @Autowired
+    private TestData testData;
+    
+    @Test
+    void mixedBatchCreatesAndUpdatesTurns() {
+        InterviewTemplate template = testData.template();
+        InterviewSessionResponse first = testData.session(template, testData.candidate());
+        InterviewSessionResponse second = testData.session(template, testData.candidate());
+        InterviewTurn existing = turnService.createTurn(first.getId(), "Question 0", "Answer 0");
+        testData.scoreTurn(first.getSessionId(), existing.getId(), 4.0);
+        InterviewTurn unscored = turnService.createTurn(first.getId(), "Question 1", "Answer 1");
+        
+        TurnBatchRequest request = new TurnBatchRequest();
+        request.setOperations(List.of(
+            update(first.getSessionId(), existing.getId(), 8.0),
+            create(first.getSessionId(), "Question 2", 6.0),
+            create(second.getSessionId(), "Question 0", null),
+            update(first.getSessionId(), unscored.getId(), 7.0),
+            create(first.getSessionId(), "Question 3", null)));
+        TurnBatchResponse response = turnService.applyTurnBatch(request);
+        
+        assertThat(response.getCreated()).isEqualTo(3);
+        assertThat(response.getUpdated()).isEqualTo(2);
+        assertThat(response.getResults().stream().map(TurnBatchResponse.TurnResult::getTurnNumber).toList())
+            .containsExactly(1, 3, 1, 2, 4);
+        assertThat(response.getResults().stream().allMatch(result -> result.getTurnId() != null)).isTrue();
+        
+        List<InterviewTurnResponse> firstTurns = turnService.getTurnsBySessionIdString(first.getSessionId());
+        assertThat(firstTurns.stream().map(InterviewTurnResponse::getTurnNumber).sorted().toList())
+            .containsExactly(1, 2, 3, 4);
+        assertThat(firstTurns.stream().filter(turn -> turn.getId().equals(existing.getId())).findFirst()
+            .orElseThrow().getTechnicalScore()).isEqualTo(8.0);
+        
+        InterviewSession storedFirst = sessionRepository.findBySessionId(first.getSessionId()).orElseThrow();
+        SessionScorecard scorecard = storedFirst.getScorecard();
+        assertThat(storedFirst.getTotalTurns()).isEqualTo(4);
+        assertThat(scorecard.getTechnicalScoreCount()).isEqualTo(3);
+        assertThat(scorecard.getTechnicalScoreSum()).isCloseTo(21.0, within(1e-9));
+        assertThat(sessionRepository.findBySessionId(second.getSessionId()).orElseThrow().getTotalTurns())
+            .isEqualTo(1);
+    }
+    
+    private static TurnBatchRequest.TurnOperation create(String sessionId, String question, Double technicalScore) {
+        TurnBatchRequest.TurnOperation operation = new TurnBatchRequest.TurnOperation();
+        operation.setSessionId(sessionId);
+        operation.setQuestion(question);
+        operation.setTechnicalScore(technicalScore);
+        return operation;
+    }
+    
+    private static TurnBatchRequest.TurnOperation update(String sessionId, Long turnId, Double technicalScore) {
+        TurnBatchRequest.TurnOperation operation = new TurnBatchRequest.TurnOperation();
+        operation.setSessionId(sessionId);
+        operation.setTurnId(turnId);
+        operation.setTechnicalScore(technicalScore);
+        return operation;
+    }
+}
@@ -0,0 +1,44 @@
+package com.aiinterview.service;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Only turn number conflicts are retried by the append; other integrity violations fail at once.
+ */
+class TurnNumberConflictTest {
+    
+    @Test
+    void turnNumberKeyViolationsAreConflicts() {
+        assertThat(InterviewTurnService.isTurnNumberConflict(hibernate("uk_interview_turns_session_turn", "23505")))
+            .isTrue();
+        // Batch inserts go through JDBC and hit the key of a monthly partition
+        assertThat(InterviewTurnService.isTurnNumberConflict(new DuplicateKeyException("duplicate", new SQLException(
+            "ERROR: duplicate key value violates unique constraint \"interview_turns_p202601_session_id_session_started_at_turn_n_key\"",
+            "23505")))).isTrue();
+    }
+    
+    @Test
+    void otherViolationsAreNotConflicts() {
+        assertThat(InterviewTurnService.isTurnNumberConflict(hibernate("fk_interview_turns_session", "23503")))
+            .isFalse();
+        assertThat(InterviewTurnService.isTurnNumberConflict(new DataIntegrityViolationException("not null",
+            new SQLException("ERROR: null value in column \"question\" of relation \"interview_turns_p202601\"", "23502"))))
+            .isFalse();
+        assertThat(InterviewTurnService.isTurnNumberConflict(new DataIntegrityViolationException("too long",
+            new SQLException("ERROR: value too long for type character varying(2000)", "22001"))))
+            .isFalse();
+    }
+    
+    private static DataIntegrityViolationException hibernate(String constraint, String sqlState) {
+        SQLException cause = new SQLException("violates constraint \"" + constraint + "\"", sqlState);
+        return new DataIntegrityViolationException("could not execute statement",
+            new ConstraintViolationException("could not execute statement", cause, constraint));
+    }
+}
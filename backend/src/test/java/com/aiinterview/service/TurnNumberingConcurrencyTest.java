@@ -0,0 +1,57 @@
+package com.aiinterview.service;
+
+import com.aiinterview.dto.CreateTurnRequest;
+import com.aiinterview.dto.InterviewSessionResponse;
+import com.aiinterview.dto.InterviewTurnResponse;
+import com.aiinterview.repository.InterviewSessionRepository;
+import com.aiinterview.support.Concurrently;
+import com.aiinterview.support.PostgresIntegrationTest;
+import com.aiinterview.support.TestData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrent appends to one session must get contiguous turn numbers, with none lost or repeated.
+ */
+class TurnNumberingConcurrencyTest extends PostgresIntegrationTest {
+    
+    private static final int TURNS = 12;
+    
+    @Autowired
+    private InterviewTurnService turnService;
+    
+    @Autowired
+    private InterviewSessionRepository sessionRepository;
+    
+    @Autowired
+    private TestData testData;
+    
+    @Test
+    void concurrentCreatesNumberTurnsContiguously() throws Exception {
+        InterviewSessionResponse session = testData.session(testData.template(), testData.candidate());
+        
+        List<Callable<InterviewTurnResponse>> creates = new ArrayList<>();
+        for (int i = 0; i < TURNS; i++) {
+            CreateTurnRequest request = new CreateTurnRequest();
+            request.setQuestion("Question " + i);
+            request.setAnswer("Answer " + i);
+            creates.add(() -> turnService.createTurn(session.getSessionId(), request));
+        }
+        Concurrently.run(creates);
+        
+        List<Integer> turnNumbers = turnService.getTurnsBySessionIdString(session.getSessionId()).stream()
+            .map(InterviewTurnResponse::getTurnNumber)
+            .sorted()
+            .toList();
+        assertThat(turnNumbers).containsExactlyElementsOf(IntStream.rangeClosed(1, TURNS).boxed().toList());
+        assertThat(sessionRepository.findBySessionId(session.getSessionId()).orElseThrow().getTotalTurns())
+            .isEqualTo(TURNS);
+    }
+}
@@ -0,0 +1,66 @@
+package com.aiinterview.service;
+
+import com.aiinterview.dto.InterviewSessionResponse;
+import com.aiinterview.model.InterviewSession;
+import com.aiinterview.model.InterviewTurn;
+import com.aiinterview.model.SessionScorecard;
+import com.aiinterview.repository.InterviewSessionRepository;
+import com.aiinterview.support.Concurrently;
+import com.aiinterview.support.PostgresIntegrationTest;
+import com.aiinterview.support.TestData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Concurrent turn edits of one session must each land in the scorecard; none may overwrite another's sums.
+ */
+class TurnScorecardConcurrencyTest extends PostgresIntegrationTest {
+    
+    private static final int TURNS = 8;
+    
+    @Autowired
+    private InterviewTurnService turnService;
+    
+    @Autowired
+    private InterviewSessionRepository sessionRepository;
+    
+    @Autowired
+    private TestData testData;
+    
+    @Test
+    void concurrentTurnUpdatesKeepScorecardSums() throws Exception {
+        InterviewSessionResponse session = testData.session(testData.template(), testData.candidate());
+        List<Long> turnIds = new ArrayList<>();
+        for (int i = 0; i < TURNS; i++) {
+            InterviewTurn turn = turnService.createTurn(session.getId(), "Question " + i, "Answer " + i);
+            turnIds.add(turn.getId());
+        }
+        
+        List<Callable<Void>> updates = new ArrayList<>();
+        double expectedSum = 0;
+        for (int i = 0; i < TURNS; i++) {
+            Long turnId = turnIds.get(i);
+            double score = i + 1;
+            expectedSum += score;
+            updates.add(() -> {
+                testData.scoreTurn(session.getSessionId(), turnId, score);
+                return null;
+            });
+        }
+        Concurrently.run(updates);
+        
+        InterviewSession stored = sessionRepository.findBySessionId(session.getSessionId()).orElseThrow();
+        SessionScorecard scorecard = stored.getScorecard();
+        assertThat(scorecard.getTechnicalScoreCount()).isEqualTo(TURNS);
+        assertThat(scorecard.getTechnicalScoreSum()).isCloseTo(expectedSum, within(1e-9));
+        assertThat(scorecard.getTechnicalScoreAverage()).isCloseTo(expectedSum / TURNS, within(1e-9));
+        assertThat(stored.getTotalTurns()).isEqualTo(TURNS);
+    }
+}
@@ -0,0 +1,33 @@
+package com.aiinterview.support;
+
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Base of the tests that need a real PostgreSQL: row locks, ON CONFLICT upserts, partitioned tables and
+ * the Flyway migrations behave differently on an embedded database. Set TEST_DATABASE_URL (and
+ * TEST_DATABASE_USERNAME / TEST_DATABASE_PASSWORD) to a disposable database to run them; they are skipped
+ * otherwise. Redis is used when reachable, but every service falls back without it.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestData.class)
+@EnabledIfEnvironmentVariable(named = "TEST_DATABASE_URL", matches = ".+")
+public abstract class PostgresIntegrationTest {
+    
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("TEST_DATABASE_URL"));
+        registry.add("spring.datasource.username", () -> env("TEST_DATABASE_USERNAME", "postgres"));
+        registry.add("spring.datasource.password", () -> env("TEST_DATABASE_PASSWORD", "postgres"));
+    }
+    
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null && !value.isEmpty() ? value : defaultValue;
+    }
+}
@@ -0,0 +1,28 @@
+package com.aiinterview.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread, so background jobs running in the
+ * same context don't skew a test's count. Registered through
+ * {@code hibernate.session_factory.statement_inspector} in application-test.yml.
+ */
+public class StatementCounter implements StatementInspector {
+    
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+    
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+    
+    /**
+     * The number of statements {@code work} prepared on this thread.
+     */
+    public static int count(Runnable work) {
+        int before = COUNT.get()[0];
+        work.run();
+        return COUNT.get()[0] - before;
+    }
+}
@@ -0,0 +1,106 @@
+package com.aiinterview.support;
+
+import com.aiinterview.dto.CreateInterviewSessionRequest;
+import com.aiinterview.dto.InterviewSessionResponse;
+import com.aiinterview.dto.UpdateEvaluationRequest;
+import com.aiinterview.dto.UpdateTurnRequest;
+import com.aiinterview.model.Candidate;
+import com.aiinterview.model.InterviewSession;
+import com.aiinterview.model.InterviewTemplate;
+import com.aiinterview.model.InterviewTurn;
+import com.aiinterview.model.Job;
+import com.aiinterview.model.User;
+import com.aiinterview.repository.CandidateRepository;
+import com.aiinterview.repository.InterviewTemplateRepository;
+import com.aiinterview.repository.JobRepository;
+import com.aiinterview.repository.UserRepository;
+import com.aiinterview.service.InterviewSessionService;
+import com.aiinterview.service.InterviewTurnService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.util.UUID;
+
+/**
+ * Creates the rows a test needs, each with unique names so tests don't depend on an empty database.
+ * Sessions and turns go through the services, so counters, scorecards and rollups are maintained.
+ */
+@TestComponent
+@RequiredArgsConstructor
+public class TestData {
+    
+    private final UserRepository userRepository;
+    private final JobRepository jobRepository;
+    private final InterviewTemplateRepository templateRepository;
+    private final CandidateRepository candidateRepository;
+    private final InterviewSessionService sessionService;
+    private final InterviewTurnService turnService;
+    
+    public InterviewTemplate template() {
+        User recruiter = userRepository.save(User.builder()
+            .email(unique("recruiter") + "@example.com")
+            .password("not-used")
+            .firstName("Test")
+            .lastName("Recruiter")
+            .role(User.Role.RECRUITER)
+            .active(true)
+            .build());
+        Job job = jobRepository.save(Job.builder()
+            .title(unique("Job"))
+            .seniorityLevel(Job.SeniorityLevel.MID)
+            .createdBy(recruiter)
+            .active(true)
+            .build());
+        return templateRepository.save(InterviewTemplate.builder()
+            .name(unique("Template"))
+            .job(job)
+            .mode(InterviewTemplate.InterviewMode.TEXT)
+            .estimatedDurationMinutes(30)
+            .createdBy(recruiter)
+            .active(true)
+            .build());
+    }
+    
+    public Candidate candidate() {
+        return candidateRepository.save(Candidate.builder()
+            .email(unique("candidate") + "@example.com")
+            .firstName("Test")
+            .lastName("Candidate")
+            .build());
+    }
+    
+    public InterviewSessionResponse session(InterviewTemplate template, Candidate candidate) {
+        CreateInterviewSessionRequest request = new CreateInterviewSessionRequest();
+        request.setCandidateId(candidate.getId());
+        request.setTemplateId(template.getId());
+        InterviewSessionResponse session = sessionService.createSession(request);
+        return sessionService.updateSessionStatus(session.getSessionId(), InterviewSession.SessionStatus.IN_PROGRESS);
+    }
+    
+    /**
+     * A completed, evaluated session with {@code turns} turns scored {@code technicalScore}.
+     */
+    public InterviewSessionResponse completedSession(InterviewTemplate template, int turns, double technicalScore) {
+        InterviewSessionResponse session = session(template, candidate());
+        for (int i = 0; i < turns; i++) {
+            InterviewTurn turn = turnService.createTurn(session.getId(), "Question " + i, "Answer " + i);
+            scoreTurn(session.getSessionId(), turn.getId(), technicalScore);
+        }
+        sessionService.updateSessionStatus(session.getSessionId(), InterviewSession.SessionStatus.COMPLETED);
+        UpdateEvaluationRequest evaluation = new UpdateEvaluationRequest();
+        evaluation.setAiSummary("Summary");
+        evaluation.setRecommendation(technicalScore >= 5 ? InterviewSession.Recommendation.HIRE
+            : InterviewSession.Recommendation.REJECT);
+        return sessionService.updateEvaluation(session.getSessionId(), evaluation);
+    }
+    
+    public void scoreTurn(String sessionId, Long turnId, double technicalScore) {
+        UpdateTurnRequest request = new UpdateTurnRequest();
+        request.setTechnicalScore(technicalScore);
+        turnService.updateTurn(sessionId, turnId, request);
+    }
+    
+    private static String unique(String prefix) {
+        return prefix + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -61,7 +61,7 @@ const CandidateDetails = () => {
 
   const loadInterviews = async () => {
     try {
-      const response = await candidateApi.getCandidateInterviews(parseInt(id!))
+      const response = await candidateApi.getCandidateInterviews(parseInt(id!), 'detail')
       setInterviews(response.data || [])
     } catch (err) {
       console.error('Failed to load interviews')
@@ -190,11 +190,27 @@ const CandidateInterview = () => {
       saveDraft()
     }, 30000)
 
+    // Heartbeat every 20 seconds; the backend pauses the session when they stop
+    const sendHeartbeat = () => {
+      interviewApi.sendHeartbeat(sessionId)
+        .then((response) => {
+          if (response.data.resumed) {
+            showToast('Connection restored, interview resumed', 'info')
+          }
+        })
+        .catch((error) => {
+          console.error('Heartbeat failed:', error)
+        })
+    }
+    sendHeartbeat()
+    const heartbeatInterval = setInterval(sendHeartbeat, 20000)
+
     return () => {
       ws.disconnect()
       stopRecording()
       if (timerIntervalRef.current) clearInterval(timerIntervalRef.current)
       if (qualityInterval) clearInterval(qualityInterval)
+      clearInterval(heartbeatInterval)
       if (draftSaveIntervalRef.current) clearInterval(draftSaveIntervalRef.current)
       if (micTestStreamRef.current) {
         micTestStreamRef.current.getTracks().forEach(track => track.stop())
@@ -63,7 +63,12 @@ const RecruiterDashboard = () => {
   const handleViewSession = async (session: InterviewSession) => {
     setSelectedSession(session)
     try {
-      const response = await interviewApi.getTranscript(session.sessionId)
+      // List rows are summaries; load the full session for the AI summary and strengths
+      const [sessionResponse, response] = await Promise.all([
+        interviewApi.getSession(session.sessionId),
+        interviewApi.getTranscript(session.sessionId),
+      ])
+      setSelectedSession(sessionResponse.data)
       setTranscript(response.data)
     } catch (err) {
       console.error('Failed to load transcript')
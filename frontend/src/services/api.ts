@@ -55,6 +55,9 @@ export const interviewApi = {
   resumeSession: (sessionId: string) =>
     api.post(`/interviews/sessions/${sessionId}/resume`),
   
+  sendHeartbeat: (sessionId: string) =>
+    api.post(`/interviews/sessions/${sessionId}/heartbeat`),
+  
   getTurns: (sessionId: string) =>
     api.get(`/interviews/sessions/${sessionId}/turns`),
   
@@ -191,7 +194,8 @@ export const candidateApi = {
   bulkCreate: (data: any) => api.post('/recruiter/candidates/bulk', data),
   bulkDelete: (ids: number[]) => api.delete('/recruiter/candidates/bulk', { data: ids }),
   getStatistics: () => api.get('/recruiter/candidates/statistics'),
-  getCandidateInterviews: (id: number) => api.get(`/recruiter/candidates/${id}/interviews`),
+  getCandidateInterviews: (id: number, view?: 'summary' | 'detail') =>
+    api.get(`/recruiter/candidates/${id}/interviews`, { params: view ? { view } : undefined }),
 }
 
 export const analyticsApi = {